@@ -67,6 +67,7 @@ import com.google.android.material.shape.MaterialShapeDrawable;
 import com.google.android.material.snackbar.Snackbar;
 import com.pranavpandey.android.dynamic.preferences.DynamicPreferences;
 import com.pranavpandey.android.dynamic.support.activity.DynamicActivity;
+import com.pranavpandey.android.dynamic.support.graphics.DynamicColorCache;
 import com.pranavpandey.android.dynamic.support.listener.DynamicSearchListener;
 import com.pranavpandey.android.dynamic.support.listener.DynamicSnackbar;
 import com.pranavpandey.android.dynamic.support.model.DynamicItem;
@@ -139,6 +140,12 @@ import java.lang.annotation.RetentionPolicy;
  */
 public class Dynamic {
 
+    /**
+     * Cache to memoise the contrast and tint color calculations.
+     */
+    private static final DynamicColorCache COLOR_CACHE =
+            new DynamicColorCache(DynamicColorCache.ADS_DEFAULT_CAPACITY);
+
     /**
      * Interface to hold the vibration values.
      */
@@ -787,6 +794,48 @@ public class Dynamic {
                 != Theme.BackgroundAware.DISABLE;
     }
 
+    /**
+     * Checks whether a surface widget has the same background as the color it contrasts
+     * with, so that its elevation should be disabled.
+     *
+     * @param colorType The color type applied to the widget.
+     * @param color The color applied to the widget.
+     * @param contrastWithColor The contrast with color applied to the widget.
+     *
+     * @return {@code true} if the widget has the same background as the color it
+     *         contrasts with.
+     *
+     * @see DynamicSurfaceWidget#isBackgroundSurface()
+     */
+    public static boolean isBackgroundSurface(@Theme.ColorType int colorType,
+            @ColorInt int color, @ColorInt int contrastWithColor) {
+        return !DynamicTheme.getInstance().get().isElevation()
+                || (colorType != Theme.ColorType.BACKGROUND
+                && color != Theme.Color.UNKNOWN
+                && DynamicColorUtils.removeAlpha(color)
+                == DynamicColorUtils.removeAlpha(contrastWithColor));
+    }
+
+    /**
+     * Checks whether a surface widget requires a stroke to be distinguished from
+     * its background.
+     *
+     * @param forceElevation {@code true} if the elevation is forced for the widget.
+     * @param backgroundSurface {@code true} if the widget has the same background as the
+     *                          color it contrasts with.
+     * @param color The color applied to the widget.
+     *
+     * @return {@code true} if the widget requires a stroke.
+     *
+     * @see DynamicSurfaceWidget#isStrokeRequired()
+     * @see #isBackgroundSurface(int, int, int)
+     */
+    public static boolean isStrokeRequired(boolean forceElevation,
+            boolean backgroundSurface, @ColorInt int color) {
+        return DynamicSdkUtils.is16() && !forceElevation && backgroundSurface
+                && Color.alpha(color) < Theme.Opacity.STROKE;
+    }
+
     /**
      * Checks whether the background aware functionality is enabled for the supplied
      * dynamic object.
@@ -932,7 +981,7 @@ public class Dynamic {
      */
     public static @ColorInt int withContrastRatio(@ColorInt int color,
             @ColorInt int contrastWith, float visibleContrast) {
-        return DynamicColorUtils.getContrastColor(color, contrastWith, visibleContrast);
+        return COLOR_CACHE.getContrastColor(color, contrastWith, visibleContrast);
     }
 
     /**
@@ -1013,7 +1062,20 @@ public class Dynamic {
      * @see DynamicColorUtils#getTintColor(int, float)
      */
     public static @ColorInt int getTintColor(@ColorInt int color, float visibleContrast) {
-        return DynamicColorUtils.getTintColor(color, visibleContrast);
+        return COLOR_CACHE.getTintColor(color, visibleContrast);
+    }
+
+    /**
+     * Returns the cache used to memoise the contrast and tint color calculations.
+     * <p>It can be used to get the hit and miss counters to tune the cache size.
+     *
+     * @return The cache used to memoise the contrast and tint color calculations.
+     *
+     * @see #withContrastRatio(int, int, float)
+     * @see #getTintColor(int, float)
+     */
+    public static @NonNull DynamicColorCache getColorCache() {
+        return COLOR_CACHE;
     }
 
     /**
@@ -68,7 +68,9 @@ import com.pranavpandey.android.dynamic.support.intent.DynamicIntent;
 import com.pranavpandey.android.dynamic.support.listener.DynamicListener;
 import com.pranavpandey.android.dynamic.support.listener.DynamicTransitionListener;
 import com.pranavpandey.android.dynamic.support.motion.DynamicMotion;
+import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.theme.DynamicWidgetRegistry;
 import com.pranavpandey.android.dynamic.support.theme.dialog.DynamicThemeDialog;
 import com.pranavpandey.android.dynamic.support.theme.inflater.DynamicLayoutInflater;
 import com.pranavpandey.android.dynamic.support.theme.listener.ThemeListener;
@@ -215,6 +217,18 @@ public abstract class DynamicSystemActivity extends AppCompatActivity
      */
     protected boolean mNavigationBarTheme;
 
+    /**
+     * Style resource passed to the local theme while creating this activity.
+     */
+    private @StyleRes int mThemeRes;
+
+    /**
+     * Theme state applied to the dynamic widgets of this activity.
+     *
+     * @see DynamicWidgetRegistry#getThemeState(DynamicAppTheme)
+     */
+    private int[] mThemeState;
+
     /**
      * Hash map to store the shared elements map.
      */
@@ -282,6 +296,8 @@ public abstract class DynamicSystemActivity extends AppCompatActivity
         onConfigureOnBackPressedDispatcher();
         updateThemeFromIntent(getIntent());
         setDynamicTheme();
+        mThemeRes = getAppThemeRes();
+        mThemeState = DynamicWidgetRegistry.getThemeState(DynamicTheme.getInstance().get());
         onSetSharedElementTransition();
         super.onCreate(savedInstanceState);
 
@@ -971,6 +987,37 @@ public abstract class DynamicSystemActivity extends AppCompatActivity
         return getResources().getBoolean(R.bool.ads_navigation_bar_theme_landscape);
     }
 
+    /**
+     * Returns the style resource passed to the local theme for this activity.
+     *
+     * @return The style resource passed to the local theme for this activity.
+     *
+     * @see #setDynamicTheme()
+     */
+    protected @StyleRes int getAppThemeRes() {
+        return getThemeRes();
+    }
+
+    /**
+     * Checks whether to apply the theme changes without recreating this activity.
+     * <p>It will still be recreated if the style resource, locale or navigation bar theme
+     * has been changed.
+     *
+     * <p>It is disabled by default as only the system bars and the dynamic widgets of this
+     * activity, its dialogs and popups will be updated. The plain views, views styled by the
+     * theme attributes, adapters tinting their items while binding and the fragments in the
+     * back stack will keep the previous colors, so enable it only if they can be updated in
+     * {@link #onAppThemeUpdate()}. It can be enabled for all the activities by overriding the
+     * {@code ads_app_theme_live} boolean resource.
+     *
+     * @return {@code true} to apply the theme changes without recreating this activity.
+     *
+     * @see #onAppThemeUpdate()
+     */
+    protected boolean isAppThemeLive() {
+        return getResources().getBoolean(R.bool.ads_app_theme_live);
+    }
+
     /**
      * This method will be called after the theme has been changed.
      * <p>Override this method to perform operations after the theme has been changed like
@@ -982,6 +1029,35 @@ public abstract class DynamicSystemActivity extends AppCompatActivity
         ActivityCompat.recreate(this);
     }
 
+    /**
+     * This method will be called after the theme colors have been changed without changing
+     * the style resource.
+     * <p>It will apply the new colors to the windows, system bars and dynamic widgets of this
+     * activity including its dialogs and popups without recreating it. Override this method to update the custom views.
+     *
+     * <p>Only the dynamic widgets depending on the changed colors will be initialized again,
+     * unless any other attribute of the theme has been changed.
+     *
+     * @see #isAppThemeLive()
+     */
+    protected void onAppThemeUpdate() {
+        setDynamicTheme();
+        setStatusBarColor(DynamicTheme.getInstance().get().getPrimaryColorDark());
+        setNavigationBarColor(DynamicTheme.getInstance().get().getPrimaryColorDark());
+        updateTaskDescription(DynamicTheme.getInstance().get().getPrimaryColor());
+
+        int[] themeState = DynamicWidgetRegistry.getThemeState(DynamicTheme.getInstance().get());
+        int[] colorTypes = DynamicWidgetRegistry.getChangedColorTypes(mThemeState, themeState);
+        mThemeState = themeState;
+
+        if (colorTypes != null) {
+            DynamicWidgetRegistry.getInstance().initialize(this, colorTypes);
+        } else {
+            DynamicWidgetRegistry.getInstance().initialize(this);
+        }
+        onAdjustElevation();
+    }
+
     /**
      * This method will be called after the navigation bar theme has been changed.
      * <p>Override this method to perform operations after the navigation bar theme has been
@@ -1720,7 +1796,12 @@ public abstract class DynamicSystemActivity extends AppCompatActivity
         }
 
         if (recreate) {
-            onAppThemeChange();
+            if (!context && isAppThemeLive() && mThemeRes == getAppThemeRes()
+                    && setNavigationBarTheme() == isNavigationBarTheme()) {
+                onAppThemeUpdate();
+            } else {
+                onAppThemeChange();
+            }
         }
     }
 
@@ -30,6 +30,7 @@ import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.listener.DynamicColorListener;
 import com.pranavpandey.android.dynamic.support.picker.color.DynamicColorShape;
 import com.pranavpandey.android.dynamic.support.picker.color.view.DynamicColorView;
+import com.pranavpandey.android.dynamic.support.util.DynamicPickerUtils;
 import com.pranavpandey.android.dynamic.theme.Theme;
 
 /**
@@ -45,7 +46,7 @@ public class DynamicColorsAdapter extends BaseAdapter {
     /**
      * Array of colors to be handled by this adapter.
      */
-    private Integer[] mData;
+    private int[] mData;
 
     /**
      * The selected color.
@@ -112,6 +113,53 @@ public class DynamicColorsAdapter extends BaseAdapter {
     public DynamicColorsAdapter(@NonNull Integer[] colors, @ColorInt int selectedColor,
             @DynamicColorShape int colorShape, boolean alpha, @ColorInt int contrastWithColor,
             @NonNull DynamicColorListener dynamicColorListener) {
+        this(DynamicPickerUtils.toPrimitive(colors), selectedColor, colorShape,
+                alpha, contrastWithColor, dynamicColorListener);
+    }
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param colors The array of colors to be handled by this adapter.
+     * @param colorShape The shape of the color swatches.
+     * @param alpha {@code true} to enable alpha for the color.
+     * @param dynamicColorListener The listener to get the callback when a color is selected.
+     */
+    public DynamicColorsAdapter(@NonNull int[] colors, @DynamicColorShape int colorShape,
+            boolean alpha, @NonNull DynamicColorListener dynamicColorListener) {
+        this(colors, Theme.Color.UNKNOWN, colorShape, alpha,
+                Theme.Color.UNKNOWN, dynamicColorListener);
+    }
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param colors The array of colors to be handled by this adapter.
+     * @param colorShape The shape of the color swatches.
+     * @param alpha {@code true} to enable alpha for the color.
+     * @param contrastWithColor The contrast with color for the swatches.
+     * @param dynamicColorListener The listener to get the callback when a color is selected.
+     */
+    public DynamicColorsAdapter(@NonNull int[] colors,
+            @DynamicColorShape int colorShape, boolean alpha, @ColorInt int contrastWithColor,
+            @NonNull DynamicColorListener dynamicColorListener) {
+        this(colors, Theme.Color.UNKNOWN, colorShape, alpha,
+                contrastWithColor, dynamicColorListener);
+    }
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param colors The array of colors to be handled by this adapter.
+     * @param selectedColor The selected color.
+     * @param colorShape The shape of the color swatches.
+     * @param alpha {@code true} to enable alpha for the color.
+     * @param contrastWithColor The contrast with color for the swatches.
+     * @param dynamicColorListener The listener to get the callback when a color is selected.
+     */
+    public DynamicColorsAdapter(@NonNull int[] colors, @ColorInt int selectedColor,
+            @DynamicColorShape int colorShape, boolean alpha, @ColorInt int contrastWithColor,
+            @NonNull DynamicColorListener dynamicColorListener) {
         this.mData = colors;
         this.mSelectedColor = selectedColor;
         this.mColorShape = colorShape;
@@ -124,17 +172,31 @@ public class DynamicColorsAdapter extends BaseAdapter {
 	public View getView(final int position,
             @Nullable View convertView, @NonNull ViewGroup parent) {
 		final ViewHolder holder;
-        final int color = (int) getItem(position);
+        final int color = getColor(position);
 
         if (convertView == null) {
         	convertView = LayoutInflater.from(parent.getContext()).inflate(
         	        R.layout.ads_layout_color_view, parent, false);
         	holder = new ViewHolder(convertView);
         	convertView.setTag(holder);
+
+            Dynamic.setOnClickListener(holder.getDynamicColorView(), new View.OnClickListener() {
+                @Override
+                public void onClick(View view) {
+                    if (mDynamicColorListener != null) {
+                        mDynamicColorListener.onColorSelected(null, holder.getPosition(),
+                                holder.getDynamicColorView().getColor());
+                        mSelectedColor = holder.getDynamicColorView().getColor();
+
+                        notifyDataSetChanged();
+                    }
+                }
+            });
         } else {
         	holder = (ViewHolder) convertView.getTag();
         }
 
+        holder.setPosition(position);
         holder.getDynamicColorView().setColor(color);
         holder.getDynamicColorView().setColorShape(mColorShape);
         holder.getDynamicColorView().setAlpha(mAlpha);
@@ -145,19 +207,6 @@ public class DynamicColorsAdapter extends BaseAdapter {
             Dynamic.setContrastWithColor(holder.getDynamicColorView(), mContrastWithColor);
         }
 
-        Dynamic.setOnClickListener(holder.getDynamicColorView(), new View.OnClickListener() {
-            @Override
-            public void onClick(View view) {
-                if (mDynamicColorListener != null) {
-                    mDynamicColorListener.onColorSelected(null, position,
-                            holder.getDynamicColorView().getColor());
-                    mSelectedColor = holder.getDynamicColorView().getColor();
-
-                    notifyDataSetChanged();
-                }
-            }
-        });
-
         holder.getDynamicColorView().setTooltip();
         return convertView;
     }
@@ -172,6 +221,17 @@ public class DynamicColorsAdapter extends BaseAdapter {
         return mData[position];
     }
 
+    /**
+     * Returns the color at the supplied position without boxing it.
+     *
+     * @param position The position of the color.
+     *
+     * @return The color at the supplied position.
+     */
+    public @ColorInt int getColor(int position) {
+        return mData[position];
+    }
+
     @Override
     public long getItemId(int position) {
         return position;
@@ -179,11 +239,12 @@ public class DynamicColorsAdapter extends BaseAdapter {
 
     /**
      * Get the data handled by this adapter.
+     * <p>It returns a boxed copy, use {@link #getColors()} to access the data directly.
      *
      * @return The array of colors to be handled by this adapter.
      */
     public @NonNull Integer[] getData() {
-        return mData;
+        return DynamicPickerUtils.toBoxed(mData);
     }
 
     /**
@@ -192,6 +253,24 @@ public class DynamicColorsAdapter extends BaseAdapter {
      * @param data The array of colors to be set.
      */
     public void setData(@NonNull Integer[] data) {
+        setData(DynamicPickerUtils.toPrimitive(data));
+    }
+
+    /**
+     * Get the primitive data handled by this adapter.
+     *
+     * @return The array of colors to be handled by this adapter.
+     */
+    public @NonNull int[] getColors() {
+        return mData;
+    }
+
+    /**
+     * Sets array of colors to be handled by this adapter.
+     *
+     * @param data The array of colors to be set.
+     */
+    public void setData(@NonNull int[] data) {
         this.mData = data;
 
         notifyDataSetChanged();
@@ -308,6 +387,11 @@ public class DynamicColorsAdapter extends BaseAdapter {
          */
         private final DynamicColorView dynamicColorView;
 
+        /**
+         * Adapter position currently displayed by this view holder.
+         */
+        private int position;
+
         /**
          * Constructor to initialize views from the supplied layout.
          *
@@ -325,6 +409,24 @@ public class DynamicColorsAdapter extends BaseAdapter {
         @NonNull DynamicColorView getDynamicColorView() {
             return dynamicColorView;
         }
+
+        /**
+         * Get the adapter position currently displayed by this view holder.
+         *
+         * @return The adapter position currently displayed by this view holder.
+         */
+        int getPosition() {
+            return position;
+        }
+
+        /**
+         * Set the adapter position currently displayed by this view holder.
+         *
+         * @param position The adapter position to be set.
+         */
+        void setPosition(int position) {
+            this.position = position;
+        }
     }
 }
 
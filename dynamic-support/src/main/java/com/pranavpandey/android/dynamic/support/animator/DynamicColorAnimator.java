@@ -17,8 +17,10 @@
 package com.pranavpandey.android.dynamic.support.animator;
 
 import android.animation.Animator;
-import android.animation.ArgbEvaluator;
 import android.animation.ValueAnimator;
+import android.graphics.Color;
+import android.view.View;
+import android.view.ViewTreeObserver;
 
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
@@ -31,6 +33,10 @@ import com.pranavpandey.android.dynamic.util.concurrent.DynamicTask;
 
 /**
  * A {@link DynamicTask} to animate color and its tint at regular interval.
+ * <p>It interpolates the colors without any allocation on each frame and can be paused
+ * automatically while the host view is detached or its window does not have focus.
+ *
+ * @see #setHost(View)
  */
 public class DynamicColorAnimator extends DynamicTask<Void, int[], Void> {
 
@@ -80,9 +86,26 @@ public class DynamicColorAnimator extends DynamicTask<Void, int[], Void> {
     private ValueAnimator mValueAnimator;
 
     /**
-     * Argb evaluator to animate color values.
+     * Colors published on each frame.
+     * <p>It will be reused for every frame to avoid allocations.
+     */
+    private final int[] mColors = new int[2];
+
+    /**
+     * Progress holder published on each frame.
+     */
+    private final DynamicResult.Progress<int[]> mProgress =
+            new DynamicResult.Progress<>(mColors);
+
+    /**
+     * Host view to pause the animation while it is detached or its window does not have focus.
+     */
+    private View mHost;
+
+    /**
+     * {@code true} if the animation is paused by the host view.
      */
-    private final ArgbEvaluator mArgbEvaluator = new ArgbEvaluator();
+    private boolean mPaused;
 
     /**
      * Constructor to initialize an object of this class.
@@ -149,7 +172,160 @@ public class DynamicColorAnimator extends DynamicTask<Void, int[], Void> {
             mValueAnimator.addUpdateListener(mAnimationUpdateListener);
             mValueAnimator.addListener(mAnimationListener);
             mValueAnimator.start();
+
+            updatePaused();
+        }
+    }
+
+    /**
+     * Pause the value animator, it will stop ticking until it is resumed.
+     *
+     * @see #resume()
+     */
+    public void pause() {
+        if (mValueAnimator != null && mValueAnimator.isStarted()) {
+            mValueAnimator.pause();
+        }
+    }
+
+    /**
+     * Resume the value animator if it has been paused.
+     *
+     * @see #pause()
+     */
+    public void resume() {
+        if (mValueAnimator != null && mValueAnimator.isPaused()) {
+            mValueAnimator.resume();
+        }
+    }
+
+    /**
+     * Returns the host view to pause the animation.
+     *
+     * @return The host view to pause the animation.
+     */
+    public @Nullable View getHost() {
+        return mHost;
+    }
+
+    /**
+     * Set the host view to pause the animation while it is detached or its window does not
+     * have focus.
+     *
+     * @param host The host view to be set.
+     */
+    public void setHost(@Nullable View host) {
+        if (mHost == host) {
+            return;
+        }
+
+        ViewTreeObserver observer;
+        if (mHost != null) {
+            mHost.removeOnAttachStateChangeListener(mAttachStateChangeListener);
+
+            if ((observer = mHost.getViewTreeObserver()).isAlive()) {
+                observer.removeOnWindowFocusChangeListener(mWindowFocusChangeListener);
+            }
+        }
+
+        this.mHost = host;
+
+        if (mHost != null) {
+            mHost.addOnAttachStateChangeListener(mAttachStateChangeListener);
+
+            if ((observer = mHost.getViewTreeObserver()).isAlive()) {
+                observer.addOnWindowFocusChangeListener(mWindowFocusChangeListener);
+            }
         }
+
+        updatePaused();
+    }
+
+    /**
+     * Pause or resume the animation according to the state of the host view.
+     */
+    private void updatePaused() {
+        boolean paused = mHost != null && (!mHost.isAttachedToWindow()
+                || !mHost.hasWindowFocus());
+
+        if (paused) {
+            pause();
+        } else if (mPaused) {
+            resume();
+        }
+
+        mPaused = paused;
+    }
+
+    /**
+     * Interpolate between the supplied colors without any allocation.
+     * <p>It interpolates the color components in the linear color space similar to the
+     * {@link android.animation.ArgbEvaluator}.
+     *
+     * @param fraction The fraction from the starting to the ending color.
+     * @param startColor The starting color.
+     * @param endColor The ending color.
+     *
+     * @return The interpolated color.
+     */
+    public static @ColorInt int evaluate(float fraction,
+            @ColorInt int startColor, @ColorInt int endColor) {
+        if (startColor == endColor) {
+            return startColor;
+        }
+
+        float startA = Color.alpha(startColor) / 255f;
+        float startR = toLinear(Color.red(startColor) / 255f);
+        float startG = toLinear(Color.green(startColor) / 255f);
+        float startB = toLinear(Color.blue(startColor) / 255f);
+
+        float endA = Color.alpha(endColor) / 255f;
+        float endR = toLinear(Color.red(endColor) / 255f);
+        float endG = toLinear(Color.green(endColor) / 255f);
+        float endB = toLinear(Color.blue(endColor) / 255f);
+
+        float a = startA + fraction * (endA - startA);
+        float r = toSRGB(startR + fraction * (endR - startR));
+        float g = toSRGB(startG + fraction * (endG - startG));
+        float b = toSRGB(startB + fraction * (endB - startB));
+
+        return Math.round(a * 255f) << 24 | Math.round(r * 255f) << 16
+                | Math.round(g * 255f) << 8 | Math.round(b * 255f);
+    }
+
+    /**
+     * Converts the supplied sRGB color component into the linear color space.
+     *
+     * @param component The sRGB color component to be converted.
+     *
+     * @return The linear color component.
+     */
+    private static float toLinear(float component) {
+        return (float) Math.pow(component, 2.2);
+    }
+
+    /**
+     * Converts the supplied linear color component into the sRGB color space.
+     *
+     * @param component The linear color component to be converted.
+     *
+     * @return The sRGB color component.
+     */
+    private static float toSRGB(float component) {
+        return (float) Math.pow(component, 1.0 / 2.2);
+    }
+
+    /**
+     * Publish the supplied colors by using the reusable progress holder.
+     *
+     * @param color The color to be published.
+     * @param tint The tint color to be published.
+     */
+    private void publishColors(@ColorInt int color, @ColorInt int tint) {
+        mColors[0] = color;
+        mColors[1] = tint;
+
+        publishProgress(mProgress);
     }
 
     /**
@@ -162,7 +338,7 @@ public class DynamicColorAnimator extends DynamicTask<Void, int[], Void> {
             mValueAnimator.cancel();
         }
 
-        publishProgress(new DynamicResult.Progress<>(new int[] { mColorRaw, mTintRaw }));
+        publishColors(mColorRaw, mTintRaw);
     }
 
     @Override
@@ -190,6 +366,7 @@ public class DynamicColorAnimator extends DynamicTask<Void, int[], Void> {
         super.onCancelled();
 
         stop();
+        setHost(null);
     }
 
     /**
@@ -200,16 +377,41 @@ public class DynamicColorAnimator extends DynamicTask<Void, int[], Void> {
         @Override
         public void onAnimationUpdate(@NonNull ValueAnimator valueAnimator) {
             if (!isCancelled()) {
-                publishProgress(new DynamicResult.Progress<>(new int[] {
-                        (Integer) mArgbEvaluator.evaluate(
-                                (float) valueAnimator.getAnimatedValue(), mColorTemp, mColor),
-                        (Integer) mArgbEvaluator.evaluate(
-                                (float) valueAnimator.getAnimatedValue(), mTintTemp, mTint)
-                }));
+                float fraction = valueAnimator.getAnimatedFraction();
+
+                publishColors(evaluate(fraction, mColorTemp, mColor),
+                        evaluate(fraction, mTintTemp, mTint));
             }
         }
     };
 
+    /**
+     * Listener to pause the animation while the host view is detached.
+     */
+    private final View.OnAttachStateChangeListener mAttachStateChangeListener =
+            new View.OnAttachStateChangeListener() {
+        @Override
+        public void onViewAttachedToWindow(@NonNull View view) {
+            updatePaused();
+        }
+
+        @Override
+        public void onViewDetachedFromWindow(@NonNull View view) {
+            updatePaused();
+        }
+    };
+
+    /**
+     * Listener to pause the animation while the window of the host view does not have focus.
+     */
+    private final ViewTreeObserver.OnWindowFocusChangeListener mWindowFocusChangeListener =
+            new ViewTreeObserver.OnWindowFocusChangeListener() {
+        @Override
+        public void onWindowFocusChanged(boolean hasFocus) {
+            updatePaused();
+        }
+    };
+
     /**
      * The animation listener to update colors at particular intervals.
      */
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.graphics;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.drawable.Drawable;
+import android.util.LruCache;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.support.util.DynamicResourceUtils;
+
+/**
+ * A bounded cache to share the bitmaps rendered from the drawable resources according to
+ * their size.
+ * <p>It is useful for the views displaying the same icon many times like the color picker,
+ * so that each view does not have to decode and resize its own bitmap.
+ *
+ * <p>The shared bitmaps must be tinted while drawing and should never be modified or
+ * recycled by the views.
+ */
+public class DynamicBitmapCache {
+
+    /**
+     * Default size for the cache in bytes.
+     */
+    public static final int ADS_DEFAULT_SIZE = 1024 * 1024;
+
+    /**
+     * Singleton instance of {@link DynamicBitmapCache}.
+     */
+    private static DynamicBitmapCache sInstance;
+
+    /**
+     * Cache to store the bitmaps according to the drawable resource and size.
+     */
+    private final LruCache<Long, Bitmap> mBitmaps;
+
+    /**
+     * Number of bitmaps returned from the cache.
+     */
+    private long mHitCount;
+
+    /**
+     * Number of bitmaps rendered and stored in the cache.
+     */
+    private long mMissCount;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param maxSize The maximum size for the cache in bytes.
+     */
+    public DynamicBitmapCache(int maxSize) {
+        this.mBitmaps = new LruCache<Long, Bitmap>(maxSize) {
+            @Override
+            protected int sizeOf(Long key, Bitmap value) {
+                return value.getByteCount();
+            }
+        };
+    }
+
+    /**
+     * Get instance to access public methods. Must be called before accessing the methods.
+     *
+     * @return The singleton instance of this class.
+     */
+    public static synchronized @NonNull DynamicBitmapCache getInstance() {
+        if (sInstance == null) {
+            sInstance = new DynamicBitmapCache(ADS_DEFAULT_SIZE);
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Returns the shared bitmap for the supplied drawable resource and size.
+     *
+     * @param context The context to get the drawable.
+     * @param drawableRes The drawable resource to be rendered.
+     * @param size The width and height of the bitmap in pixels.
+     *
+     * @return The shared bitmap for the supplied drawable resource and size.
+     */
+    public synchronized @Nullable Bitmap getBitmap(@NonNull Context context,
+            @DrawableRes int drawableRes, int size) {
+        if (size <= 0) {
+            return null;
+        }
+
+        Long key = ((long) drawableRes << 32) | size;
+        Bitmap bitmap = mBitmaps.get(key);
+        if (bitmap != null && !bitmap.isRecycled()) {
+            mHitCount++;
+            return bitmap;
+        }
+
+        Drawable drawable = DynamicResourceUtils.getDrawable(context, drawableRes);
+        if (drawable == null) {
+            return null;
+        }
+
+        mMissCount++;
+        bitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+        drawable.setBounds(0, 0, size, size);
+        drawable.draw(new Canvas(bitmap));
+        mBitmaps.put(key, bitmap);
+
+        return bitmap;
+    }
+
+    /**
+     * Clear all the bitmaps and reset the counters.
+     * <p>The bitmaps will not be recycled as they might still be drawn by the views.
+     */
+    public synchronized void clear() {
+        mBitmaps.evictAll();
+
+        mHitCount = 0;
+        mMissCount = 0;
+    }
+
+    /**
+     * Returns the number of bitmaps returned from the cache.
+     *
+     * @return The number of bitmaps returned from the cache.
+     */
+    public synchronized long getHitCount() {
+        return mHitCount;
+    }
+
+    /**
+     * Returns the number of bitmaps rendered and stored in the cache.
+     *
+     * @return The number of bitmaps rendered and stored in the cache.
+     */
+    public synchronized long getMissCount() {
+        return mMissCount;
+    }
+}
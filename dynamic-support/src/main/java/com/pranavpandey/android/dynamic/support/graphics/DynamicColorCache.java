@@ -0,0 +1,271 @@
+/*
+ * Copyright 2018-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.graphics;
+
+import androidx.annotation.ColorInt;
+
+import com.pranavpandey.android.dynamic.util.DynamicColorUtils;
+
+/**
+ * A bounded, allocation-free cache to memoise the contrast and tint color calculations.
+ * <p>It uses an open-addressed table with primitive keys and values, so it does not box
+ * the colors. The table will be cleared once it is full according to the load factor.
+ *
+ * @see DynamicColorUtils#getContrastColor(int, int, float)
+ * @see DynamicColorUtils#getTintColor(int, float)
+ */
+public class DynamicColorCache {
+
+    /**
+     * Default capacity for the cache.
+     */
+    public static final int ADS_DEFAULT_CAPACITY = 256;
+
+    /**
+     * Constant for the empty slot.
+     */
+    private static final byte TYPE_EMPTY = 0;
+
+    /**
+     * Constant for the contrast color slot.
+     */
+    private static final byte TYPE_CONTRAST = 1;
+
+    /**
+     * Constant for the tint color slot.
+     */
+    private static final byte TYPE_TINT = 2;
+
+    /**
+     * Type of the entry stored at the slot.
+     */
+    private final byte[] mTypes;
+
+    /**
+     * Color and the contrast with color stored at the slot.
+     */
+    private final long[] mColors;
+
+    /**
+     * Visible contrast ratio bits stored at the slot.
+     */
+    private final int[] mRatios;
+
+    /**
+     * Calculated color stored at the slot.
+     */
+    private final int[] mValues;
+
+    /**
+     * Mask to get the slot from the hash.
+     */
+    private final int mMask;
+
+    /**
+     * Maximum number of entries before clearing the cache.
+     */
+    private final int mThreshold;
+
+    /**
+     * Number of entries in the cache.
+     */
+    private int mSize;
+
+    /**
+     * Number of calculations returned from the cache.
+     */
+    private long mHitCount;
+
+    /**
+     * Number of calculations performed and stored in the cache.
+     */
+    private long mMissCount;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param capacity The capacity for the cache.
+     *                 <p>It will be rounded up to the next power of two.
+     */
+    public DynamicColorCache(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+
+        this.mTypes = new byte[size];
+        this.mColors = new long[size];
+        this.mRatios = new int[size];
+        this.mValues = new int[size];
+        this.mMask = size - 1;
+        this.mThreshold = (size * 3) / 4;
+    }
+
+    /**
+     * Returns the contrast color according to the supplied visible contrast.
+     *
+     * @param color The color to be used.
+     * @param contrastWith The contrast with color to be used.
+     * @param visibleContrast The minimum ratio for the visible contrast.
+     *
+     * @return The contrast color according to the supplied visible contrast.
+     *
+     * @see DynamicColorUtils#getContrastColor(int, int, float)
+     */
+    public synchronized @ColorInt int getContrastColor(@ColorInt int color,
+            @ColorInt int contrastWith, float visibleContrast) {
+        long colors = ((long) color << 32) | (contrastWith & 0xFFFFFFFFL);
+        int ratio = Float.floatToIntBits(visibleContrast);
+        int slot = find(TYPE_CONTRAST, colors, ratio);
+
+        if (mTypes[slot] != TYPE_EMPTY) {
+            mHitCount++;
+            return mValues[slot];
+        }
+
+        return put(slot, TYPE_CONTRAST, colors, ratio,
+                DynamicColorUtils.getContrastColor(color, contrastWith, visibleContrast));
+    }
+
+    /**
+     * Returns the tint color according to the supplied visible contrast.
+     *
+     * @param color The color to be used.
+     * @param visibleContrast The minimum ratio for the visible contrast.
+     *
+     * @return The tint color according to the supplied visible contrast.
+     *
+     * @see DynamicColorUtils#getTintColor(int, float)
+     */
+    public synchronized @ColorInt int getTintColor(@ColorInt int color, float visibleContrast) {
+        long colors = color & 0xFFFFFFFFL;
+        int ratio = Float.floatToIntBits(visibleContrast);
+        int slot = find(TYPE_TINT, colors, ratio);
+
+        if (mTypes[slot] != TYPE_EMPTY) {
+            mHitCount++;
+            return mValues[slot];
+        }
+
+        return put(slot, TYPE_TINT, colors, ratio,
+                DynamicColorUtils.getTintColor(color, visibleContrast));
+    }
+
+    /**
+     * Find the slot for the supplied key.
+     *
+     * @param type The type of the entry.
+     * @param colors The colors for the entry.
+     * @param ratio The visible contrast ratio bits for the entry.
+     *
+     * @return The slot containing the supplied key, otherwise the empty slot to store it.
+     */
+    private int find(byte type, long colors, int ratio) {
+        int hash = (int) (colors ^ (colors >>> 32)) * 31 + ratio;
+        hash = (hash * 31 + type) * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mMask;
+
+        while (mTypes[slot] != TYPE_EMPTY && (mTypes[slot] != type
+                || mColors[slot] != colors || mRatios[slot] != ratio)) {
+            slot = (slot + 1) & mMask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Store the calculated color at the supplied slot.
+     *
+     * @param slot The empty slot to store the entry.
+     * @param type The type of the entry.
+     * @param colors The colors for the entry.
+     * @param ratio The visible contrast ratio bits for the entry.
+     * @param value The calculated color to be stored.
+     *
+     * @return The calculated color.
+     */
+    private @ColorInt int put(int slot, byte type, long colors, int ratio, @ColorInt int value) {
+        mMissCount++;
+
+        if (mSize >= mThreshold) {
+            clearEntries();
+            slot = find(type, colors, ratio);
+        }
+
+        mTypes[slot] = type;
+        mColors[slot] = colors;
+        mRatios[slot] = ratio;
+        mValues[slot] = value;
+        mSize++;
+
+        return value;
+    }
+
+    /**
+     * Clear all the entries without resetting the counters.
+     */
+    private void clearEntries() {
+        for (int i = 0; i < mTypes.length; i++) {
+            mTypes[i] = TYPE_EMPTY;
+        }
+
+        mSize = 0;
+    }
+
+    /**
+     * Clear all the entries and reset the counters.
+     */
+    public synchronized void clear() {
+        clearEntries();
+
+        mHitCount = 0;
+        mMissCount = 0;
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return The number of entries in the cache.
+     */
+    public synchronized int getSize() {
+        return mSize;
+    }
+
+    /**
+     * Returns the capacity of the cache.
+     *
+     * @return The capacity of the cache.
+     */
+    public int getCapacity() {
+        return mTypes.length;
+    }
+
+    /**
+     * Returns the number of calculations returned from the cache.
+     *
+     * @return The number of calculations returned from the cache.
+     */
+    public synchronized long getHitCount() {
+        return mHitCount;
+    }
+
+    /**
+     * Returns the number of calculations performed and stored in the cache.
+     *
+     * @return The number of calculations performed and stored in the cache.
+     */
+    public synchronized long getMissCount() {
+        return mMissCount;
+    }
+}
@@ -25,22 +25,23 @@ import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 import androidx.annotation.StyleRes;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.pranavpandey.android.dynamic.support.Dynamic;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.util.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.theme.AppTheme;
 import com.pranavpandey.android.dynamic.theme.DynamicColors;
 import com.pranavpandey.android.dynamic.theme.Theme;
-import com.pranavpandey.android.dynamic.theme.adapter.DynamicThemeTypeAdapter;
 import com.pranavpandey.android.dynamic.theme.annotation.Exclude;
-import com.pranavpandey.android.dynamic.theme.strategy.ExcludeStrategy;
-import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
 import com.pranavpandey.android.dynamic.util.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.util.DynamicUnitUtils;
 
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * An app theme to store various colors and attributes which can be modified at runtime.
  */
@@ -216,6 +217,54 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @SerializedName(Theme.Key.TYPE)
     private @Theme int type;
 
+    /**
+     * Number of values in the version 1 of the binary representation of this theme.
+     * <p>The values after it were the extra values of the subclasses.
+     *
+     * @see #getBinaryValues()
+     */
+    static final int BINARY_VALUES = 26;
+
+    /**
+     * Color types resolved and memoised by the themes.
+     *
+     * @see #resolveColorType(int)
+     */
+    private static final int[] RESOLVED_COLOR_TYPES = new int[] {
+            Theme.ColorType.BACKGROUND,
+            Theme.ColorType.SURFACE,
+            Theme.ColorType.PRIMARY,
+            Theme.ColorType.PRIMARY_DARK,
+            Theme.ColorType.ACCENT,
+            Theme.ColorType.ACCENT_DARK,
+            Theme.ColorType.ERROR,
+            Theme.ColorType.TINT_BACKGROUND,
+            Theme.ColorType.TINT_SURFACE,
+            Theme.ColorType.TINT_PRIMARY,
+            Theme.ColorType.TINT_PRIMARY_DARK,
+            Theme.ColorType.TINT_ACCENT,
+            Theme.ColorType.TINT_ACCENT_DARK,
+            Theme.ColorType.TINT_ERROR,
+            Theme.ColorType.TEXT_PRIMARY,
+            Theme.ColorType.TEXT_SECONDARY,
+            Theme.ColorType.TEXT_PRIMARY_INVERSE,
+            Theme.ColorType.TEXT_SECONDARY_INVERSE
+    };
+
+    /**
+     * Global version of the resolved colors.
+     * <p>It will be incremented whenever any theme or the state used to resolve the colors
+     * outside the themes is modified.
+     *
+     * @see #invalidateResolvedColors()
+     */
+    private static final AtomicInteger RESOLVED_COLORS_VERSION = new AtomicInteger();
+
+    /**
+     * Memoised resolved colors along with the version used to resolve them.
+     */
+    private transient volatile ResolvedColors resolvedColors;
+
     /**
      * Constructor to initialize an object of this class.
      */
@@ -233,9 +282,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
      * @param theme The theme string to initialize the instance.
      */
     public DynamicAppTheme(@NonNull String theme) throws JsonSyntaxException {
-        this(new GsonBuilder().setExclusionStrategies(new ExcludeStrategy()).registerTypeAdapter(
-                DynamicAppTheme.class, new DynamicThemeTypeAdapter<>(new DynamicAppTheme()))
-                .create().fromJson(DynamicThemeUtils.format(theme), DynamicAppTheme.class));
+        this(DynamicThemeCodec.read(new DynamicAppTheme(), theme));
     }
 
     /**
@@ -514,6 +561,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setHost(boolean host) {
         this.host = host;
+        invalidate();
 
         return this;
     }
@@ -526,6 +574,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setThemeRes(@StyleRes int themeRes) {
         this.themeRes = themeRes;
+        invalidate();
 
         return this;
     }
@@ -564,6 +613,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     public @NonNull DynamicAppTheme setBackgroundColor(
             @ColorInt int backgroundColor, boolean generateTint) {
         this.backgroundColor = backgroundColor;
+        invalidate();
         if (generateTint) {
             setTintBackgroundColor(Dynamic.getTintColor(getBackgroundColor(), this));
         }
@@ -603,6 +653,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setTintBackgroundColor(@ColorInt int tintBackgroundColor) {
         this.tintBackgroundColor = tintBackgroundColor;
+        invalidate();
 
         return this;
     }
@@ -659,6 +710,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setElevation(@Theme.Elevation int elevation) {
         this.elevation = elevation;
+        invalidate();
 
         return this;
     }
@@ -691,6 +743,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     public @NonNull DynamicAppTheme setSurfaceColor(
             @ColorInt int surfaceColor, boolean generateTint) {
         this.surfaceColor = surfaceColor;
+        invalidate();
         if (generateTint) {
             setTintSurfaceColor(Dynamic.getTintColor(getSurfaceColor(), this));
         }
@@ -730,6 +783,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setTintSurfaceColor(@ColorInt int tintSurfaceColor) {
         this.tintSurfaceColor = tintSurfaceColor;
+        invalidate();
 
         return this;
     }
@@ -774,6 +828,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     public @NonNull DynamicAppTheme setPrimaryColor(
             @ColorInt int primaryColor, boolean generateTint) {
         this.primaryColor = primaryColor;
+        invalidate();
         if (generateTint) {
             setTintPrimaryColor(Dynamic.getTintColor(getPrimaryColor(), this));
         }
@@ -814,6 +869,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     public @NonNull DynamicAppTheme setPrimaryColorDark(
             @ColorInt int primaryColorDark, boolean generateTint) {
         this.primaryColorDark = primaryColorDark;
+        invalidate();
         if (generateTint) {
             setTintPrimaryColorDark(Dynamic.getTintColor(getPrimaryColorDark(), this));
         }
@@ -853,6 +909,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setTintPrimaryColor(@ColorInt int tintPrimaryColor) {
         this.tintPrimaryColor = tintPrimaryColor;
+        invalidate();
 
         return this;
     }
@@ -884,6 +941,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setTintPrimaryColorDark(@ColorInt int tintPrimaryColorDark) {
         this.tintPrimaryColorDark = tintPrimaryColorDark;
+        invalidate();
 
         return this;
     }
@@ -922,6 +980,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     public @NonNull DynamicAppTheme setAccentColor(
             @ColorInt int accentColor, boolean generateTint) {
         this.accentColor = accentColor;
+        invalidate();
         if (generateTint) {
             setTintAccentColor(Dynamic.getTintColor(getAccentColor(), this));
         }
@@ -962,6 +1021,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     public @NonNull DynamicAppTheme setAccentColorDark(
             @ColorInt int accentColorDark, boolean generateTint) {
         this.accentColorDark = accentColorDark;
+        invalidate();
         if (generateTint) {
             setTintAccentColorDark(Dynamic.getTintColor(getAccentColorDark(), this));
         }
@@ -1001,6 +1061,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setTintAccentColor(@ColorInt int tintAccentColor) {
         this.tintAccentColor = tintAccentColor;
+        invalidate();
 
         return this;
     }
@@ -1032,6 +1093,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setTintAccentColorDark(@ColorInt int tintAccentColorDark) {
         this.tintAccentColorDark = tintAccentColorDark;
+        invalidate();
 
         return this;
     }
@@ -1064,6 +1126,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setErrorColor(int errorColor, boolean generateTint) {
         this.errorColor = errorColor;
+        invalidate();
         if (generateTint) {
             setTintErrorColor(Dynamic.getTintColor(getErrorColor(), this));
         }
@@ -1103,6 +1166,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setTintErrorColor(@ColorInt int tintErrorColor) {
         this.tintErrorColor = tintErrorColor;
+        invalidate();
 
         return this;
     }
@@ -1145,6 +1209,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     public @NonNull DynamicAppTheme setTextPrimaryColor(
             @ColorInt int textPrimaryColor, boolean generateInverse) {
         this.textPrimaryColor = textPrimaryColor;
+        invalidate();
         if (generateInverse) {
             setTextPrimaryColorInverse(Dynamic.getTintColor(getTextPrimaryColor(), this));
         }
@@ -1195,6 +1260,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     public @NonNull DynamicAppTheme setTextSecondaryColor(
             @ColorInt int textSecondaryColor, boolean generateInverse) {
         this.textSecondaryColor = textSecondaryColor;
+        invalidate();
         if (generateInverse) {
             setTextSecondaryColorInverse(Dynamic.getTintColor(getTextSecondaryColor(), this));
         }
@@ -1245,6 +1311,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setTextPrimaryColorInverse(int textPrimaryColorInverse) {
         this.textPrimaryColorInverse = textPrimaryColorInverse;
+        invalidate();
 
         return this;
     }
@@ -1287,6 +1354,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setTextSecondaryColorInverse(int textSecondaryColorInverse) {
         this.textSecondaryColorInverse = textSecondaryColorInverse;
+        invalidate();
 
         return this;
     }
@@ -1359,6 +1427,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setFontScale(int fontScale) {
         this.fontScale = fontScale;
+        invalidate();
 
         return this;
     }
@@ -1386,6 +1455,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setCornerRadius(int cornerRadius) {
         this.cornerRadius = cornerRadius;
+        invalidate();
 
         return this;
     }
@@ -1434,6 +1504,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     public @NonNull DynamicAppTheme setBackgroundAware(
             @Theme.BackgroundAware int backgroundAware) {
         this.backgroundAware = backgroundAware;
+        invalidate();
 
         return this;
     }
@@ -1465,6 +1536,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setContrast(int contrast) {
         this.contrast = contrast;
+        invalidate();
 
         return this;
     }
@@ -1491,6 +1563,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setOpacity(int opacity) {
         this.opacity = opacity;
+        invalidate();
 
         return this;
     }
@@ -1518,6 +1591,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setStyle(@Theme.Style int style) {
         this.style = style;
+        invalidate();
 
         return this;
     }
@@ -1535,6 +1609,7 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
     @Override
     public @NonNull DynamicAppTheme setType(@Theme int type) {
         this.type = type;
+        invalidate();
 
         return this;
     }
@@ -1544,18 +1619,419 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
         return DynamicTheme.getInstance().getColors();
     }
 
+    /**
+     * Invalidate the memoised resolved colors of all the themes.
+     * <p>It must be called whenever the state used to resolve the colors outside the themes
+     * is modified, for example, the dynamic colors or the default themes. Modifying or
+     * decoding a theme will invalidate them automatically.
+     *
+     * @see #resolveColorType(int)
+     */
+    public static void invalidateResolvedColors() {
+        RESOLVED_COLORS_VERSION.incrementAndGet();
+    }
+
+    /**
+     * Invalidate the memoised resolved colors as this theme may be used as a fallback
+     * by the other themes.
+     */
+    private void invalidate() {
+        invalidateResolvedColors();
+    }
+
+    /**
+     * Returns the index of the supplied color type in the memoised resolved colors.
+     *
+     * @param colorType The color type to get the index.
+     *
+     * @return The index of the supplied color type, otherwise {@code -1}.
+     */
+    private static int getResolvedColorIndex(@Theme.ColorType int colorType) {
+        switch (colorType) {
+            case Theme.ColorType.BACKGROUND:
+                return 0;
+            case Theme.ColorType.SURFACE:
+                return 1;
+            case Theme.ColorType.PRIMARY:
+                return 2;
+            case Theme.ColorType.PRIMARY_DARK:
+                return 3;
+            case Theme.ColorType.ACCENT:
+                return 4;
+            case Theme.ColorType.ACCENT_DARK:
+                return 5;
+            case Theme.ColorType.ERROR:
+                return 6;
+            case Theme.ColorType.TINT_BACKGROUND:
+                return 7;
+            case Theme.ColorType.TINT_SURFACE:
+                return 8;
+            case Theme.ColorType.TINT_PRIMARY:
+                return 9;
+            case Theme.ColorType.TINT_PRIMARY_DARK:
+                return 10;
+            case Theme.ColorType.TINT_ACCENT:
+                return 11;
+            case Theme.ColorType.TINT_ACCENT_DARK:
+                return 12;
+            case Theme.ColorType.TINT_ERROR:
+                return 13;
+            case Theme.ColorType.TEXT_PRIMARY:
+                return 14;
+            case Theme.ColorType.TEXT_SECONDARY:
+                return 15;
+            case Theme.ColorType.TEXT_PRIMARY_INVERSE:
+                return 16;
+            case Theme.ColorType.TEXT_SECONDARY_INVERSE:
+                return 17;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Get the color according to the color type without using the memoised colors.
+     *
+     * @param colorType The color type to get the color.
+     *
+     * @return The color according to the color type.
+     */
+    private @ColorInt int getColorByType(@Theme.ColorType int colorType) {
+        switch (colorType) {
+            case Theme.ColorType.BACKGROUND:
+                return getBackgroundColor();
+            case Theme.ColorType.SURFACE:
+                return getSurfaceColor();
+            case Theme.ColorType.PRIMARY:
+                return getPrimaryColor();
+            case Theme.ColorType.PRIMARY_DARK:
+                return getPrimaryColorDark();
+            case Theme.ColorType.ACCENT:
+                return getAccentColor();
+            case Theme.ColorType.ACCENT_DARK:
+                return getAccentColorDark();
+            case Theme.ColorType.ERROR:
+                return getErrorColor();
+            case Theme.ColorType.TINT_BACKGROUND:
+                return getTintBackgroundColor();
+            case Theme.ColorType.TINT_SURFACE:
+                return getTintSurfaceColor();
+            case Theme.ColorType.TINT_PRIMARY:
+                return getTintPrimaryColor();
+            case Theme.ColorType.TINT_PRIMARY_DARK:
+                return getTintPrimaryColorDark();
+            case Theme.ColorType.TINT_ACCENT:
+                return getTintAccentColor();
+            case Theme.ColorType.TINT_ACCENT_DARK:
+                return getTintAccentColorDark();
+            case Theme.ColorType.TINT_ERROR:
+                return getTintErrorColor();
+            case Theme.ColorType.TEXT_PRIMARY:
+                return getTextPrimaryColor();
+            case Theme.ColorType.TEXT_SECONDARY:
+                return getTextSecondaryColor();
+            case Theme.ColorType.TEXT_PRIMARY_INVERSE:
+                return getTextPrimaryColorInverse();
+            case Theme.ColorType.TEXT_SECONDARY_INVERSE:
+                return getTextSecondaryColorInverse();
+            default:
+                return Theme.Color.UNKNOWN;
+        }
+    }
+
+    /**
+     * Resolve color according to the color type.
+     * <p>All the color types are resolved lazily in a single pass and memoised till any
+     * theme is modified or {@link #invalidateResolvedColors()} is called.
+     *
+     * @param colorType The color type to be resolved.
+     *
+     * @return The resolved color value.
+     *
+     * @see Theme.ColorType
+     */
+    public @ColorInt int resolveColorType(@Theme.ColorType int colorType) {
+        int index = getResolvedColorIndex(colorType);
+        if (index == -1) {
+            return Theme.Color.UNKNOWN;
+        }
+
+        int version = RESOLVED_COLORS_VERSION.get();
+        ResolvedColors resolved = resolvedColors;
+        if (resolved == null || resolved.mVersion != version) {
+            int[] colors = new int[RESOLVED_COLOR_TYPES.length];
+            for (int i = 0; i < RESOLVED_COLOR_TYPES.length; i++) {
+                colors[i] = getColorByType(RESOLVED_COLOR_TYPES[i]);
+            }
+
+            // Use the version captured before resolving so that any concurrent change
+            // invalidates it.
+            resolved = new ResolvedColors(colors, version);
+            resolvedColors = resolved;
+        }
+
+        return resolved.mColors[index];
+    }
+
     @Override
     public @NonNull String toJsonString(boolean resolve, boolean inverse) {
-        return new GsonBuilder().registerTypeAdapter(DynamicAppTheme.class,
-                new DynamicThemeTypeAdapter<>(new DynamicAppTheme(), resolve, inverse))
-                .create().toJson(new DynamicAppTheme(this));
+        return DynamicThemeCodec.toJson(new DynamicAppTheme(this), resolve, inverse);
     }
 
     @Override
     public @NonNull String toDynamicString() {
-        return new GsonBuilder().setExclusionStrategies(new ExcludeStrategy()).registerTypeAdapter(
-                DynamicAppTheme.class, new DynamicThemeTypeAdapter<>(new DynamicAppTheme()))
-                .setPrettyPrinting().create().toJson(new DynamicAppTheme(this));
+        return DynamicThemeCodec.toDynamicJson(new DynamicAppTheme(this));
+    }
+
+    /**
+     * Returns the theme in the binary representation.
+     * <p>It is more compact than the JSON representation and can be used to persist the
+     * theme in the shared preferences.
+     *
+     * @return The theme in the binary representation.
+     *
+     * @see DynamicThemeCodec#encode(DynamicAppTheme)
+     */
+    public @NonNull String toBinaryString() {
+        return DynamicThemeCodec.encode(this);
+    }
+
+    /**
+     * Returns the values of this theme in the binary representation order.
+     * <p>The style resource is not included as it may change between the app versions.
+     *
+     * @return The values of this theme in the binary representation order.
+     */
+    @NonNull int[] getBinaryValues() {
+        return new int[] {
+                backgroundColor,
+                surfaceColor,
+                primaryColor,
+                primaryColorDark,
+                accentColor,
+                accentColorDark,
+                errorColor,
+                tintBackgroundColor,
+                tintSurfaceColor,
+                tintPrimaryColor,
+                tintPrimaryColorDark,
+                tintAccentColor,
+                tintAccentColorDark,
+                tintErrorColor,
+                textPrimaryColor,
+                textSecondaryColor,
+                textPrimaryColorInverse,
+                textSecondaryColorInverse,
+                fontScale,
+                cornerRadius,
+                backgroundAware,
+                contrast,
+                opacity,
+                elevation,
+                style,
+                type
+        };
+    }
+
+    /**
+     * Returns the extra values of the subclasses in the binary representation order.
+     * <p>They are stored in a separate section after the values of this theme, so both
+     * of them can grow independently.
+     *
+     * @return The extra values of the subclasses in the binary representation order.
+     */
+    @NonNull int[] getBinaryExtras() {
+        return new int[0];
+    }
+
+    /**
+     * Set the extra values of the subclasses from the binary representation.
+     * <p>The missing values will not be modified.
+     *
+     * @param values The extra values in the binary representation order.
+     */
+    void setBinaryExtras(@NonNull int[] values) { }
+
+    /**
+     * Set the values of this theme from the binary representation.
+     * <p>The missing values will not be modified.
+     *
+     * @param values The values of this theme in the binary representation order.
+     */
+    void setBinaryValues(@NonNull int[] values) {
+        backgroundColor = DynamicThemeCodec.getValue(values, 0, backgroundColor);
+        surfaceColor = DynamicThemeCodec.getValue(values, 1, surfaceColor);
+        primaryColor = DynamicThemeCodec.getValue(values, 2, primaryColor);
+        primaryColorDark = DynamicThemeCodec.getValue(values, 3, primaryColorDark);
+        accentColor = DynamicThemeCodec.getValue(values, 4, accentColor);
+        accentColorDark = DynamicThemeCodec.getValue(values, 5, accentColorDark);
+        errorColor = DynamicThemeCodec.getValue(values, 6, errorColor);
+        tintBackgroundColor = DynamicThemeCodec.getValue(values, 7, tintBackgroundColor);
+        tintSurfaceColor = DynamicThemeCodec.getValue(values, 8, tintSurfaceColor);
+        tintPrimaryColor = DynamicThemeCodec.getValue(values, 9, tintPrimaryColor);
+        tintPrimaryColorDark = DynamicThemeCodec.getValue(values, 10, tintPrimaryColorDark);
+        tintAccentColor = DynamicThemeCodec.getValue(values, 11, tintAccentColor);
+        tintAccentColorDark = DynamicThemeCodec.getValue(values, 12, tintAccentColorDark);
+        tintErrorColor = DynamicThemeCodec.getValue(values, 13, tintErrorColor);
+        textPrimaryColor = DynamicThemeCodec.getValue(values, 14, textPrimaryColor);
+        textSecondaryColor = DynamicThemeCodec.getValue(values, 15, textSecondaryColor);
+        textPrimaryColorInverse = DynamicThemeCodec.getValue(values, 16, textPrimaryColorInverse);
+        textSecondaryColorInverse = DynamicThemeCodec.getValue(
+                values, 17, textSecondaryColorInverse);
+        fontScale = DynamicThemeCodec.getValue(values, 18, fontScale);
+        cornerRadius = DynamicThemeCodec.getValue(values, 19, cornerRadius);
+        backgroundAware = DynamicThemeCodec.getValue(values, 20, backgroundAware);
+        contrast = DynamicThemeCodec.getValue(values, 21, contrast);
+        opacity = DynamicThemeCodec.getValue(values, 22, opacity);
+        elevation = DynamicThemeCodec.getValue(values, 23, elevation);
+        style = DynamicThemeCodec.getValue(values, 24, style);
+        type = DynamicThemeCodec.getValue(values, 25, type);
+    }
+
+    /**
+     * Write the fields of this theme in the plain JSON representation.
+     *
+     * @param out The writer to write the fields.
+     *
+     * @throws IOException If the fields cannot be written.
+     *
+     * @see DynamicThemeCodec#getGson()
+     */
+    void writeFields(@NonNull JsonWriter out) throws IOException {
+        out.name(Theme.Key.HOST).value(host);
+        out.name(Theme.Key.RES).value(themeRes);
+        out.name(Theme.Key.BACKGROUND).value(backgroundColor);
+        out.name(Theme.Key.SURFACE).value(surfaceColor);
+        out.name(Theme.Key.PRIMARY).value(primaryColor);
+        out.name(Theme.Key.PRIMARY_DARK).value(primaryColorDark);
+        out.name(Theme.Key.ACCENT).value(accentColor);
+        out.name(Theme.Key.ACCENT_DARK).value(accentColorDark);
+        out.name(Theme.Key.ERROR).value(errorColor);
+        out.name(Theme.Key.TINT_BACKGROUND).value(tintBackgroundColor);
+        out.name(Theme.Key.TINT_SURFACE).value(tintSurfaceColor);
+        out.name(Theme.Key.TINT_PRIMARY).value(tintPrimaryColor);
+        out.name(Theme.Key.TINT_PRIMARY_DARK).value(tintPrimaryColorDark);
+        out.name(Theme.Key.TINT_ACCENT).value(tintAccentColor);
+        out.name(Theme.Key.TINT_ACCENT_DARK).value(tintAccentColorDark);
+        out.name(Theme.Key.TINT_ERROR).value(tintErrorColor);
+        out.name(Theme.Key.TEXT_PRIMARY).value(textPrimaryColor);
+        out.name(Theme.Key.TEXT_SECONDARY).value(textSecondaryColor);
+        out.name(Theme.Key.TEXT_PRIMARY_INVERSE).value(textPrimaryColorInverse);
+        out.name(Theme.Key.TEXT_SECONDARY_INVERSE).value(textSecondaryColorInverse);
+        out.name(Theme.Key.FONT_SCALE).value(fontScale);
+        out.name(Theme.Key.CORNER_RADIUS).value(cornerRadius);
+        out.name(Theme.Key.BACKGROUND_AWARE).value(backgroundAware);
+        out.name(Theme.Key.CONTRAST).value(contrast);
+        out.name(Theme.Key.OPACITY).value(opacity);
+        out.name(Theme.Key.ELEVATION).value(elevation);
+        out.name(Theme.Key.STYLE).value(style);
+        out.name(Theme.Key.TYPE).value(type);
+    }
+
+    /**
+     * Read a field of this theme from the plain JSON representation.
+     *
+     * @param name The name of the field to be read.
+     * @param in The reader to read the value.
+     *
+     * @return {@code true} if the field has been read.
+     *
+     * @throws IOException If the field cannot be read.
+     *
+     * @see DynamicThemeCodec#getGson()
+     */
+    boolean readField(@NonNull String name, @NonNull JsonReader in) throws IOException {
+        switch (name) {
+            case Theme.Key.HOST:
+                host = DynamicThemeCodec.nextBoolean(in, host);
+                break;
+            case Theme.Key.RES:
+                themeRes = DynamicThemeCodec.nextInt(in, themeRes);
+                break;
+            case Theme.Key.BACKGROUND:
+                backgroundColor = DynamicThemeCodec.nextInt(in, backgroundColor);
+                break;
+            case Theme.Key.SURFACE:
+                surfaceColor = DynamicThemeCodec.nextInt(in, surfaceColor);
+                break;
+            case Theme.Key.PRIMARY:
+                primaryColor = DynamicThemeCodec.nextInt(in, primaryColor);
+                break;
+            case Theme.Key.PRIMARY_DARK:
+                primaryColorDark = DynamicThemeCodec.nextInt(in, primaryColorDark);
+                break;
+            case Theme.Key.ACCENT:
+                accentColor = DynamicThemeCodec.nextInt(in, accentColor);
+                break;
+            case Theme.Key.ACCENT_DARK:
+                accentColorDark = DynamicThemeCodec.nextInt(in, accentColorDark);
+                break;
+            case Theme.Key.ERROR:
+                errorColor = DynamicThemeCodec.nextInt(in, errorColor);
+                break;
+            case Theme.Key.TINT_BACKGROUND:
+                tintBackgroundColor = DynamicThemeCodec.nextInt(in, tintBackgroundColor);
+                break;
+            case Theme.Key.TINT_SURFACE:
+                tintSurfaceColor = DynamicThemeCodec.nextInt(in, tintSurfaceColor);
+                break;
+            case Theme.Key.TINT_PRIMARY:
+                tintPrimaryColor = DynamicThemeCodec.nextInt(in, tintPrimaryColor);
+                break;
+            case Theme.Key.TINT_PRIMARY_DARK:
+                tintPrimaryColorDark = DynamicThemeCodec.nextInt(in, tintPrimaryColorDark);
+                break;
+            case Theme.Key.TINT_ACCENT:
+                tintAccentColor = DynamicThemeCodec.nextInt(in, tintAccentColor);
+                break;
+            case Theme.Key.TINT_ACCENT_DARK:
+                tintAccentColorDark = DynamicThemeCodec.nextInt(in, tintAccentColorDark);
+                break;
+            case Theme.Key.TINT_ERROR:
+                tintErrorColor = DynamicThemeCodec.nextInt(in, tintErrorColor);
+                break;
+            case Theme.Key.TEXT_PRIMARY:
+                textPrimaryColor = DynamicThemeCodec.nextInt(in, textPrimaryColor);
+                break;
+            case Theme.Key.TEXT_SECONDARY:
+                textSecondaryColor = DynamicThemeCodec.nextInt(in, textSecondaryColor);
+                break;
+            case Theme.Key.TEXT_PRIMARY_INVERSE:
+                textPrimaryColorInverse = DynamicThemeCodec.nextInt(in, textPrimaryColorInverse);
+                break;
+            case Theme.Key.TEXT_SECONDARY_INVERSE:
+                textSecondaryColorInverse = DynamicThemeCodec.nextInt(
+                        in, textSecondaryColorInverse);
+                break;
+            case Theme.Key.FONT_SCALE:
+                fontScale = DynamicThemeCodec.nextInt(in, fontScale);
+                break;
+            case Theme.Key.CORNER_RADIUS:
+                cornerRadius = DynamicThemeCodec.nextInt(in, cornerRadius);
+                break;
+            case Theme.Key.BACKGROUND_AWARE:
+                backgroundAware = DynamicThemeCodec.nextInt(in, backgroundAware);
+                break;
+            case Theme.Key.CONTRAST:
+                contrast = DynamicThemeCodec.nextInt(in, contrast);
+                break;
+            case Theme.Key.OPACITY:
+                opacity = DynamicThemeCodec.nextInt(in, opacity);
+                break;
+            case Theme.Key.ELEVATION:
+                elevation = DynamicThemeCodec.nextInt(in, elevation);
+                break;
+            case Theme.Key.STYLE:
+                style = DynamicThemeCodec.nextInt(in, style);
+                break;
+            case Theme.Key.TYPE:
+                type = DynamicThemeCodec.nextInt(in, type);
+                break;
+            default:
+                return false;
+        }
+
+        return true;
     }
 
     @Override
@@ -1585,4 +2061,31 @@ public class DynamicAppTheme extends AppTheme<DynamicAppTheme> implements Parcel
                 + getOpacity(false) + getElevation(false)
                 + getStyle() + getType() + '}';
     }
+
+    /**
+     * Immutable resolved colors along with the version used to resolve them.
+     */
+    private static final class ResolvedColors {
+
+        /**
+         * Resolved colors according to the {@link #RESOLVED_COLOR_TYPES}.
+         */
+        private final int[] mColors;
+
+        /**
+         * Global version while resolving the colors.
+         */
+        private final int mVersion;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param colors The resolved colors.
+         * @param version The global version while resolving the colors.
+         */
+        ResolvedColors(@NonNull int[] colors, int version) {
+            this.mColors = colors;
+            this.mVersion = version;
+        }
+    }
 }
@@ -21,14 +21,10 @@ import android.graphics.Color;
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.theme.AppTheme;
 import com.pranavpandey.android.dynamic.theme.Theme;
-import com.pranavpandey.android.dynamic.theme.adapter.DynamicThemeTypeAdapter;
-import com.pranavpandey.android.dynamic.theme.strategy.ExcludeStrategy;
-import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
 
 /**
  * A remote theme to resolve system colors according to the API level.
@@ -60,9 +56,7 @@ public class DynamicRemoteTheme extends DynamicWidgetTheme {
      * @param theme The theme string to initialize the instance.
      */
     public DynamicRemoteTheme(@NonNull String theme) throws JsonSyntaxException {
-        this(new GsonBuilder().setExclusionStrategies(new ExcludeStrategy()).registerTypeAdapter(
-                DynamicRemoteTheme.class, new DynamicThemeTypeAdapter<>(new DynamicRemoteTheme()))
-                .create().fromJson(DynamicThemeUtils.format(theme), DynamicRemoteTheme.class));
+        this(DynamicThemeCodec.read(new DynamicRemoteTheme(), theme));
     }
 
     /**
@@ -142,15 +136,11 @@ public class DynamicRemoteTheme extends DynamicWidgetTheme {
 
     @Override
     public @NonNull String toJsonString(boolean resolve, boolean inverse) {
-        return new GsonBuilder().registerTypeAdapter(DynamicRemoteTheme.class,
-                new DynamicThemeTypeAdapter<>(new DynamicRemoteTheme(), resolve, inverse))
-                .create().toJson(new DynamicRemoteTheme(this));
+        return DynamicThemeCodec.toJson(new DynamicRemoteTheme(this), resolve, inverse);
     }
 
     @Override
     public @NonNull String toDynamicString() {
-        return new GsonBuilder().setExclusionStrategies(new ExcludeStrategy()).registerTypeAdapter(
-                DynamicRemoteTheme.class, new DynamicThemeTypeAdapter<>(new DynamicRemoteTheme()))
-                .setPrettyPrinting().create().toJson(new DynamicRemoteTheme(this));
+        return DynamicThemeCodec.toDynamicJson(new DynamicRemoteTheme(this));
     }
 }
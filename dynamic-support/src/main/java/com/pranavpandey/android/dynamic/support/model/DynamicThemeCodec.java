@@ -0,0 +1,562 @@
+/*
+ * Copyright 2018-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.model;
+
+import android.util.Base64;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.pranavpandey.android.dynamic.theme.AppTheme;
+import com.pranavpandey.android.dynamic.theme.adapter.DynamicThemeTypeAdapter;
+import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+/**
+ * Shared codecs to convert the dynamic themes to and from their JSON representation.
+ * <p>The plain JSON representation is handled by the streaming type adapters which read
+ * and write the theme fields directly without using reflection. The {@link Gson} instance
+ * is immutable and thread-safe, so it is created only once and reused for every conversion.
+ *
+ * <p>The JSON and dynamic string representations are streamed through a new
+ * {@link DynamicThemeTypeAdapter} for each call without building a gson, so the adapters
+ * never share a theme between the threads.
+ *
+ * <p>It also provides a compact binary representation to persist the themes in the shared
+ * preferences, which will be detected automatically while reading a theme string.
+ */
+public class DynamicThemeCodec {
+
+    /**
+     * Prefix for the themes in the binary representation.
+     */
+    public static final String BINARY_PREFIX = "adt:";
+
+    /**
+     * Current version of the binary representation.
+     * <p>Version 1 is the number of values followed by the zigzag encoded values of
+     * the theme as variable length integers.
+     *
+     * <p>Version 2 stores the values of the theme and the extra values of its subclass in
+     * two separate sections, each one is the number of values followed by the values.
+     */
+    public static final int BINARY_VERSION = 2;
+
+    /**
+     * Maximum number of values accepted in the binary representation.
+     */
+    private static final int BINARY_VALUES_MAX = 256;
+
+    /**
+     * Base64 flags for the binary representation.
+     */
+    private static final int BINARY_FLAGS = Base64.NO_WRAP | Base64.NO_PADDING | Base64.URL_SAFE;
+
+    /**
+     * Gson to convert the themes in the plain JSON representation.
+     */
+    private static Gson sGson;
+
+    /**
+     * Indent used by the dynamic string representation.
+     */
+    private static final String DYNAMIC_INDENT = "  ";
+
+    /**
+     * Streaming type adapter for the {@link DynamicAppTheme}.
+     */
+    public static final TypeAdapter<DynamicAppTheme> APP_THEME =
+            new ThemeTypeAdapter<DynamicAppTheme>() {
+        @Override
+        protected @NonNull DynamicAppTheme newTheme() {
+            return new DynamicAppTheme();
+        }
+    };
+
+    /**
+     * Streaming type adapter for the {@link DynamicWidgetTheme}.
+     */
+    public static final TypeAdapter<DynamicWidgetTheme> WIDGET_THEME =
+            new ThemeTypeAdapter<DynamicWidgetTheme>() {
+        @Override
+        protected @NonNull DynamicWidgetTheme newTheme() {
+            return new DynamicWidgetTheme();
+        }
+    };
+
+    /**
+     * Streaming type adapter for the {@link DynamicRemoteTheme}.
+     */
+    public static final TypeAdapter<DynamicRemoteTheme> REMOTE_THEME =
+            new ThemeTypeAdapter<DynamicRemoteTheme>() {
+        @Override
+        protected @NonNull DynamicRemoteTheme newTheme() {
+            return new DynamicRemoteTheme();
+        }
+    };
+
+    /**
+     * Returns the gson to convert the themes in the plain JSON representation.
+     *
+     * @return The gson to convert the themes in the plain JSON representation.
+     */
+    public static synchronized @NonNull Gson getGson() {
+        if (sGson == null) {
+            sGson = new GsonBuilder()
+                    .registerTypeAdapter(DynamicAppTheme.class, APP_THEME)
+                    .registerTypeAdapter(DynamicWidgetTheme.class, WIDGET_THEME)
+                    .registerTypeAdapter(DynamicRemoteTheme.class, REMOTE_THEME)
+                    .create();
+        }
+
+        return sGson;
+    }
+
+    /**
+     * Returns the theme in the JSON string representation.
+     *
+     * @param theme The theme to be converted.
+     * @param resolve {@code true} to resolve the auto colors.
+     * @param inverse {@code true} to resolve the inverse colors.
+     * @param <T> The type of the theme.
+     *
+     * @return The theme in the JSON string representation.
+     *
+     * @see AppTheme#toJsonString(boolean, boolean)
+     */
+    static @NonNull <T extends DynamicAppTheme> String toJson(@NonNull T theme,
+            boolean resolve, boolean inverse) {
+        return write(new DynamicThemeTypeAdapter<>(theme, resolve, inverse), theme, null);
+    }
+
+    /**
+     * Returns the theme in the dynamic string representation.
+     *
+     * @param theme The theme to be converted.
+     * @param <T> The type of the theme.
+     *
+     * @return The theme in the dynamic string representation.
+     *
+     * @see AppTheme#toDynamicString()
+     */
+    static @NonNull <T extends DynamicAppTheme> String toDynamicJson(@NonNull T theme) {
+        return write(new DynamicThemeTypeAdapter<>(theme), theme, DYNAMIC_INDENT);
+    }
+
+    /**
+     * Write the theme by using the supplied type adapter.
+     * <p>The writer is configured in the same way as a default gson.
+     *
+     * @param adapter The type adapter to write the theme.
+     * @param theme The theme to be written.
+     * @param indent The indent to pretty print the theme, {@code null} to write it compact.
+     * @param <T> The type of the theme.
+     *
+     * @return The theme written by the supplied type adapter.
+     */
+    private static @NonNull <T extends DynamicAppTheme> String write(
+            @NonNull TypeAdapter<T> adapter, @NonNull T theme, @Nullable String indent) {
+        StringWriter string = new StringWriter();
+        JsonWriter writer = new JsonWriter(string);
+        writer.setHtmlSafe(true);
+        writer.setSerializeNulls(false);
+        if (indent != null) {
+            writer.setIndent(indent);
+        }
+
+        try {
+            adapter.write(writer, theme);
+            writer.flush();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+
+        return string.toString();
+    }
+
+    /**
+     * Read the theme from its string representation.
+     * <p>The binary representation will be detected automatically.
+     *
+     * <p>A theme in the plain JSON representation will be read by the streaming type adapter.
+     * Otherwise, the dynamic theme type adapter populates the supplied theme while reading, so
+     * a new adapter will be created for each call without building a gson instance.
+     *
+     * @param theme The theme to be populated.
+     * @param string The theme string to be read.
+     * @param <T> The type of the theme.
+     *
+     * @return The theme read from the supplied string.
+     *
+     * @throws JsonSyntaxException If the supplied string is not a valid theme.
+     */
+    public static @Nullable <T extends DynamicAppTheme> T read(@NonNull T theme,
+            @NonNull String string) throws JsonSyntaxException {
+        if (isBinary(string)) {
+            try {
+                return decode(theme, string);
+            } catch (IllegalArgumentException e) {
+                throw new JsonSyntaxException(e);
+            }
+        }
+
+        String json = DynamicThemeUtils.format(string);
+        JsonReader reader = new JsonReader(new StringReader(json));
+        reader.setLenient(true);
+
+        try {
+            T value;
+            if (isPlain(json)) {
+                value = readFields(theme, reader);
+            } else {
+                value = new DynamicThemeTypeAdapter<>(theme).read(reader);
+                DynamicAppTheme.invalidateResolvedColors();
+            }
+
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonSyntaxException("JSON document was not fully consumed.");
+            }
+
+            return value;
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /**
+     * Checks whether the supplied JSON is a theme in the plain JSON representation.
+     * <p>It contains only the number, boolean or {@code null} values which can be read by
+     * the streaming type adapters.
+     *
+     * @param json The JSON to be checked.
+     *
+     * @return {@code true} if the supplied JSON is a theme in the plain JSON representation.
+     */
+    private static boolean isPlain(@NonNull String json) {
+        JsonReader reader = new JsonReader(new StringReader(json));
+        reader.setLenient(true);
+
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                reader.nextName();
+
+                JsonToken token = reader.peek();
+                if (token != JsonToken.NUMBER && token != JsonToken.BOOLEAN
+                        && token != JsonToken.NULL) {
+                    return false;
+                }
+
+                reader.skipValue();
+            }
+            reader.endObject();
+
+            return reader.peek() == JsonToken.END_DOCUMENT;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Read the fields of the supplied theme from the plain JSON representation.
+     *
+     * @param theme The theme to be populated.
+     * @param in The reader to read the fields.
+     * @param <T> The type of the theme.
+     *
+     * @return The theme populated from the plain JSON representation.
+     *
+     * @throws IOException If the fields cannot be read.
+     */
+    private static @NonNull <T extends DynamicAppTheme> T readFields(@NonNull T theme,
+            @NonNull JsonReader in) throws IOException {
+        in.beginObject();
+        while (in.hasNext()) {
+            if (!theme.readField(in.nextName(), in)) {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        DynamicAppTheme.invalidateResolvedColors();
+
+        return theme;
+    }
+
+    /**
+     * Checks whether the supplied string is a theme in the binary representation.
+     *
+     * @param string The string to be checked.
+     *
+     * @return {@code true} if the supplied string is a theme in the binary representation.
+     */
+    public static boolean isBinary(@Nullable String string) {
+        return string != null && string.startsWith(BINARY_PREFIX);
+    }
+
+    /**
+     * Encode the theme in the binary representation.
+     *
+     * @param theme The theme to be encoded.
+     *
+     * @return The theme in the binary representation.
+     */
+    public static @NonNull String encode(@NonNull DynamicAppTheme theme) {
+        int[] values = theme.getBinaryValues();
+        int[] extras = theme.getBinaryExtras();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                (values.length + extras.length) * 4 + 3);
+
+        out.write(BINARY_VERSION);
+        writeSection(out, values);
+        writeSection(out, extras);
+
+        return BINARY_PREFIX + Base64.encodeToString(out.toByteArray(), BINARY_FLAGS);
+    }
+
+    /**
+     * Decode the theme from the binary representation.
+     * <p>The missing values will be kept from the supplied theme and the extra values
+     * from a newer representation will be ignored.
+     *
+     * @param theme The theme to be populated.
+     * @param string The theme in the binary representation.
+     * @param <T> The type of the theme.
+     *
+     * @return The theme decoded from the binary representation.
+     *
+     * @throws IllegalArgumentException If the supplied string is not a valid binary theme.
+     */
+    public static @NonNull <T extends DynamicAppTheme> T decode(@NonNull T theme,
+            @NonNull String string) throws IllegalArgumentException {
+        if (!isBinary(string)) {
+            throw new IllegalArgumentException("Theme is not in the binary representation.");
+        }
+
+        ByteArrayInputStream in = new ByteArrayInputStream(Base64.decode(
+                string.substring(BINARY_PREFIX.length()), BINARY_FLAGS));
+        int version = in.read();
+        if (version < 1 || version > BINARY_VERSION) {
+            throw new IllegalArgumentException("Unsupported theme version: " + version);
+        }
+
+        int[] values = readSection(in);
+        int[] extras;
+        if (version == 1) {
+            // Version 1 stored the extra values right after the values of the theme.
+            int count = Math.min(values.length, DynamicAppTheme.BINARY_VALUES);
+            extras = Arrays.copyOfRange(values, count, values.length);
+            values = Arrays.copyOf(values, count);
+        } else {
+            extras = in.available() > 0 ? readSection(in) : new int[0];
+        }
+
+        theme.setBinaryValues(values);
+        theme.setBinaryExtras(extras);
+        DynamicAppTheme.invalidateResolvedColors();
+
+        return theme;
+    }
+
+    /**
+     * Write a section of the values to the stream.
+     *
+     * @param out The stream to write the section.
+     * @param values The values to be written.
+     */
+    private static void writeSection(@NonNull ByteArrayOutputStream out, @NonNull int[] values) {
+        writeVarint(out, values.length);
+        for (int value : values) {
+            writeVarint(out, (value << 1) ^ (value >> 31));
+        }
+    }
+
+    /**
+     * Read a section of the values from the stream.
+     *
+     * @param in The stream to read the section.
+     *
+     * @return The values read from the stream.
+     *
+     * @throws IllegalArgumentException If the section is not valid.
+     */
+    private static @NonNull int[] readSection(@NonNull ByteArrayInputStream in)
+            throws IllegalArgumentException {
+        int count = readVarint(in);
+        if (count < 0 || count > BINARY_VALUES_MAX) {
+            throw new IllegalArgumentException("Invalid theme values: " + count);
+        }
+
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            int value = readVarint(in);
+            values[i] = (value >>> 1) ^ -(value & 1);
+        }
+
+        return values;
+    }
+
+    /**
+     * Returns the binary value at the supplied index.
+     *
+     * @param values The binary values of the theme.
+     * @param index The index of the value.
+     * @param value The current value to be returned for a missing index.
+     *
+     * @return The binary value at the supplied index.
+     */
+    static int getValue(@NonNull int[] values, int index, int value) {
+        return index < values.length ? values[index] : value;
+    }
+
+    /**
+     * Write a variable length integer to the stream.
+     *
+     * @param out The stream to write the value.
+     * @param value The value to be written.
+     */
+    private static void writeVarint(@NonNull ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        out.write(value);
+    }
+
+    /**
+     * Read a variable length integer from the stream.
+     *
+     * @param in The stream to read the value.
+     *
+     * @return The value read from the stream.
+     *
+     * @throws IllegalArgumentException If the value is truncated or malformed.
+     */
+    private static int readVarint(@NonNull ByteArrayInputStream in)
+            throws IllegalArgumentException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.read();
+            if (b == -1) {
+                throw new IllegalArgumentException("Theme is truncated.");
+            }
+
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("Theme is malformed.");
+    }
+
+    /**
+     * Returns the next integer value from the reader.
+     *
+     * @param in The reader to read the value.
+     * @param value The current value to be returned for a {@code null} value.
+     *
+     * @return The next integer value from the reader.
+     *
+     * @throws IOException If the value cannot be read.
+     */
+    static int nextInt(@NonNull JsonReader in, int value) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+
+            return value;
+        }
+
+        return in.nextInt();
+    }
+
+    /**
+     * Returns the next boolean value from the reader.
+     *
+     * @param in The reader to read the value.
+     * @param value The current value to be returned for a {@code null} value.
+     *
+     * @return The next boolean value from the reader.
+     *
+     * @throws IOException If the value cannot be read.
+     */
+    static boolean nextBoolean(@NonNull JsonReader in, boolean value) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+
+            return value;
+        } else if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(in.nextString());
+        }
+
+        return in.nextBoolean();
+    }
+
+    /**
+     * A streaming type adapter to read and write the theme fields without reflection.
+     *
+     * @param <T> The type of the theme.
+     */
+    abstract static class ThemeTypeAdapter<T extends DynamicAppTheme> extends TypeAdapter<T> {
+
+        /**
+         * Returns a new theme with the default values to be populated while reading.
+         *
+         * @return A new theme with the default values.
+         */
+        protected abstract @NonNull T newTheme();
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+
+                return;
+            }
+
+            out.beginObject();
+            value.writeFields(out);
+            out.endObject();
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+
+                return null;
+            }
+
+            return readFields(newTheme(), in);
+        }
+    }
+}
@@ -23,20 +23,20 @@ import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.pranavpandey.android.dynamic.support.provider.DynamicAppWidgetProvider;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.theme.AppTheme;
 import com.pranavpandey.android.dynamic.theme.Theme;
-import com.pranavpandey.android.dynamic.theme.adapter.DynamicThemeTypeAdapter;
 import com.pranavpandey.android.dynamic.theme.annotation.Exclude;
 import com.pranavpandey.android.dynamic.theme.base.WidgetTheme;
-import com.pranavpandey.android.dynamic.theme.strategy.ExcludeStrategy;
-import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
 import com.pranavpandey.android.dynamic.util.DynamicSdkUtils;
 
+import java.io.IOException;
+
 /**
  * An app widget theme to store various colors and attributes for app widget which can be
  * modified at runtime.
@@ -80,9 +80,7 @@ public class DynamicWidgetTheme extends DynamicAppTheme
      * @param theme The theme string to initialize the instance.
      */
     public DynamicWidgetTheme(@NonNull String theme) throws JsonSyntaxException {
-        this(new GsonBuilder().setExclusionStrategies(new ExcludeStrategy()).registerTypeAdapter(
-                DynamicWidgetTheme.class, new DynamicThemeTypeAdapter<>(new DynamicWidgetTheme()))
-                .create().fromJson(DynamicThemeUtils.format(theme), DynamicWidgetTheme.class));
+        this(DynamicThemeCodec.read(new DynamicWidgetTheme(), theme));
     }
 
     /**
@@ -360,16 +358,45 @@ public class DynamicWidgetTheme extends DynamicAppTheme
 
     @Override
     public @NonNull String toJsonString(boolean resolve, boolean inverse) {
-        return new GsonBuilder().registerTypeAdapter(DynamicWidgetTheme.class,
-                new DynamicThemeTypeAdapter<>(new DynamicWidgetTheme(), resolve, inverse))
-                .create().toJson(new DynamicWidgetTheme(this));
+        return DynamicThemeCodec.toJson(new DynamicWidgetTheme(this), resolve, inverse);
     }
 
     @Override
     public @NonNull String toDynamicString() {
-        return new GsonBuilder().setExclusionStrategies(new ExcludeStrategy()).registerTypeAdapter(
-                DynamicWidgetTheme.class, new DynamicThemeTypeAdapter<>(new DynamicWidgetTheme()))
-                .setPrettyPrinting().create().toJson(new DynamicWidgetTheme(this));
+        return DynamicThemeCodec.toDynamicJson(new DynamicWidgetTheme(this));
+    }
+
+    @Override
+    @NonNull int[] getBinaryExtras() {
+        return new int[] { widgetId, header };
+    }
+
+    @Override
+    void setBinaryExtras(@NonNull int[] values) {
+        widgetId = DynamicThemeCodec.getValue(values, 0, widgetId);
+        header = DynamicThemeCodec.getValue(values, 1, header);
+    }
+
+    @Override
+    void writeFields(@NonNull JsonWriter out) throws IOException {
+        super.writeFields(out);
+
+        out.name(Theme.Key.WIDGET_ID).value(widgetId);
+        out.name(Theme.Key.HEADER).value(header);
+    }
+
+    @Override
+    boolean readField(@NonNull String name, @NonNull JsonReader in) throws IOException {
+        switch (name) {
+            case Theme.Key.WIDGET_ID:
+                widgetId = DynamicThemeCodec.nextInt(in, widgetId);
+                return true;
+            case Theme.Key.HEADER:
+                header = DynamicThemeCodec.nextInt(in, header);
+                return true;
+            default:
+                return super.readField(name, in);
+        }
     }
 
     @Override
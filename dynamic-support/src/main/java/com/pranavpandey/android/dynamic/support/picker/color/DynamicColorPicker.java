@@ -19,8 +19,10 @@ package com.pranavpandey.android.dynamic.support.picker.color;
 import android.content.Context;
 import android.graphics.Color;
 import android.text.Editable;
+import android.text.TextUtils;
 import android.text.TextWatcher;
 import android.util.AttributeSet;
+import android.view.Choreographer;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.Button;
@@ -57,9 +59,7 @@ import com.pranavpandey.android.dynamic.util.DynamicInputUtils;
 import com.pranavpandey.android.dynamic.util.DynamicTaskUtils;
 import com.pranavpandey.android.dynamic.util.concurrent.DynamicResult;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -77,12 +77,12 @@ public class DynamicColorPicker extends DynamicView {
     /**
      * Shared preference key to save the recently selected colors without alpha.
      */
-    private static final String ADS_PREF_COLOR_PICKER_RECENTS = "ads_pref_color_picker_recents";
+    static final String ADS_PREF_COLOR_PICKER_RECENTS = "ads_pref_color_picker_recents";
 
     /**
      * Shared preference key to save the recently selected colors with alpha.
      */
-    private static final String ADS_PREF_COLOR_PICKER_RECENTS_ALPHA =
+    static final String ADS_PREF_COLOR_PICKER_RECENTS_ALPHA =
             "ads_pref_color_picker_recents_alpha";
 
     /**
@@ -93,7 +93,7 @@ public class DynamicColorPicker extends DynamicView {
     /**
      * The maximum recent colors count.
      */
-    private static final int ADS_COLOR_PICKER_RECENTS_MAX = 8;
+    static final int ADS_COLOR_PICKER_RECENTS_MAX = 8;
 
     /**
      * Recents color splitter to separate different colors.
@@ -113,32 +113,32 @@ public class DynamicColorPicker extends DynamicView {
     /**
      * Color entries used by this picker.
      */
-    private Integer[] mColors;
+    private int[] mColors;
 
     /**
      * Shade entries used by this picker.
      */
-    private Integer[][] mShades;
+    private int[][] mShades;
 
     /**
      * Current shade entries used by this picker.
      */
-    private Integer[] mShadesCurrent;
+    private int[] mShadesCurrent;
 
     /**
-     * Dynamic entries used by this picker.
+     * Position of the current shade entries used by this picker.
      */
-    private Integer[] mDynamics;
+    private int mShadesPosition;
 
     /**
-     * Recent entries used by this picker.
+     * Dynamic entries used by this picker.
      */
-    private Integer[] mRecents;
+    private int[] mDynamics;
 
     /**
-     * Recent array list to perform calculations.
+     * Recent entries used by this picker.
      */
-    private List<Integer> mRecentsList;
+    private int[] mRecents;
 
     /**
      * The previous color.
@@ -348,6 +348,48 @@ public class DynamicColorPicker extends DynamicView {
      */
     private WallpaperColorsTask mWallpaperColorsTask;
 
+    /**
+     * Scratch buffer to perform the HSV color conversions.
+     * <p>It will be initialized while inflating the view to avoid allocations on each
+     * slider change.
+     */
+    private float[] mHSV;
+
+    /**
+     * Scratch buffer to perform the CMYK color conversions.
+     */
+    private float[] mCMYK;
+
+    /**
+     * Frame callback to apply the pending custom color once per frame.
+     */
+    private Choreographer.FrameCallback mCustomFrameCallback;
+
+    /**
+     * {@code true} if a custom color is pending to be applied on the next frame.
+     */
+    private boolean mCustomPending;
+
+    /**
+     * The pending custom color to be applied on the next frame.
+     */
+    private @ColorInt int mPendingColor;
+
+    /**
+     * {@code true} to set the HSV values for the pending custom color.
+     */
+    private boolean mPendingHSV;
+
+    /**
+     * {@code true} to set the RGB values for the pending custom color.
+     */
+    private boolean mPendingRGB;
+
+    /**
+     * {@code true} to set the CMYK values for the pending custom color.
+     */
+    private boolean mPendingCMYK;
+
     public DynamicColorPicker(@NonNull Context context) {
         super(context);
     }
@@ -406,6 +448,15 @@ public class DynamicColorPicker extends DynamicView {
         mSliderYellow.setColor(Color.YELLOW);
         mSliderBlack.setColor(Color.BLACK);
 
+        mHSV = new float[3];
+        mCMYK = new float[4];
+        mCustomFrameCallback = new Choreographer.FrameCallback() {
+            @Override
+            public void doFrame(long frameTimeNanos) {
+                flushCustom();
+            }
+        };
+
         mPreviousColorView.setOnClickListener(new OnClickListener() {
             @Override
             public void onClick(View v) {
@@ -453,20 +504,18 @@ public class DynamicColorPicker extends DynamicView {
                     mHSVSaturation = mSliderSaturation.getProgress() / 100f;
                     mHSVValue = mSliderValue.getProgress() / 100f;
 
-                    if (mAlpha) {
-                        setCustom(Color.HSVToColor(mSliderAlpha.getProgress(),
-                                new float[] { mHSVHue, mHSVSaturation, mHSVValue }),
-                                false, true, true);
-                    } else {
-                        setCustom(Color.HSVToColor(
-                                new float[] { mHSVHue, mHSVSaturation, mHSVValue }),
-                                false, true, true);
-                    }
+                    mHSV[0] = mHSVHue;
+                    mHSV[1] = mHSVSaturation;
+                    mHSV[2] = mHSVValue;
+                    postCustom(mAlpha ? Color.HSVToColor(mSliderAlpha.getProgress(), mHSV)
+                            : Color.HSVToColor(mHSV), false, true, true);
                 }
             }
 
             @Override
-            public void onStopTrackingTouch(@Nullable Slider slider) { }
+            public void onStopTrackingTouch(@Nullable Slider slider) {
+                flushCustom();
+            }
         };
 
         mRGBListener = new DynamicSliderChangeListener<Slider>() {
@@ -478,11 +527,11 @@ public class DynamicColorPicker extends DynamicView {
                     float progress, boolean fromUser) {
                 if (!mUpdatingCustomColor && fromUser) {
                     if (mAlpha) {
-                        setCustom(Color.argb(mSliderAlpha.getProgress(),
+                        postCustom(Color.argb(mSliderAlpha.getProgress(),
                                 mSliderRed.getProgress(), mSliderGreen.getProgress(),
                                 mSliderBlue.getProgress()), true, true, true);
                     } else {
-                        setCustom(Color.rgb(mSliderRed.getProgress(),
+                        postCustom(Color.rgb(mSliderRed.getProgress(),
                                 mSliderGreen.getProgress(), mSliderBlue.getProgress()),
                                 true, true, true);
                     }
@@ -490,7 +539,9 @@ public class DynamicColorPicker extends DynamicView {
             }
 
             @Override
-            public void onStopTrackingTouch(@Nullable Slider slider) { }
+            public void onStopTrackingTouch(@Nullable Slider slider) {
+                flushCustom();
+            }
         };
 
         mCMYKListener = new DynamicSliderChangeListener<Slider>() {
@@ -501,14 +552,16 @@ public class DynamicColorPicker extends DynamicView {
             public void onProgressChanged(@Nullable Slider slider, 
                     float progress, boolean fromUser) {
                 if (!mUpdatingCustomColor && fromUser) {
-                    setCustom(DynamicColorUtils.CMYKToRGB(mSliderCyan.getProgress(),
+                    postCustom(DynamicColorUtils.CMYKToRGB(mSliderCyan.getProgress(),
                             mSliderMagenta.getProgress(), mSliderYellow.getProgress(),
                             mSliderBlack.getProgress()), true, true, false);
                 }
             }
 
             @Override
-            public void onStopTrackingTouch(@Nullable Slider slider) { }
+            public void onStopTrackingTouch(@Nullable Slider slider) {
+                flushCustom();
+            }
         };
 
         mControlAll.setOnClickListener(new OnClickListener() {
@@ -589,10 +642,9 @@ public class DynamicColorPicker extends DynamicView {
                     return;
                 }
 
-                mDynamics = DynamicTheme.getInstance().getColors()
-                        .getAll().toArray(new Integer[0]);
+                mDynamics = toColors(DynamicTheme.getInstance().getColors().getAll());
                 if (mDynamics.length == 0 && result != null && result.getData() != null) {
-                    mDynamics = result.getData().values().toArray(new Integer[0]);
+                    mDynamics = toColors(result.getData().values());
                 }
 
                 setDynamics(mSelectedColor);
@@ -610,7 +662,7 @@ public class DynamicColorPicker extends DynamicView {
         }
 
         if (mColors == null) {
-            mColors = DynamicPalette.MATERIAL_COLORS;
+            mColors = DynamicPickerUtils.toPrimitive(DynamicPalette.MATERIAL_COLORS);
         }
 
         if (mAlpha) {
@@ -636,13 +688,14 @@ public class DynamicColorPicker extends DynamicView {
             }
         }));
 
-        mRecents = loadRecents();
+        mRecents = loadRecentValues();
         setCustom(mSelectedColor, true, true, true);
         setDynamics(mSelectedColor);
         setRecents(mSelectedColor);
 
-        if (mColors != null && Arrays.asList(mColors).contains(mSelectedColor)) {
-            setShades(Arrays.asList(mColors).indexOf(mSelectedColor), mSelectedColor);
+        int position = DynamicPickerUtils.indexOf(mColors, mSelectedColor);
+        if (position != -1) {
+            setShades(position, mSelectedColor);
         } else {
             initializeShades(true);
         }
@@ -659,6 +712,7 @@ public class DynamicColorPicker extends DynamicView {
         super.onDetachedFromWindow();
 
         DynamicTaskUtils.cancelTask(mWallpaperColorsTask, true);
+        flushCustom();
     }
 
     @Override
@@ -666,6 +720,24 @@ public class DynamicColorPicker extends DynamicView {
         return null;
     }
 
+    /**
+     * Converts the supplied collection of colors into a primitive array.
+     *
+     * @param colors The collection of colors to be converted.
+     *
+     * @return The primitive array of the supplied colors.
+     */
+    private static @NonNull int[] toColors(@NonNull Collection<Integer> colors) {
+        int[] primitives = new int[colors.size()];
+
+        int i = 0;
+        for (Integer color : colors) {
+            primitives[i++] = color != null ? color : Theme.Color.UNKNOWN;
+        }
+
+        return primitives;
+    }
+
     /**
      * Initialize shades to find out the matching color palette.
      *
@@ -674,7 +746,7 @@ public class DynamicColorPicker extends DynamicView {
     private void initializeShades(boolean showCustom) {
         if (mShades != null) {
             for (int i = 0; i < mShades.length; i++) {
-                if (Arrays.asList(mShades[i]).contains(mSelectedColor)) {
+                if (DynamicPickerUtils.indexOf(mShades[i], mSelectedColor) != -1) {
                     setSelectedColor(mColorsGridView, mColors[i]);
                     setShades(i, mSelectedColor);
                     break;
@@ -713,12 +785,17 @@ public class DynamicColorPicker extends DynamicView {
      */
     public void setCustom(@ColorInt int color, boolean setHSV,
             boolean setRGB, boolean setCMYK) {
+        cancelCustom();
+
         mUpdatingCustomColor = true;
         mSelectedColor = color;
         setPresets(color);
 
-        mEditText.setText(DynamicColorUtils.getColorString(color, mAlpha, false));
-        mEditText.setSelection(mEditText.getText().length());
+        String colorString = DynamicColorUtils.getColorString(color, mAlpha, false);
+        if (!TextUtils.equals(colorString, mEditText.getText())) {
+            mEditText.setText(colorString);
+            mEditText.setSelection(mEditText.getText().length());
+        }
         mSliderAlpha.setProgress(Color.alpha(color));
 
         if (setRGB) {
@@ -733,6 +810,55 @@ public class DynamicColorPicker extends DynamicView {
         mUpdatingCustomColor = false;
     }
 
+    /**
+     * Post the custom color to be applied on the next frame.
+     * <p>The subsequent calls before the next frame will replace the pending color, so that
+     * the custom controls are updated at most once per frame while dragging a slider.
+     *
+     * @param color The selected color.
+     * @param setHSV {@code true} to set HSV vales.
+     * @param setRGB {@code true} to set RGB values.
+     * @param setCMYK {@code true} to set CMYK values.
+     *
+     * @see #setCustom(int, boolean, boolean, boolean)
+     */
+    protected void postCustom(@ColorInt int color, boolean setHSV,
+            boolean setRGB, boolean setCMYK) {
+        mSelectedColor = color;
+        mPendingColor = color;
+        mPendingHSV |= setHSV;
+        mPendingRGB |= setRGB;
+        mPendingCMYK |= setCMYK;
+
+        if (!mCustomPending) {
+            mCustomPending = true;
+            Choreographer.getInstance().postFrameCallback(mCustomFrameCallback);
+        }
+    }
+
+    /**
+     * Apply the pending custom color immediately, if any.
+     */
+    protected void flushCustom() {
+        if (mCustomPending) {
+            setCustom(mPendingColor, mPendingHSV, mPendingRGB, mPendingCMYK);
+        }
+    }
+
+    /**
+     * Cancel the pending custom color, if any.
+     */
+    private void cancelCustom() {
+        if (mCustomPending) {
+            Choreographer.getInstance().removeFrameCallback(mCustomFrameCallback);
+        }
+
+        mCustomPending = false;
+        mPendingHSV = false;
+        mPendingRGB = false;
+        mPendingCMYK = false;
+    }
+
     /**
      * Set the ARGB values according to the selected color.
      *
@@ -750,13 +876,12 @@ public class DynamicColorPicker extends DynamicView {
      * @param color The selected color.
      */
     private void setCMYKColor(@ColorInt int color) {
-        float[] cmyk = new float[4];
-        DynamicColorUtils.colorToCMYK(color, cmyk);
+        DynamicColorUtils.colorToCMYK(color, mCMYK);
 
-        mSliderCyan.setProgress(Math.round(cmyk[0] * 100));
-        mSliderMagenta.setProgress(Math.round(cmyk[1] * 100));
-        mSliderYellow.setProgress(Math.round(cmyk[2] * 100));
-        mSliderBlack.setProgress(Math.round(cmyk[3] * 100));
+        mSliderCyan.setProgress(Math.round(mCMYK[0] * 100));
+        mSliderMagenta.setProgress(Math.round(mCMYK[1] * 100));
+        mSliderYellow.setProgress(Math.round(mCMYK[2] * 100));
+        mSliderBlack.setProgress(Math.round(mCMYK[3] * 100));
     }
 
     /**
@@ -765,20 +890,25 @@ public class DynamicColorPicker extends DynamicView {
      * @param color The selected color.
      */
     private void setHSVColor(@ColorInt int color, boolean setProgress) {
-        float[] hsv = new float[3];
-        Color.colorToHSV(DynamicColorUtils.removeAlpha(color), hsv);
-        mHSVHue = hsv[0];
-        mHSVSaturation = hsv[1] * 100;
-        mHSVValue = hsv[2] * 100;
+        Color.colorToHSV(DynamicColorUtils.removeAlpha(color), mHSV);
+        mHSVHue = mHSV[0];
+        mHSVSaturation = mHSV[1] * 100;
+        mHSVValue = mHSV[2] * 100;
 
         if (setProgress) {
-            mSliderHue.setProgress(Math.round(hsv[0]));
+            mSliderHue.setProgress(Math.round(mHSVHue));
             mSliderSaturation.setProgress(Math.round(mHSVSaturation));
             mSliderValue.setProgress(Math.round(mHSVValue));
         }
 
-        mSliderHue.setColor(Color.HSVToColor(new float[] { mSliderHue.getProgress(), 1f, 1f }));
-        mSliderSaturation.setColor(Color.HSVToColor(new float[] { mHSVHue, mHSVSaturation, 1f }));
+        mHSV[0] = mSliderHue.getProgress();
+        mHSV[1] = 1f;
+        mHSV[2] = 1f;
+        mSliderHue.setColor(Color.HSVToColor(mHSV));
+
+        mHSV[0] = mHSVHue;
+        mHSV[1] = mHSVSaturation;
+        mSliderSaturation.setColor(Color.HSVToColor(mHSV));
         mSliderValue.setColor(color);
     }
 
@@ -806,11 +936,10 @@ public class DynamicColorPicker extends DynamicView {
         setSelectedColor(mDynamicGridView, color);
 
         if (mShadesCurrent != null) {
-            if (!Arrays.asList(mShadesCurrent).contains(color)) {
+            if (DynamicPickerUtils.indexOf(mShadesCurrent, color) == -1) {
                 Dynamic.setVisibility(mShadesView, GONE);
-            } else {
-                setSelectedColor(mColorsGridView,
-                        mColors[Arrays.asList(mShades).indexOf(mShadesCurrent)]);
+            } else if (mShadesPosition < mColors.length) {
+                setSelectedColor(mColorsGridView, mColors[mShadesPosition]);
             }
         }
 
@@ -830,6 +959,7 @@ public class DynamicColorPicker extends DynamicView {
             if (mShades[position] != null) {
                 Dynamic.setVisibility(mShadesView, VISIBLE);
                 mShadesCurrent = mShades[position];
+                mShadesPosition = position;
                 mShadesGridView.setAdapter(new DynamicColorsAdapter(mShadesCurrent,
                         color, mColorShape, mAlpha, Dynamic.getContrastWithColor(
                                 mShadesGridView, Theme.Color.UNKNOWN), new DynamicColorListener() {
@@ -1029,17 +1159,37 @@ public class DynamicColorPicker extends DynamicView {
 
     /**
      * Get the color entries used by the picker.
+     * <p>It returns a boxed copy, use {@link #getColorValues()} to access the entries directly.
      *
      * @return The color entries used by the picker.
      */
     public Integer[] getColors() {
+        return DynamicPickerUtils.toBoxed(mColors);
+    }
+
+    /**
+     * Get the primitive color entries used by the picker.
+     *
+     * @return The primitive color entries used by the picker.
+     */
+    public int[] getColorValues() {
         return mColors;
     }
 
     /**
-     * @return The shade entries used by the picker.
+     * @return The boxed copy of the shade entries used by the picker, use
+     *         {@link #getShadeValues()} to access the entries directly.
      */
     public Integer[][] getShades() {
+        return DynamicPickerUtils.toBoxed(mShades);
+    }
+
+    /**
+     * Get the primitive shade entries used by the picker.
+     *
+     * @return The primitive shade entries used by the picker.
+     */
+    public int[][] getShadeValues() {
         return mShades;
     }
 
@@ -1050,16 +1200,36 @@ public class DynamicColorPicker extends DynamicView {
      * @param shades The shade entries to be set.
      */
     public void setColors(@NonNull Integer[] colors, @Nullable Integer[][] shades) {
+        setColors(DynamicPickerUtils.toPrimitive(colors), DynamicPickerUtils.toPrimitive(shades));
+    }
+
+    /**
+     * Set the colors and their shades.
+     *
+     * @param colors The color entries to be set.
+     * @param shades The shade entries to be set.
+     */
+    public void setColors(@NonNull int[] colors, @Nullable int[][] shades) {
         this.mColors = colors;
         this.mShades = shades;
     }
 
     /**
      * Get the dynamic color entries used by this picker.
+     * <p>It returns a boxed copy, use {@link #getDynamicValues()} to access the entries directly.
      *
      * @return The dynamic color entries used by this picker.
      */
     public @Nullable Integer[] getDynamics() {
+        return DynamicPickerUtils.toBoxed(mDynamics);
+    }
+
+    /**
+     * Get the primitive dynamic color entries used by this picker.
+     *
+     * @return The primitive dynamic color entries used by this picker.
+     */
+    public @Nullable int[] getDynamicValues() {
         return mDynamics;
     }
 
@@ -1069,15 +1239,34 @@ public class DynamicColorPicker extends DynamicView {
      * @param colors The color entries to be set.
      */
     public void setDynamics(@Nullable Integer[] colors) {
+        setDynamics(DynamicPickerUtils.toPrimitive(colors));
+    }
+
+    /**
+     * Set the dynamic color entries used by this picker.
+     *
+     * @param colors The color entries to be set.
+     */
+    public void setDynamics(@Nullable int[] colors) {
         this.mDynamics = colors;
     }
 
     /**
      * Get the recent entries used by this popup.
+     * <p>It returns a boxed copy, use {@link #getRecentValues()} to access the entries directly.
      *
      * @return The recent entries used by this popup.
      */
     public @Nullable Integer[] getRecents() {
+        return DynamicPickerUtils.toBoxed(mRecents);
+    }
+
+    /**
+     * Get the primitive recent entries used by this popup.
+     *
+     * @return The primitive recent entries used by this popup.
+     */
+    public @Nullable int[] getRecentValues() {
         return mRecents;
     }
 
@@ -1173,70 +1362,59 @@ public class DynamicColorPicker extends DynamicView {
 
     /**
      * Save the selected color to recents list.
+     * <p>It will call the {@link #saveToRecents(Integer)} by default, so that the existing
+     * implementations will keep working.
+     *
+     * @param color The selected color.
+     *
+     * @see DynamicColorRecents
+     */
+    @SuppressWarnings("deprecation")
+    protected void saveToRecents(@ColorInt int color) {
+        saveToRecents(Integer.valueOf(color));
+    }
+
+    /**
+     * Save the selected color to recents list.
+     * <p>It will be updated in memory and persisted asynchronously.
      *
      * @param color The selected color.
+     *
+     * @deprecated Override {@link #saveToRecents(int)} to avoid boxing the color.
      */
+    @Deprecated
     protected void saveToRecents(@ColorInt Integer color) {
-        if (color == Theme.AUTO) {
+        if (color == null) {
             return;
         }
 
-        mRecentsList = new ArrayList<Integer>();
-        mRecents = loadRecents();
-
-        if (mRecents != null) {
-            mRecentsList.addAll(Arrays.asList(mRecents));
-        }
-
-        mRecentsList.remove(color);
-        mRecentsList.add(0, color);
-
-        if (mRecentsList.size() > ADS_COLOR_PICKER_RECENTS_MAX) {
-            List<Integer> mRecentsTemp = mRecentsList.subList(0, ADS_COLOR_PICKER_RECENTS_MAX);
-
-            mRecentsList = new ArrayList<>();
-            mRecentsList.addAll(mRecentsTemp);
-        }
-
-        StringBuilder recents = new StringBuilder();
-        for (int i = 0; i < mRecentsList.size(); i++) {
-            recents.append(mRecentsList.get(i)).append(ADS_COLOR_PICKER_RECENTS_SPLIT);
-        }
+        DynamicColorRecents.get(mAlpha).add(color);
+        mRecents = loadRecentValues();
+    }
 
-        if (!mAlpha) {
-            DynamicPreferences.getInstance().save(
-                    ADS_PREF_COLOR_PICKER_RECENTS, recents.toString());
-        } else {
-            DynamicPreferences.getInstance().save(
-                    ADS_PREF_COLOR_PICKER_RECENTS_ALPHA, recents.toString());
-        }
+    /**
+     * Returns the recent colors according to the alpha support.
+     * <p>It will call the {@link #loadRecents()} by default, so that the existing
+     * implementations will keep working.
+     *
+     * @return The recent colors according to the alpha support.
+     *
+     * @see DynamicColorRecents
+     */
+    @SuppressWarnings("deprecation")
+    protected @Nullable int[] loadRecentValues() {
+        return DynamicPickerUtils.toPrimitive(loadRecents());
     }
 
     /**
-     * Returns the saved recent colors from the shared preferences.
+     * Returns the recent colors according to the alpha support.
+     *
+     * @return The recent colors according to the alpha support.
      *
-     * @return The saved recent colors from the shared preferences.
+     * @deprecated Override {@link #loadRecentValues()} to avoid boxing the colors.
      */
+    @Deprecated
     protected @Nullable Integer[] loadRecents() {
-        String recentsString;
-        if (mAlpha) {
-            recentsString = DynamicPreferences.getInstance().load(
-                    ADS_PREF_COLOR_PICKER_RECENTS_ALPHA, null);
-        } else {
-            recentsString = DynamicPreferences.getInstance().load(
-                    ADS_PREF_COLOR_PICKER_RECENTS, null);
-        }
-
-         if (recentsString != null) {
-             String[] recentsTemp = recentsString.split(ADS_COLOR_PICKER_RECENTS_SPLIT);
-             Integer[] recents = new Integer[recentsTemp.length];
-             for (int i = 0; i < recentsTemp.length; i++) {
-                 recents[i] = Integer.valueOf(recentsTemp[i]);
-             }
-
-             return recents;
-         }
-
-         return null;
+        return DynamicPickerUtils.toBoxed(DynamicColorRecents.get(mAlpha).getColors());
     }
 }
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2018-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.picker.color;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+
+import com.pranavpandey.android.dynamic.preferences.DynamicPreferences;
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.util.concurrent.DynamicConcurrent;
+
+/**
+ * An in-memory ring buffer of the recently selected colors for the {@link DynamicColorPicker}.
+ * <p>The colors are parsed from the shared preferences only when the stored value is
+ * changed and the changes are persisted asynchronously, so selecting a color does not parse
+ * or write the preference on the main thread.
+ */
+public class DynamicColorRecents {
+
+    /**
+     * Recents for the colors without alpha.
+     */
+    private static DynamicColorRecents sRecents;
+
+    /**
+     * Recents for the colors with alpha.
+     */
+    private static DynamicColorRecents sRecentsAlpha;
+
+    /**
+     * Shared preference key to persist the recent colors.
+     */
+    private final String mKey;
+
+    /**
+     * Ring buffer to store the recent colors.
+     */
+    private final int[] mColors;
+
+    /**
+     * Index of the most recent color in the ring buffer.
+     */
+    private int mHead;
+
+    /**
+     * Number of colors in the ring buffer.
+     */
+    private int mSize;
+
+    /**
+     * {@code true} if the colors have been loaded from the shared preferences.
+     */
+    private boolean mLoaded;
+
+    /**
+     * Preference value of the colors in the ring buffer.
+     */
+    private String mPreference;
+
+    /**
+     * {@code true} if the colors are scheduled or being persisted.
+     */
+    private boolean mSavePending;
+
+    /**
+     * Runnable to persist the recent colors in the background.
+     */
+    private final Runnable mSaveRunnable = new Runnable() {
+        @Override
+        public void run() {
+            String recents;
+            synchronized (DynamicColorRecents.this) {
+                recents = mPreference;
+            }
+
+            DynamicPreferences.getInstance().save(mKey, recents);
+
+            synchronized (DynamicColorRecents.this) {
+                // Persist again if a color has been added while saving.
+                if (recents == mPreference) {
+                    mSavePending = false;
+                } else {
+                    DynamicConcurrent.getDefaultExecutor().execute(this);
+                }
+            }
+        }
+    };
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param key The shared preference key to persist the recent colors.
+     * @param capacity The maximum number of the recent colors.
+     */
+    private DynamicColorRecents(@NonNull String key, int capacity) {
+        this.mKey = key;
+        this.mColors = new int[capacity];
+    }
+
+    /**
+     * Returns the recents according to the alpha support.
+     *
+     * @param alpha {@code true} to get the recents for the colors with alpha.
+     *
+     * @return The recents according to the alpha support.
+     */
+    public static synchronized @NonNull DynamicColorRecents get(boolean alpha) {
+        if (alpha) {
+            if (sRecentsAlpha == null) {
+                sRecentsAlpha = new DynamicColorRecents(
+                        DynamicColorPicker.ADS_PREF_COLOR_PICKER_RECENTS_ALPHA,
+                        DynamicColorPicker.ADS_COLOR_PICKER_RECENTS_MAX);
+            }
+
+            return sRecentsAlpha;
+        }
+
+        if (sRecents == null) {
+            sRecents = new DynamicColorRecents(
+                    DynamicColorPicker.ADS_PREF_COLOR_PICKER_RECENTS,
+                    DynamicColorPicker.ADS_COLOR_PICKER_RECENTS_MAX);
+        }
+
+        return sRecents;
+    }
+
+    /**
+     * Load the colors from the shared preferences if they are not loaded yet or the stored
+     * value has been changed, for example, by another instance or after a restore.
+     * <p>The colors added in memory will be kept till they are persisted.
+     */
+    private void ensureLoaded() {
+        if (mSavePending) {
+            return;
+        }
+
+        String recents = DynamicPreferences.getInstance().load(mKey, null);
+        if (mLoaded && (recents == null ? mPreference == null : recents.equals(mPreference))) {
+            return;
+        }
+
+        mLoaded = true;
+        mPreference = recents;
+        mHead = 0;
+        mSize = 0;
+        if (recents == null) {
+            return;
+        }
+
+        int start = 0;
+        int end;
+        while (mSize < mColors.length && start < recents.length()) {
+            end = recents.indexOf(DynamicColorPicker.ADS_COLOR_PICKER_RECENTS_SPLIT, start);
+            if (end == -1) {
+                end = recents.length();
+            }
+
+            try {
+                mColors[mSize] = Integer.parseInt(recents.substring(start, end));
+                mSize++;
+            } catch (NumberFormatException ignored) {
+            }
+
+            start = end + DynamicColorPicker.ADS_COLOR_PICKER_RECENTS_SPLIT.length();
+        }
+    }
+
+    /**
+     * Returns the color at the supplied position, the most recent color is at {@code 0}.
+     *
+     * @param position The position of the color.
+     *
+     * @return The color at the supplied position.
+     */
+    private @ColorInt int getColor(int position) {
+        return mColors[(mHead + position) % mColors.length];
+    }
+
+    /**
+     * Set the color at the supplied position, the most recent color is at {@code 0}.
+     *
+     * @param position The position of the color.
+     * @param color The color to be set.
+     */
+    private void setColor(int position, @ColorInt int color) {
+        mColors[(mHead + position) % mColors.length] = color;
+    }
+
+    /**
+     * Returns the recent colors in the order they were selected, the most recent color first.
+     *
+     * @return The recent colors in the order they were selected.
+     */
+    public synchronized @NonNull int[] getColors() {
+        ensureLoaded();
+
+        int[] colors = new int[mSize];
+        for (int i = 0; i < mSize; i++) {
+            colors[i] = getColor(i);
+        }
+
+        return colors;
+    }
+
+    /**
+     * Add a color to the recents and persist it asynchronously.
+     * <p>It will be moved to the front if it is already present.
+     *
+     * @param color The color to be added.
+     */
+    public synchronized void add(@ColorInt int color) {
+        if (color == Theme.AUTO) {
+            return;
+        }
+
+        ensureLoaded();
+
+        int position = 0;
+        while (position < mSize && getColor(position) != color) {
+            position++;
+        }
+
+        if (position == 0 && mSize > 0) {
+            return;
+        }
+
+        if (position == mSize) {
+            mHead = (mHead - 1 + mColors.length) % mColors.length;
+            mSize = Math.min(mSize + 1, mColors.length);
+        } else {
+            for (int i = position; i > 0; i--) {
+                setColor(i, getColor(i - 1));
+            }
+        }
+
+        setColor(0, color);
+        mPreference = toPreference();
+
+        if (!mSavePending) {
+            mSavePending = true;
+            DynamicConcurrent.getDefaultExecutor().execute(mSaveRunnable);
+        }
+    }
+
+    /**
+     * Returns the recent colors in the shared preferences format.
+     *
+     * @return The recent colors in the shared preferences format.
+     */
+    private @NonNull String toPreference() {
+        StringBuilder recents = new StringBuilder();
+        for (int i = 0; i < mSize; i++) {
+            recents.append(getColor(i)).append(DynamicColorPicker.ADS_COLOR_PICKER_RECENTS_SPLIT);
+        }
+
+        return recents.toString();
+    }
+}
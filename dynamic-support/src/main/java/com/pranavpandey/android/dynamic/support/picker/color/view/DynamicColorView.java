@@ -29,6 +29,8 @@ import android.graphics.RadialGradient;
 import android.graphics.RectF;
 import android.graphics.Shader;
 import android.graphics.drawable.Drawable;
+import android.graphics.drawable.GradientDrawable;
+import android.graphics.drawable.InsetDrawable;
 import android.graphics.drawable.StateListDrawable;
 import android.os.Build;
 import android.util.AttributeSet;
@@ -38,6 +40,7 @@ import android.view.ViewTreeObserver;
 import androidx.annotation.AttrRes;
 import androidx.annotation.ColorInt;
 import androidx.annotation.ColorRes;
+import androidx.annotation.DrawableRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
@@ -45,6 +48,7 @@ import androidx.core.content.ContextCompat;
 import com.pranavpandey.android.dynamic.support.Defaults;
 import com.pranavpandey.android.dynamic.support.Dynamic;
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.graphics.DynamicBitmapCache;
 import com.pranavpandey.android.dynamic.support.graphics.DynamicPaint;
 import com.pranavpandey.android.dynamic.support.picker.color.DynamicColorPicker;
 import com.pranavpandey.android.dynamic.support.picker.color.DynamicColorShape;
@@ -54,7 +58,6 @@ import com.pranavpandey.android.dynamic.support.util.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.widget.DynamicFrameLayout;
 import com.pranavpandey.android.dynamic.support.widget.tooltip.DynamicTooltip;
 import com.pranavpandey.android.dynamic.theme.Theme;
-import com.pranavpandey.android.dynamic.util.DynamicBitmapUtils;
 import com.pranavpandey.android.dynamic.util.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.util.DynamicSdkUtils;
 import com.pranavpandey.android.dynamic.util.DynamicUnitUtils;
@@ -64,7 +67,7 @@ import com.pranavpandey.android.dynamic.util.DynamicUnitUtils;
  * <p>It will provide various useful methods for the {@link DynamicColorPicker}
  * to represent a set of colors and select a color from it.
  */
-public class DynamicColorView extends DynamicFrameLayout {
+public class DynamicColorView extends DynamicFrameLayout implements DynamicTooltip.Provider {
 
     /**
      * Constant for the color view icon divisor.
@@ -112,10 +115,28 @@ public class DynamicColorView extends DynamicFrameLayout {
     private Paint mSelectorPaint;
 
     /**
-     * Bitmap for the selector drawable.
+     * Drawable resource for the selector.
+     */
+    private @DrawableRes int mSelectorRes;
+
+    /**
+     * Shared bitmap for the selector drawable.
+     * <p>It must not be modified or recycled as it is used by the other color views.
+     *
+     * @see DynamicBitmapCache
      */
     private Bitmap mSelectorBitmap;
 
+    /**
+     * Drawable for the pressed state of this color view.
+     */
+    private GradientDrawable mPressedDrawable;
+
+    /**
+     * State list drawable to use it as the foreground for this color view.
+     */
+    private StateListDrawable mForegroundDrawable;
+
     /**
      * Shape used by this color view.
      *
@@ -222,8 +243,7 @@ public class DynamicColorView extends DynamicFrameLayout {
         if (color == Theme.AUTO) {
             color = getContrastWithColor();
             @ColorInt int tintColor = Dynamic.getTintColor(getContrastWithColor());
-            mSelectorBitmap = DynamicBitmapUtils.getBitmap(
-                    DynamicResourceUtils.getDrawable(getContext(), R.drawable.ads_ic_play));
+            mSelectorRes = R.drawable.ads_ic_play;
             mColorPaint.setColor(getContrastWithColor());
             mColorStrokePaint.setColor(DynamicColorUtils.removeAlpha(tintColor));
 
@@ -235,8 +255,7 @@ public class DynamicColorView extends DynamicFrameLayout {
                 mColorPaint.setShader(gradient);
             }
         } else {
-            mSelectorBitmap = DynamicBitmapUtils.getBitmap(
-                    DynamicResourceUtils.getDrawable(getContext(), R.drawable.ads_ic_check));
+            mSelectorRes = R.drawable.ads_ic_check;
             mColorPaint.setColor(color);
             mColorStrokePaint.setColor(DynamicColorUtils.removeAlpha(Dynamic.getTintColor(color)));
 
@@ -251,6 +270,40 @@ public class DynamicColorView extends DynamicFrameLayout {
         }
         mSelectorPaint.setColorFilter(new PorterDuffColorFilter(
                 mSelectorPaint.getColor(), PorterDuff.Mode.SRC_ATOP));
+
+        updateSelector();
+        updatePressedDrawable();
+    }
+
+    /**
+     * Update the shared selector bitmap according to the current size.
+     */
+    private void updateSelector() {
+        if (!mSelected || mSelectorRes == 0) {
+            mSelectorBitmap = null;
+            return;
+        }
+
+        int size = Math.min(getWidth(), getHeight());
+        mSelectorBitmap = DynamicBitmapCache.getInstance().getBitmap(getContext(),
+                mSelectorRes, (int) (size - size / ICON_DIVISOR));
+    }
+
+    /**
+     * Update the pressed state drawable according to the current parameters.
+     */
+    private void updatePressedDrawable() {
+        if (mPressedDrawable == null) {
+            return;
+        }
+
+        mPressedDrawable.setColor(mSelectorPaint.getColor());
+        if (mColorShape == DynamicColorShape.CIRCLE) {
+            mPressedDrawable.setShape(GradientDrawable.OVAL);
+        } else {
+            mPressedDrawable.setShape(GradientDrawable.RECTANGLE);
+            mPressedDrawable.setCornerRadius(mCornerRadius);
+        }
     }
 
     @SuppressWarnings("SuspiciousNameCombination")
@@ -285,12 +338,7 @@ public class DynamicColorView extends DynamicFrameLayout {
                 mRectF.width() - Theme.Size.STROKE_PIXEL,
                 mRectF.height() - Theme.Size.STROKE_PIXEL);
 
-        if (mSelected) {
-            int selectorSize = (int) (Math.min(getWidth(), getHeight())
-                    - Math.min(getWidth(), getHeight()) / ICON_DIVISOR);
-            mSelectorBitmap = DynamicBitmapUtils.resizeBitmap(
-                    mSelectorBitmap, selectorSize, selectorSize);
-        }
+        updateSelector();
 
         if (isClickable()) {
             setForeground(getForegroundDrawable());
@@ -311,25 +359,12 @@ public class DynamicColorView extends DynamicFrameLayout {
             canvas.drawRoundRect(mRectF, mCornerRadius, mCornerRadius, mColorStrokePaint);
         }
 
-        if (mSelected) {
+        if (mSelected && mSelectorBitmap != null) {
             canvas.drawBitmap(mSelectorBitmap, (getWidth() - mSelectorBitmap.getWidth()) / 2f,
                     (getHeight() - mSelectorBitmap.getHeight()) / 2f, mSelectorPaint);
         }
     }
 
-    @Override
-    public void onDetachedFromWindow() {
-        super.onDetachedFromWindow();
-
-        try {
-            if (mSelectorBitmap != null && !mSelectorBitmap.isRecycled()) {
-                mSelectorBitmap.recycle();
-                mSelectorBitmap = null;
-            }
-        } catch (Exception ignored) {
-        }
-    }
-
     @Override
     public void setEnabled(boolean enabled) {
         super.setEnabled(enabled);
@@ -339,33 +374,38 @@ public class DynamicColorView extends DynamicFrameLayout {
 
     /**
      * Returns a state list drawable to use it as the foreground for this color view.
+     * <p>It uses a shape drawable for the pressed state, so it does not allocate any bitmap
+     * and will be reused for the subsequent calls.
      *
-     * @return A state list drawable according to the color to use as the foreground  drawable
+     * @return A state list drawable according to the color to use as the foreground drawable
      *         for this color view.
      */
     private StateListDrawable getForegroundDrawable() {
-        Bitmap bitmap = Bitmap.createBitmap((int) mRectF.width() + Theme.Size.STROKE_PIXEL,
-                (int) mRectF.height() + Theme.Size.STROKE_PIXEL, Bitmap.Config.ARGB_8888);
-
-        Canvas canvas = new Canvas(bitmap);
-        if (mColorShape == DynamicColorShape.CIRCLE) {
-            canvas.drawOval(mRectF, mSelectorPaint);
-        } else {
-            canvas.drawRoundRect(mRectF, mCornerRadius, mCornerRadius, mSelectorPaint);
+        if (mForegroundDrawable == null) {
+            mPressedDrawable = new GradientDrawable();
+            mForegroundDrawable = new StateListDrawable();
+            mForegroundDrawable.addState(new int[] { android.R.attr.state_pressed },
+                    new InsetDrawable(mPressedDrawable, Theme.Size.STROKE_PIXEL));
+            mForegroundDrawable.setAlpha(ALPHA_STATE);
         }
 
-        StateListDrawable stateListDrawable = new StateListDrawable();
-        stateListDrawable.addState(new int[] {android.R.attr.state_pressed},
-                DynamicResourceUtils.getDrawable(getContext(), bitmap));
-        stateListDrawable.setAlpha(ALPHA_STATE);
+        updatePressedDrawable();
 
-        return stateListDrawable;
+        return mForegroundDrawable;
     }
 
     /**
      * Set a tooltip for this color view with hexadecimal color string according to its color.
+     * <p>It will be prepared only when it is about to be shown.
+     *
+     * @see #onPrepareTooltip(DynamicTooltip.Tooltip)
      */
     public void setTooltip() {
+        DynamicTooltip.set(this);
+    }
+
+    @Override
+    public void onPrepareTooltip(@NonNull DynamicTooltip.Tooltip tooltip) {
         @ColorInt int color = getColor();
         @ColorInt int tintColor;
         Drawable icon = null;
@@ -382,7 +422,7 @@ public class DynamicColorView extends DynamicFrameLayout {
                     ? R.drawable.ads_ic_play : R.drawable.ads_ic_check);
         }
 
-        DynamicTooltip.set(this, color, tintColor, icon, getColorString());
+        tooltip.set(color, tintColor, icon, getColorString());
     }
 
     @Override
@@ -413,6 +453,7 @@ public class DynamicColorView extends DynamicFrameLayout {
     public void setColorShape(@DynamicColorShape int colorShape) {
         this.mColorShape = colorShape;
 
+        updatePressedDrawable();
         invalidate();
         requestLayout();
     }
@@ -434,6 +475,7 @@ public class DynamicColorView extends DynamicFrameLayout {
     public void setSelected(boolean selected) {
         this.mSelected = selected;
 
+        updateSelector();
         invalidate();
         requestLayout();
     }
@@ -476,6 +518,7 @@ public class DynamicColorView extends DynamicFrameLayout {
     public void setCornerRadius(float cornerRadius) {
         this.mCornerRadius = cornerRadius;
 
+        updatePressedDrawable();
         invalidate();
         requestLayout();
     }
@@ -17,6 +17,8 @@
 package com.pranavpandey.android.dynamic.support.recyclerview.adapter;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
 
 import com.pranavpandey.android.dynamic.support.recyclerview.binder.DynamicRecyclerViewBinder;
 
@@ -39,14 +41,129 @@ public abstract class DynamicSimpleBinderAdapter<VB extends DynamicRecyclerViewB
      */
     private final List<VB> mDataBinders = new ArrayList<>();
 
+    /**
+     * Observer to invalidate the binder offsets on the item count changes.
+     */
+    private final RecyclerView.AdapterDataObserver mOffsetsObserver =
+            new RecyclerView.AdapterDataObserver() {
+        @Override
+        public void onChanged() {
+            invalidateOffsets();
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            invalidateOffsets();
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            invalidateOffsets();
+        }
+    };
+
+    /**
+     * Prefix sum of the binder item counts, the last offset is the total item count.
+     * <p>It will be cached only while this adapter is attached to a recycler view, so that
+     * it can be invalidated by the data observer.
+     */
+    private int[] mOffsets;
+
+    /**
+     * {@code true} if the data observer is registered to invalidate the binder offsets.
+     */
+    private boolean mObservingOffsets;
+
     @Override
-    public int getItemCount() {
-        int itemCount = 0;
-        for (VB binder : mDataBinders) {
-            itemCount += binder.getItemCount();
+    public void onAttachedToRecyclerView(@Nullable RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+
+        if (!mObservingOffsets) {
+            mObservingOffsets = true;
+            registerAdapterDataObserver(mOffsetsObserver);
         }
 
-        return itemCount;
+        invalidateOffsets();
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView);
+
+        if (mObservingOffsets) {
+            mObservingOffsets = false;
+            unregisterAdapterDataObserver(mOffsetsObserver);
+        }
+
+        invalidateOffsets();
+    }
+
+    /**
+     * Invalidate the cached binder offsets.
+     * <p>It must be called if the item count of a binder has been changed without notifying
+     * this adapter.
+     */
+    public void invalidateOffsets() {
+        mOffsets = null;
+    }
+
+    /**
+     * Returns the prefix sum of the binder item counts.
+     *
+     * @return The prefix sum of the binder item counts.
+     */
+    private @NonNull int[] getOffsets() {
+        int[] offsets = mOffsets;
+        if (offsets != null && offsets.length == mDataBinders.size() + 1) {
+            return offsets;
+        }
+
+        offsets = new int[mDataBinders.size() + 1];
+        for (int i = 0; i < mDataBinders.size(); i++) {
+            offsets[i + 1] = offsets[i] + mDataBinders.get(i).getItemCount();
+        }
+
+        if (mObservingOffsets) {
+            mOffsets = offsets;
+        }
+
+        return offsets;
+    }
+
+    /**
+     * Returns the index of the binder displaying the supplied adapter position.
+     *
+     * @param offsets The prefix sum of the binder item counts.
+     * @param position The adapter position to find the binder.
+     *
+     * @return The index of the binder displaying the supplied adapter position,
+     *         otherwise {@code -1}.
+     */
+    private static int getBinderIndex(@NonNull int[] offsets, int position) {
+        int count = offsets.length - 1;
+        if (position < 0 || position >= offsets[count]) {
+            return -1;
+        }
+
+        int low = 0;
+        int high = count - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (offsets[mid + 1] > position) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        return low;
+    }
+
+    @Override
+    public int getItemCount() {
+        int[] offsets = getOffsets();
+
+        return offsets[offsets.length - 1];
     }
 
     @Override
@@ -55,15 +172,12 @@ public abstract class DynamicSimpleBinderAdapter<VB extends DynamicRecyclerViewB
             return 0;
         }
 
-        int itemCount = 0;
-        for (int i = itemCount; i < mDataBinders.size(); i++) {
-            itemCount += mDataBinders.get(i).getItemCount();
-            if (position < itemCount) {
-                return i;
-            }
+        int index = getBinderIndex(getOffsets(), position);
+        if (index < 0) {
+            throw new IllegalArgumentException("Position argument is invalid.");
         }
 
-        throw new IllegalArgumentException("Position argument is invalid.");
+        return index;
     }
 
     @Override
@@ -78,25 +192,42 @@ public abstract class DynamicSimpleBinderAdapter<VB extends DynamicRecyclerViewB
             throw new IllegalStateException("Binder does not exists in the adapter.");
         }
 
-        for (int i = 0; i < viewType; i++) {
-            position += mDataBinders.get(i).getItemCount();
-        }
-
-        return position;
+        return getOffsets()[viewType] + position;
     }
 
     @Override
     public int getBinderPosition(int position) {
-        int binderItemCount;
-        for (VB binder : mDataBinders) {
-            binderItemCount = binder.getItemCount();
-            if (position - binderItemCount < 0) {
-                break;
-            }
-            position -= binderItemCount;
+        if (mDataBinders.size() == 1) {
+            return position;
         }
 
-        return position;
+        int[] offsets = getOffsets();
+        int index = getBinderIndex(offsets, position);
+
+        return position - offsets[index < 0 ? offsets.length - 1 : index];
+    }
+
+    @Override
+    public void notifyBinderDataSetChanged() {
+        invalidateOffsets();
+
+        super.notifyBinderDataSetChanged();
+    }
+
+    @Override
+    public void notifyBinderItemInserted(@NonNull VB binder, int position) {
+        int adapterPosition = getPosition(binder, position);
+        invalidateOffsets();
+
+        notifyItemInserted(adapterPosition);
+    }
+
+    @Override
+    public void notifyBinderItemRemoved(@NonNull VB binder, int position) {
+        int adapterPosition = getPosition(binder, position);
+        invalidateOffsets();
+
+        notifyItemRemoved(adapterPosition);
     }
 
     @Override
@@ -106,16 +237,23 @@ public abstract class DynamicSimpleBinderAdapter<VB extends DynamicRecyclerViewB
 
     @Override
     public void notifyBinderItemRangeInserted(@NonNull VB binder, int position, int itemCount) {
-        notifyItemRangeInserted(getPosition(binder, position), itemCount);
+        int adapterPosition = getPosition(binder, position);
+        invalidateOffsets();
+
+        notifyItemRangeInserted(adapterPosition, itemCount);
     }
 
     @Override
     public void notifyBinderItemRangeRemoved(@NonNull VB binder, int position, int itemCount) {
-        notifyItemRangeRemoved(getPosition(binder, position), itemCount);
+        int adapterPosition = getPosition(binder, position);
+        invalidateOffsets();
+
+        notifyItemRangeRemoved(adapterPosition, itemCount);
     }
 
     /**
      * Get the list of data binders displayed by this adapter.
+     * <p>Call {@link #invalidateOffsets()} after modifying the returned list directly.
      *
      * @return The list of data binders displayed by this adapter.
      */
@@ -130,6 +268,7 @@ public abstract class DynamicSimpleBinderAdapter<VB extends DynamicRecyclerViewB
      */
     public void addDataBinder(@NonNull VB binder) {
         mDataBinders.add(binder);
+        invalidateOffsets();
     }
 
     /**
@@ -139,6 +278,7 @@ public abstract class DynamicSimpleBinderAdapter<VB extends DynamicRecyclerViewB
      */
     public void addDataBinders(@NonNull Collection<VB> binders) {
         mDataBinders.addAll(binders);
+        invalidateOffsets();
     }
 
     /**
@@ -149,5 +289,6 @@ public abstract class DynamicSimpleBinderAdapter<VB extends DynamicRecyclerViewB
     @SafeVarargs
     public final void addDataBinders(@NonNull VB... binders) {
         mDataBinders.addAll(Arrays.asList(binders));
+        invalidateOffsets();
     }
 }
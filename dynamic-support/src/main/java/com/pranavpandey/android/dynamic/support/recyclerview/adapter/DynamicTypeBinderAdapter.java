@@ -2,10 +2,13 @@ package com.pranavpandey.android.dynamic.support.recyclerview.adapter;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
 
 import com.pranavpandey.android.dynamic.support.recyclerview.binder.DynamicRecyclerViewBinder;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 /**
@@ -58,6 +61,142 @@ public abstract class DynamicTypeBinderAdapter<E extends Enum<E>,
      */
     private final Map<E, VB> mDataBinderMap = new HashMap<>();
 
+    /**
+     * Map to find the item type enum of the data binders by their identity.
+     */
+    private final Map<VB, E> mBinderEnumMap = new IdentityHashMap<>();
+
+    /**
+     * Observer to invalidate the position index on the structural data changes.
+     * <p>Range changes do not modify the item types or their positions, so they will keep
+     * the position index.
+     */
+    private final RecyclerView.AdapterDataObserver mIndexObserver =
+            new RecyclerView.AdapterDataObserver() {
+        @Override
+        public void onChanged() {
+            invalidatePositions();
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            invalidatePositions();
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            invalidatePositions();
+        }
+
+        @Override
+        public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+            invalidatePositions();
+        }
+    };
+
+    /**
+     * Item type enum for each adapter position.
+     */
+    private E[] mPositionEnums;
+
+    /**
+     * Binder position for each adapter position.
+     */
+    private int[] mBinderPositions;
+
+    /**
+     * Sorted adapter positions for each item type enum.
+     */
+    private Map<E, int[]> mEnumPositions;
+
+    /**
+     * {@code true} if the data observer is registered to invalidate the position index.
+     */
+    private boolean mObservingPositions;
+
+    @Override
+    public void onAttachedToRecyclerView(@Nullable RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+
+        if (!mObservingPositions) {
+            mObservingPositions = true;
+            registerAdapterDataObserver(mIndexObserver);
+        }
+
+        invalidatePositions();
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView);
+
+        if (mObservingPositions) {
+            mObservingPositions = false;
+            unregisterAdapterDataObserver(mIndexObserver);
+        }
+
+        invalidatePositions();
+    }
+
+    /**
+     * Invalidate the position index.
+     * <p>It must be called if the data has been changed without notifying this adapter.
+     */
+    public void invalidatePositions() {
+        mPositionEnums = null;
+        mBinderPositions = null;
+        mEnumPositions = null;
+    }
+
+    /**
+     * Build the position index if it is not valid.
+     * <p>It will be cached only while this adapter is attached to a recycler view, so that
+     * it can be invalidated by the data observer.
+     *
+     * @return {@code true} if the position index is available.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean buildPositions() {
+        if (mEnumPositions != null) {
+            return true;
+        }
+
+        if (!mObservingPositions) {
+            return false;
+        }
+
+        int count = getItemCount();
+        E[] positionEnums = (E[]) new Enum<?>[count];
+        int[] binderPositions = new int[count];
+        Map<E, int[]> counts = new HashMap<>();
+
+        int[] counter;
+        for (int i = 0; i < count; i++) {
+            positionEnums[i] = getEnumFromOrdinal(getItemViewType(i));
+            if ((counter = counts.get(positionEnums[i])) == null) {
+                counter = new int[1];
+                counts.put(positionEnums[i], counter);
+            }
+
+            binderPositions[i] = counter[0]++;
+        }
+
+        Map<E, int[]> enumPositions = new HashMap<>(counts.size());
+        for (Map.Entry<E, int[]> entry : counts.entrySet()) {
+            enumPositions.put(entry.getKey(), new int[entry.getValue()[0]]);
+        }
+
+        for (int i = 0; i < count; i++) {
+            enumPositions.get(positionEnums[i])[binderPositions[i]] = i;
+        }
+
+        mPositionEnums = positionEnums;
+        mBinderPositions = binderPositions;
+        mEnumPositions = enumPositions;
+
+        return true;
+    }
+
     @Override
     public int getItemCount() {
         int itemCount = 0;
@@ -81,6 +220,17 @@ public abstract class DynamicTypeBinderAdapter<E extends Enum<E>,
     @Override
     public int getPosition(@NonNull VB binder, int binderPosition) {
         E targetViewType = getEnumFromBinder(binder);
+
+        if (buildPositions()) {
+            int[] positions = mEnumPositions.get(targetViewType);
+            if (positions == null || positions.length == 0) {
+                return getItemCount();
+            }
+
+            return binderPosition < 0 ? positions[0] : binderPosition < positions.length
+                    ? positions[binderPosition] : getItemCount();
+        }
+
         for (int i = 0, count = getItemCount(); i < count; i++) {
             if (targetViewType == getEnumFromPosition(i)) {
                 binderPosition--;
@@ -95,6 +245,10 @@ public abstract class DynamicTypeBinderAdapter<E extends Enum<E>,
 
     @Override
     public int getBinderPosition(int position) {
+        if (buildPositions() && position >= 0 && position < mBinderPositions.length) {
+            return mBinderPositions[position];
+        }
+
         E targetViewType = getEnumFromPosition(position);
         int binderPosition = -1;
         for (int i = 0; i <= position; i++) {
@@ -109,27 +263,102 @@ public abstract class DynamicTypeBinderAdapter<E extends Enum<E>,
         return binderPosition;
     }
 
+    /**
+     * Returns the adapter positions for a range of the binder positions.
+     *
+     * @param binder The data binder inside the recycler view.
+     * @param positionStart The position of the first item in the data binder.
+     * @param itemCount Total no. of items in the range.
+     *
+     * @return The sorted adapter positions for the supplied range.
+     */
+    private @NonNull int[] getPositions(@NonNull VB binder, int positionStart, int itemCount) {
+        int[] positions = new int[Math.max(0, itemCount)];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = getPosition(binder, positionStart + i);
+        }
+
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * Returns the no. of contiguous adapter positions starting from the supplied index.
+     *
+     * @param positions The sorted adapter positions.
+     * @param start The index of the first position in the run.
+     *
+     * @return The no. of contiguous adapter positions starting from the supplied index.
+     */
+    private static int getRunLength(@NonNull int[] positions, int start) {
+        int end = start + 1;
+        while (end < positions.length && positions[end] == positions[end - 1] + 1) {
+            end++;
+        }
+
+        return end - start;
+    }
+
+    @Override
+    public void notifyBinderItemInserted(@NonNull VB binder, int position) {
+        invalidatePositions();
+
+        super.notifyBinderItemInserted(binder, position);
+    }
+
+    @Override
+    public void notifyBinderItemRemoved(@NonNull VB binder, int position) {
+        int adapterPosition = getPosition(binder, position);
+        invalidatePositions();
+
+        notifyItemRemoved(adapterPosition);
+    }
+
+    @Override
+    public void notifyBinderItemMoved(@NonNull VB binder, int fromPosition, int toPosition) {
+        int adapterFromPosition = getPosition(binder, fromPosition);
+        int adapterToPosition = getPosition(binder, toPosition);
+        invalidatePositions();
+
+        notifyItemMoved(adapterFromPosition, adapterToPosition);
+    }
+
     @Override
     public void notifyBinderItemRangeChanged(@NonNull VB binder,
             int positionStart, int itemCount) {
-        for (int i = positionStart; i <= itemCount; i++) {
-            notifyItemChanged(getPosition(binder, i));
+        int[] positions = getPositions(binder, positionStart, itemCount);
+
+        for (int i = 0, run; i < positions.length; i += run) {
+            run = getRunLength(positions, i);
+            notifyItemRangeChanged(positions[i], run);
         }
     }
 
     @Override
     public void notifyBinderItemRangeInserted(@NonNull VB binder,
             int positionStart, int itemCount) {
-        for (int i = positionStart; i <= itemCount; i++) {
-            notifyItemInserted(getPosition(binder, i));
+        invalidatePositions();
+        int[] positions = getPositions(binder, positionStart, itemCount);
+
+        for (int i = 0, run; i < positions.length; i += run) {
+            run = getRunLength(positions, i);
+            notifyItemRangeInserted(positions[i], run);
         }
     }
 
     @Override
     public void notifyBinderItemRangeRemoved(@NonNull VB binder,
             int positionStart, int itemCount) {
-        for (int i = positionStart; i <= itemCount; i++) {
-            notifyItemRemoved(getPosition(binder, i));
+        int[] positions = getPositions(binder, positionStart, itemCount);
+        invalidatePositions();
+
+        for (int end = positions.length, run; end > 0; end -= run) {
+            run = 1;
+            while (end - run > 0 && positions[end - run - 1] == positions[end - run] - 1) {
+                run++;
+            }
+
+            notifyItemRangeRemoved(positions[end - run], run);
         }
     }
 
@@ -141,6 +370,10 @@ public abstract class DynamicTypeBinderAdapter<E extends Enum<E>,
      * @return The {@code enum} corresponding to the given position.
      */
     public @NonNull E getEnumFromPosition(int position) {
+        if (mPositionEnums != null && position >= 0 && position < mPositionEnums.length) {
+            return mPositionEnums[position];
+        }
+
         return getEnumFromOrdinal(getItemViewType(position));
     }
 
@@ -153,7 +386,19 @@ public abstract class DynamicTypeBinderAdapter<E extends Enum<E>,
      */
     public abstract @NonNull E getEnumFromOrdinal(int viewType);
 
+    /**
+     * Get the item type enum associated with the data binder.
+     *
+     * @param binder The data binder to get the corresponding {@code enum}.
+     *
+     * @return The {@code enum} corresponding to the given data binder.
+     */
     public @NonNull E getEnumFromBinder(@NonNull VB binder) {
+        E e = mBinderEnumMap.get(binder);
+        if (e != null && getDataBinderMap().get(e) == binder) {
+            return e;
+        }
+
         for (Map.Entry<E, VB> entry : getDataBinderMap().entrySet()) {
             if (entry.getValue().equals(binder)) {
                 return entry.getKey();
@@ -191,5 +436,7 @@ public abstract class DynamicTypeBinderAdapter<E extends Enum<E>,
      */
     public void putDataBinder(@Nullable E e, @NonNull VB binder) {
         getDataBinderMap().put(e, binder);
+        mBinderEnumMap.put(binder, e);
+        invalidatePositions();
     }
 }
@@ -16,7 +16,6 @@
 
 package com.pranavpandey.android.dynamic.support.recyclerview.adapter.factory;
 
-import android.annotation.SuppressLint;
 import android.text.TextUtils;
 import android.widget.Filter;
 import android.widget.Filterable;
@@ -44,6 +43,13 @@ import java.util.List;
 public abstract class DynamicListQueryAdapter<T, Q, VH extends RecyclerView.ViewHolder>
         extends DynamicListAdapter<T, VH> implements Filterable {
 
+    /**
+     * Payload to rebind only the query highlight of the items.
+     *
+     * @see #onHighlightQuery(RecyclerView.ViewHolder, int, Object)
+     */
+    public static final Object PAYLOAD_HIGHLIGHT = new Object();
+
     /**
      * Raw data used by this list adapter.
      */
@@ -88,6 +94,44 @@ public abstract class DynamicListQueryAdapter<T, Q, VH extends RecyclerView.View
         onHighlightQuery(holder, position, getQuery());
     }
 
+    @Override
+    public void onBindViewHolder(@NonNull VH holder, int position,
+            @NonNull List<Object> payloads) {
+        if (!payloads.isEmpty() && isHighlightPayload(payloads)) {
+            onHighlightQuery(holder, position, getQuery());
+        } else {
+            super.onBindViewHolder(holder, position, payloads);
+        }
+    }
+
+    /**
+     * Checks whether the supplied payloads only require to rebind the query highlight.
+     *
+     * @param payloads The payloads to be checked.
+     *
+     * @return {@code true} if the supplied payloads only require to rebind the query highlight.
+     */
+    private static boolean isHighlightPayload(@NonNull List<Object> payloads) {
+        for (Object payload : payloads) {
+            if (payload != PAYLOAD_HIGHLIGHT) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Rebind the query highlight of all the items without binding them again.
+     *
+     * @see #PAYLOAD_HIGHLIGHT
+     */
+    public void notifyHighlightChanged() {
+        if (getItemCount() > 0) {
+            notifyItemRangeChanged(0, getItemCount(), PAYLOAD_HIGHLIGHT);
+        }
+    }
+
     /**
      * This method will be called to highlight the query text.
      *
@@ -123,20 +167,26 @@ public abstract class DynamicListQueryAdapter<T, Q, VH extends RecyclerView.View
      * @param commitCallback Optional runnable that is executed when the List is committed,
      *                       if it is committed.
      * @param filtered {@code true} if the filtered data.
+     *                 <p>The filtered data will be diffed in the background and the query
+     *                 highlight of the existing items will be updated with a payload.
      */
-    @SuppressLint("NotifyDataSetChanged")
     public void setData(@Nullable List<T> data, @Nullable Q query,
-            @Nullable Runnable commitCallback, boolean filtered) {
+            final @Nullable Runnable commitCallback, boolean filtered) {
         if (!filtered) {
             this.mRawData = data;
         }
         this.mQuery = query;
 
-        super.submitList(data, commitCallback);
+        super.submitList(data, !filtered ? commitCallback : new Runnable() {
+            @Override
+            public void run() {
+                notifyHighlightChanged();
 
-        if (filtered) {
-            notifyDataSetChanged();
-        }
+                if (commitCallback != null) {
+                    commitCallback.run();
+                }
+            }
+        });
     }
 
     /**
@@ -255,7 +305,7 @@ public abstract class DynamicListQueryAdapter<T, Q, VH extends RecyclerView.View
     public void setHighlightColor(@ColorInt int highlightColor) {
         this.mHighlightColor = highlightColor;
 
-        submitList(getCurrentList());
+        notifyHighlightChanged();
     }
 
     /**
@@ -70,8 +70,10 @@ public class EmptyBinder extends DynamicQueryBinder<String, String, EmptyBinder.
             return;
         }
 
+        holder.getEmptyView().beginUpdate();
         holder.getEmptyView().setIcon(getDrawable() != null ? getDrawable() : holder.getIcon());
         holder.getEmptyView().setTitle(getData());
+        holder.getEmptyView().endUpdate();
 
         if (isFullSpanForStaggeredGrid()) {
             DynamicLayoutUtils.setFullSpanForView(holder.itemView);
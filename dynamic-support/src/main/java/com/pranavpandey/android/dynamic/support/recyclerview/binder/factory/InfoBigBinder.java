@@ -57,6 +57,7 @@ public class InfoBigBinder extends DynamicDataBinder<DynamicInfo, InfoBigBinder.
             return;
         }
 
+        holder.getDynamicInfo().beginUpdate();
         holder.getDynamicInfo().setIcon(getData().getIcon());
         holder.getDynamicInfo().setIconBig(getData().getIconBig());
         holder.getDynamicInfo().setTitle(getData().getTitle());
@@ -70,7 +71,8 @@ public class InfoBigBinder extends DynamicDataBinder<DynamicInfo, InfoBigBinder.
         holder.getDynamicInfo().setLinksDrawables(getData().getLinksDrawables());
         holder.getDynamicInfo().setLinksColorsId(getData().getLinksColorsResId());
         holder.getDynamicInfo().setLinksColors(getData().getLinksColors());
-        holder.getDynamicInfo().onUpdate();
+        holder.getDynamicInfo().update();
+        holder.getDynamicInfo().endUpdate();
     }
 
     /**
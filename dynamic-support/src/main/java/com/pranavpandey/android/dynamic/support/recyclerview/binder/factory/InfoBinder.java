@@ -59,6 +59,7 @@ public abstract class InfoBinder<Query> extends DynamicQueryBinder<
             return;
         }
 
+        holder.getDynamicInfo().beginUpdate();
         holder.getDynamicInfo().setIcon(getData().getIcon());
         holder.getDynamicInfo().setIconBig(getData().getIconBig());
         holder.getDynamicInfo().setTitle(getData().getTitle());
@@ -72,7 +73,8 @@ public abstract class InfoBinder<Query> extends DynamicQueryBinder<
         holder.getDynamicInfo().setLinksDrawables(getData().getLinksDrawables());
         holder.getDynamicInfo().setLinksColorsId(getData().getLinksColorsResId());
         holder.getDynamicInfo().setLinksColors(getData().getLinksColors());
-        holder.getDynamicInfo().onUpdate();
+        holder.getDynamicInfo().update();
+        holder.getDynamicInfo().endUpdate();
 
         super.onBindViewHolder(holder, position);
     }
@@ -60,25 +60,29 @@ public class ItemBinder extends DynamicDataBinder<DynamicItem, ItemBinder.ViewHo
             return;
         }
 
-        Dynamic.setColorTypeOrColor(holder.getDynamicItemView(),
+        final DynamicItemView itemView = holder.getDynamicItemView();
+        itemView.beginUpdate();
+
+        Dynamic.setColorTypeOrColor(itemView,
                 getData().getColorType(), getData().getColor());
-        Dynamic.setContrastWithColorTypeOrColor(holder.getDynamicItemView(),
+        Dynamic.setContrastWithColorTypeOrColor(itemView,
                 getData().getContrastWithColorType(), getData().getContrastWithColor());
-        Dynamic.setBackgroundAwareSafe(holder.getDynamicItemView(),
+        Dynamic.setBackgroundAwareSafe(itemView,
                 getData().getBackgroundAware(), getData().getContrast(false));
-        holder.getDynamicItemView().setIcon(getData().getIcon());
-        holder.getDynamicItemView().setTitle(getData().getTitle());
-        holder.getDynamicItemView().setSubtitle(getData().getSubtitle());
-        holder.getDynamicItemView().setImageDrawable(getData().getImageDrawable());
-        holder.getDynamicItemView().setShowDivider(getData().isShowDivider());
+        itemView.setIcon(getData().getIcon());
+        itemView.setTitle(getData().getTitle());
+        itemView.setSubtitle(getData().getSubtitle());
+        itemView.setImageDrawable(getData().getImageDrawable());
+        itemView.setShowDivider(getData().isShowDivider());
 
         if (getData().getOnClickListener() != null) {
-            Dynamic.setOnClickListener(holder.getDynamicItemView(),
-                    getData().getOnClickListener());
+            Dynamic.setOnClickListener(itemView, getData().getOnClickListener());
         } else {
-            Dynamic.setClickable(holder.getDynamicItemView(), false);
+            Dynamic.setClickable(itemView, false);
         }
 
+        itemView.endUpdate();
+
         if (getBinderAdapter().getLayoutManager() instanceof FlexboxLayoutManager) {
             holder.getDynamicItemView().getLayoutParams().width =
                     ViewGroup.LayoutParams.WRAP_CONTENT;
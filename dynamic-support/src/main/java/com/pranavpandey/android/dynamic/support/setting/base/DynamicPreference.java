@@ -31,7 +31,6 @@ import androidx.annotation.AttrRes;
 import androidx.annotation.CallSuper;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import androidx.preference.PreferenceManager;
 
 import com.pranavpandey.android.dynamic.preferences.DynamicPreferences;
 import com.pranavpandey.android.dynamic.support.Dynamic;
@@ -246,8 +245,7 @@ public abstract class DynamicPreference extends DynamicView
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
 
-        PreferenceManager.getDefaultSharedPreferences(getContext())
-                .unregisterOnSharedPreferenceChangeListener(this);
+        DynamicPreferenceDispatcher.getInstance().unregister(this);
     }
 
     @Override
@@ -285,16 +283,12 @@ public abstract class DynamicPreference extends DynamicView
 
     /**
      * Manage the shared preferences listener according to the preference keys.
+     * <p>It will receive the changes only for the preference, alternate preference and
+     * dependency keys via {@link DynamicPreferenceDispatcher}.
      */
     private void setPreferenceListener() {
-        if (getPreferenceKey() != null || getAltPreferenceKey() != null
-                || getDependency() != null) {
-            PreferenceManager.getDefaultSharedPreferences(getContext())
-                    .registerOnSharedPreferenceChangeListener(this);
-        } else {
-            PreferenceManager.getDefaultSharedPreferences(getContext())
-                    .unregisterOnSharedPreferenceChangeListener(this);
-        }
+        DynamicPreferenceDispatcher.getInstance().register(getContext(), this,
+                getPreferenceKey(), getAltPreferenceKey(), getDependency());
     }
 
     /**
@@ -550,6 +544,7 @@ public abstract class DynamicPreference extends DynamicView
     public void setDependency(@Nullable String dependency) {
         this.mDependency = dependency;
 
+        setPreferenceListener();
         updateDependency();
     }
 
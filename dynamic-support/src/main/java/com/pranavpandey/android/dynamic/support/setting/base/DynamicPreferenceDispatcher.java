@@ -0,0 +1,232 @@
+/*
+ * Copyright 2018-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.setting.base;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.preference.PreferenceManager;
+
+import com.pranavpandey.android.dynamic.support.theme.DynamicListenerRegistry;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A dispatcher to route the default shared preferences changes to the interested listeners.
+ * <p>It registers a single listener with the shared preferences and notifies only the
+ * listeners registered for the changed key, instead of waking every listener on each change.
+ *
+ * <p>Listeners are held with weak references, so they will be removed automatically once
+ * they are garbage collected.
+ */
+public class DynamicPreferenceDispatcher
+        implements SharedPreferences.OnSharedPreferenceChangeListener {
+
+    /**
+     * Singleton instance of {@link DynamicPreferenceDispatcher}.
+     */
+    private static DynamicPreferenceDispatcher sInstance;
+
+    /**
+     * Listeners according to the shared preferences keys.
+     */
+    private final Map<String, DynamicListenerRegistry<
+            SharedPreferences.OnSharedPreferenceChangeListener>> mListeners;
+
+    /**
+     * Keys registered for each listener.
+     */
+    private final Map<SharedPreferences.OnSharedPreferenceChangeListener, String[]> mKeys;
+
+    /**
+     * Shared preferences observed by this dispatcher.
+     */
+    private SharedPreferences mSharedPreferences;
+
+    /**
+     * Number of callbacks dispatched to the interested listeners.
+     */
+    private long mDispatchedCount;
+
+    /**
+     * Number of callbacks suppressed for the other registered listeners.
+     */
+    private long mSuppressedCount;
+
+    /**
+     * Making default constructor private so that it cannot be initialized without a context.
+     * <p>Use {@link #getInstance()} instead.
+     */
+    private DynamicPreferenceDispatcher() {
+        this.mListeners = new HashMap<>();
+        this.mKeys = new WeakHashMap<>();
+    }
+
+    /**
+     * Get instance to access public methods. Must be called before accessing the methods.
+     *
+     * @return The singleton instance of this class.
+     */
+    public static synchronized @NonNull DynamicPreferenceDispatcher getInstance() {
+        if (sInstance == null) {
+            sInstance = new DynamicPreferenceDispatcher();
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Register a listener to receive the changes for the supplied keys.
+     * <p>It will replace the keys registered previously for the same listener and the
+     * {@code null} keys will be ignored.
+     *
+     * @param context The context to get the default shared preferences.
+     * @param listener The listener to be registered.
+     * @param keys The shared preferences keys to be observed.
+     */
+    public synchronized void register(@NonNull Context context,
+            @NonNull SharedPreferences.OnSharedPreferenceChangeListener listener,
+            @Nullable String... keys) {
+        if (Arrays.equals(mKeys.get(listener), keys)) {
+            return;
+        }
+
+        unregister(listener);
+
+        if (keys == null) {
+            return;
+        }
+
+        int count = 0;
+        for (String key : keys) {
+            if (key == null) {
+                continue;
+            }
+
+            DynamicListenerRegistry<SharedPreferences.OnSharedPreferenceChangeListener>
+                    registry = mListeners.get(key);
+            if (registry == null) {
+                registry = new DynamicListenerRegistry<>();
+                mListeners.put(key, registry);
+            }
+
+            if (registry.add(listener)) {
+                count++;
+            }
+        }
+
+        if (count == 0) {
+            return;
+        }
+
+        mKeys.put(listener, keys.clone());
+
+        if (mSharedPreferences == null) {
+            mSharedPreferences = PreferenceManager.getDefaultSharedPreferences(
+                    context.getApplicationContext());
+            mSharedPreferences.registerOnSharedPreferenceChangeListener(this);
+        }
+    }
+
+    /**
+     * Unregister a listener to stop receiving the changes.
+     *
+     * @param listener The listener to be unregistered.
+     */
+    public synchronized void unregister(
+            @Nullable SharedPreferences.OnSharedPreferenceChangeListener listener) {
+        String[] keys;
+        if (listener == null || (keys = mKeys.remove(listener)) == null) {
+            return;
+        }
+
+        DynamicListenerRegistry<SharedPreferences.OnSharedPreferenceChangeListener> registry;
+        for (String key : keys) {
+            if (key != null && (registry = mListeners.get(key)) != null) {
+                registry.remove(listener);
+
+                if (registry.isEmpty()) {
+                    mListeners.remove(key);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onSharedPreferenceChanged(SharedPreferences sharedPreferences,
+            @Nullable String key) {
+        WeakReference<SharedPreferences.OnSharedPreferenceChangeListener>[] snapshot;
+        int registered;
+
+        synchronized (this) {
+            DynamicListenerRegistry<SharedPreferences.OnSharedPreferenceChangeListener>
+                    registry = key != null ? mListeners.get(key) : null;
+            if (registry != null) {
+                registry.prune();
+
+                if (registry.isEmpty()) {
+                    mListeners.remove(key);
+                    registry = null;
+                }
+            }
+
+            snapshot = registry != null ? registry.getSnapshot() : null;
+            registered = mKeys.size();
+        }
+
+        int dispatched = 0;
+        if (snapshot != null) {
+            SharedPreferences.OnSharedPreferenceChangeListener listener;
+            for (WeakReference<SharedPreferences.OnSharedPreferenceChangeListener> reference
+                    : snapshot) {
+                if ((listener = reference.get()) != null) {
+                    listener.onSharedPreferenceChanged(sharedPreferences, key);
+                    dispatched++;
+                }
+            }
+        }
+
+        synchronized (this) {
+            mDispatchedCount += dispatched;
+            mSuppressedCount += Math.max(0, registered - dispatched);
+        }
+    }
+
+    /**
+     * Returns the number of callbacks dispatched to the interested listeners.
+     *
+     * @return The number of callbacks dispatched to the interested listeners.
+     */
+    public synchronized long getDispatchedCount() {
+        return mDispatchedCount;
+    }
+
+    /**
+     * Returns the number of callbacks suppressed for the other registered listeners.
+     *
+     * @return The number of callbacks suppressed for the other registered listeners.
+     */
+    public synchronized long getSuppressedCount() {
+        return mSuppressedCount;
+    }
+}
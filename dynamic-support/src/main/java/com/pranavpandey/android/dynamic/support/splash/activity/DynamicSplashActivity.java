@@ -190,6 +190,13 @@ public abstract class DynamicSplashActivity extends DynamicSystemActivity
         }
     }
 
+    @Override
+    protected void onAppThemeUpdate() {
+        if (isPostSplash()) {
+            super.onAppThemeUpdate();
+        }
+    }
+
     @Override
     public long getMinSplashTime() {
         return DynamicMotion.Duration.SPLASH;
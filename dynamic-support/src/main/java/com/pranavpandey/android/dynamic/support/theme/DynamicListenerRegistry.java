@@ -0,0 +1,344 @@
+/*
+ * Copyright 2018-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.theme;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A registry to hold the listeners with weak references, so that a listener which is not
+ * removed explicitly will not be retained by the registry.
+ * <p>Listeners are matched by their identity and the cleared references are pruned
+ * automatically. It publishes an immutable copy-on-write snapshot on every change, so the
+ * listeners can be iterated without any lock even if they are modified during the iteration.
+ *
+ * @param <T> The type of the listeners.
+ */
+public class DynamicListenerRegistry<T> {
+
+    /**
+     * Constant for the empty snapshot.
+     */
+    private static final Entry<?>[] EMPTY = new Entry<?>[0];
+
+    /**
+     * Queue to receive the cleared references.
+     */
+    private final ReferenceQueue<T> mQueue;
+
+    /**
+     * Entries according to the identity hash code of the listeners.
+     */
+    private final Map<Integer, Entry<T>> mIndex;
+
+    /**
+     * Immutable snapshot of the entries in the order they were added.
+     */
+    private volatile Entry<T>[] mSnapshot;
+
+    /**
+     * Constructor to initialize an object of this class.
+     */
+    @SuppressWarnings("unchecked")
+    public DynamicListenerRegistry() {
+        this.mQueue = new ReferenceQueue<>();
+        this.mIndex = new HashMap<>();
+        this.mSnapshot = (Entry<T>[]) EMPTY;
+    }
+
+    /**
+     * Returns the entry for the supplied listener.
+     *
+     * @param listener The listener to find the entry.
+     *
+     * @return The entry for the supplied listener, otherwise {@code null}.
+     */
+    private @Nullable Entry<T> find(@NonNull T listener) {
+        for (Entry<T> entry = mIndex.get(System.identityHashCode(listener));
+                entry != null; entry = entry.mNext) {
+            if (entry.get() == listener) {
+                return entry;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Unlink the supplied entry from the index.
+     *
+     * @param entry The entry to be unlinked.
+     *
+     * @return {@code true} if the entry was present in the index.
+     */
+    private boolean unlink(@NonNull Entry<T> entry) {
+        Entry<T> head = mIndex.get(entry.mHash);
+        if (head == null) {
+            return false;
+        }
+
+        if (head == entry) {
+            if (entry.mNext != null) {
+                mIndex.put(entry.mHash, entry.mNext);
+            } else {
+                mIndex.remove(entry.mHash);
+            }
+
+            return true;
+        }
+
+        for (Entry<T> previous = head; previous.mNext != null; previous = previous.mNext) {
+            if (previous.mNext == entry) {
+                previous.mNext = entry.mNext;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Publish a new snapshot without the supplied entries.
+     *
+     * @param removed The entries to be removed from the snapshot.
+     */
+    @SuppressWarnings("unchecked")
+    private void publishWithout(@NonNull List<Entry<T>> removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+
+        Entry<T>[] snapshot = mSnapshot;
+        List<Entry<T>> entries = new ArrayList<>(snapshot.length);
+        for (Entry<T> entry : snapshot) {
+            if (!removed.contains(entry)) {
+                entries.add(entry);
+            }
+        }
+
+        mSnapshot = entries.toArray((Entry<T>[]) EMPTY);
+    }
+
+    /**
+     * Remove the entries whose listeners have been garbage collected.
+     * <p>It must be called while holding the lock of this registry.
+     */
+    @SuppressWarnings("unchecked")
+    private void pruneLocked() {
+        List<Entry<T>> removed = null;
+        Reference<? extends T> reference;
+
+        while ((reference = mQueue.poll()) != null) {
+            Entry<T> entry = (Entry<T>) reference;
+            if (unlink(entry)) {
+                if (removed == null) {
+                    removed = new ArrayList<>();
+                }
+
+                removed.add(entry);
+            }
+        }
+
+        if (removed != null) {
+            publishWithout(removed);
+        }
+    }
+
+    /**
+     * Remove the entries whose listeners have been garbage collected.
+     */
+    public synchronized void prune() {
+        pruneLocked();
+    }
+
+    /**
+     * Add a listener to this registry.
+     *
+     * @param listener The listener to be added.
+     *
+     * @return {@code true} if the listener has been added.
+     */
+    public synchronized boolean add(@Nullable T listener) {
+        if (listener == null) {
+            return false;
+        }
+
+        pruneLocked();
+
+        if (find(listener) != null) {
+            return false;
+        }
+
+        Entry<T> entry = new Entry<>(listener, mQueue);
+        entry.mNext = mIndex.get(entry.mHash);
+        mIndex.put(entry.mHash, entry);
+
+        Entry<T>[] snapshot = Arrays.copyOf(mSnapshot, mSnapshot.length + 1);
+        snapshot[snapshot.length - 1] = entry;
+        mSnapshot = snapshot;
+
+        return true;
+    }
+
+    /**
+     * Remove a listener from this registry.
+     *
+     * @param listener The listener to be removed.
+     *
+     * @return {@code true} if the listener has been removed.
+     */
+    public synchronized boolean remove(@Nullable T listener) {
+        if (listener == null) {
+            return false;
+        }
+
+        pruneLocked();
+
+        Entry<T> entry = find(listener);
+        if (entry == null || !unlink(entry)) {
+            return false;
+        }
+
+        List<Entry<T>> removed = new ArrayList<>(1);
+        removed.add(entry);
+        publishWithout(removed);
+
+        return true;
+    }
+
+    /**
+     * Checks whether a listener is registered.
+     *
+     * @param listener The listener to be checked.
+     *
+     * @return {@code true} if the listener is registered.
+     */
+    public synchronized boolean contains(@Nullable T listener) {
+        return listener != null && find(listener) != null;
+    }
+
+    /**
+     * Remove all the listeners from this registry.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void clear() {
+        mIndex.clear();
+        mSnapshot = (Entry<T>[]) EMPTY;
+
+        while (mQueue.poll() != null) {
+            // Drain the cleared references.
+        }
+    }
+
+    /**
+     * Returns the immutable snapshot of the weak references to the listeners in the order
+     * they were added.
+     * <p>It does not require any lock and the returned array must not be modified.
+     *
+     * @return The immutable snapshot of the weak references to the listeners.
+     */
+    public @NonNull WeakReference<T>[] getSnapshot() {
+        return mSnapshot;
+    }
+
+    /**
+     * Returns the listeners which are still reachable in the order they were added.
+     *
+     * @return The listeners which are still reachable.
+     */
+    public @NonNull List<T> getListeners() {
+        Entry<T>[] snapshot = mSnapshot;
+        List<T> listeners = new ArrayList<>(snapshot.length);
+
+        T listener;
+        for (Entry<T> entry : snapshot) {
+            if ((listener = entry.get()) != null) {
+                listeners.add(listener);
+            }
+        }
+
+        return listeners;
+    }
+
+    /**
+     * Returns the first or the latest listener which is still reachable.
+     *
+     * @param latest {@code true} to resolve the latest listener.
+     *
+     * @return The first or the latest listener which is still reachable.
+     */
+    public @Nullable T resolve(boolean latest) {
+        Entry<T>[] snapshot = mSnapshot;
+
+        T listener;
+        for (int i = 0; i < snapshot.length; i++) {
+            if ((listener = snapshot[latest ? snapshot.length - 1 - i : i].get()) != null) {
+                return listener;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks whether this registry does not have any reachable listener.
+     *
+     * @return {@code true} if this registry does not have any reachable listener.
+     */
+    public boolean isEmpty() {
+        return resolve(false) == null;
+    }
+
+    /**
+     * Weak reference to a listener along with its identity hash code.
+     *
+     * @param <T> The type of the listener.
+     */
+    private static final class Entry<T> extends WeakReference<T> {
+
+        /**
+         * Identity hash code of the listener.
+         */
+        final int mHash;
+
+        /**
+         * Next entry with the same identity hash code.
+         */
+        Entry<T> mNext;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param listener The listener to be referenced.
+         * @param queue The queue to receive the cleared reference.
+         */
+        Entry(@NonNull T listener, @NonNull ReferenceQueue<? super T> queue) {
+            super(listener, queue);
+
+            this.mHash = System.identityHashCode(listener);
+        }
+    }
+}
@@ -49,7 +49,6 @@ import androidx.work.OneTimeWorkRequest;
 import androidx.work.WorkManager;
 
 import com.google.android.material.snackbar.Snackbar;
-import com.google.gson.Gson;
 import com.pranavpandey.android.dynamic.support.Defaults;
 import com.pranavpandey.android.dynamic.support.Dynamic;
 import com.pranavpandey.android.dynamic.support.R;
@@ -57,6 +56,7 @@ import com.pranavpandey.android.dynamic.support.listener.DynamicListener;
 import com.pranavpandey.android.dynamic.support.listener.DynamicResolver;
 import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
 import com.pranavpandey.android.dynamic.support.model.DynamicRemoteTheme;
+import com.pranavpandey.android.dynamic.support.model.DynamicThemeCodec;
 import com.pranavpandey.android.dynamic.support.model.DynamicWidgetTheme;
 import com.pranavpandey.android.dynamic.support.motion.DynamicMotion;
 import com.pranavpandey.android.dynamic.support.permission.DynamicPermissions;
@@ -401,6 +401,7 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
                 .setOpacity(Theme.Opacity.DEFAULT)
                 .setElevation(Theme.Elevation.ENABLE);
         this.mApplicationTheme = new DynamicAppTheme().setHost(true);
+        DynamicAppTheme.invalidateResolvedColors();
 
         this.mBroadcastReceiver = new BroadcastReceiver() {
             @Override
@@ -548,6 +549,7 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
         this.mLocalListener = new WeakReference<>(localListener);
         this.mDefaultLocalTheme = new DynamicAppTheme(getDefaultApplication());
         this.mLocalTheme = new DynamicAppTheme();
+        DynamicAppTheme.invalidateResolvedColors();
 
         if (localListener instanceof Activity && layoutInflater != null
                 && ((Activity) localListener).getLayoutInflater().getFactory2() == null) {
@@ -651,15 +653,16 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
             return;
         }
 
-        final @StyleRes int systemTheme = getSystemThemeRes(listener, theme);
+        final DynamicThemeSnapshot systemSnapshot = DynamicThemeSnapshot.get(
+                listener.getContext(), getSystemThemeRes(listener, theme));
 
         if (DynamicSdkUtils.is28()) {
-            theme.setCornerSize(Math.min(DynamicResourceUtils.resolveDimension(
-                    listener.getContext(), systemTheme, android.R.attr.dialogCornerRadius,
-                    theme.getCornerSize()), Theme.Corner.MAX));
+            theme.setCornerSize(Math.min(systemSnapshot.getDimension(
+                    android.R.attr.dialogCornerRadius, theme.getCornerSize()),
+                    Theme.Corner.MAX));
         } else {
-            theme.setCornerSize(Math.min(DynamicResourceUtils.resolveDimension(
-                    listener.getContext(), theme.getThemeRes(), R.attr.adt_cornerRadius,
+            theme.setCornerSize(Math.min(DynamicThemeSnapshot.get(listener.getContext(),
+                    theme.getThemeRes()).getDimension(R.attr.adt_cornerRadius,
                     theme.getCornerSize()), Theme.Corner.MAX));
         }
 
@@ -668,39 +671,34 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
         }
 
         if (DynamicSdkUtils.is21()) {
-            theme.setBackgroundColor(DynamicResourceUtils.resolveColor(
-                    listener.getContext(), systemTheme, android.R.attr.colorBackground,
-                    theme.getBackgroundColor()), false)
-                    .setPrimaryColor(DynamicResourceUtils.resolveColor(
-                            listener.getContext(), systemTheme, android.R.attr.colorPrimary,
-                            theme.getPrimaryColor()), false)
-                    .setPrimaryColorDark(DynamicResourceUtils.resolveColor(
-                            listener.getContext(), systemTheme, android.R.attr.colorPrimaryDark,
-                            theme.getPrimaryColorDark()), false)
-                    .setAccentColor(DynamicResourceUtils.resolveColor(
-                            listener.getContext(), systemTheme, android.R.attr.colorAccent,
-                            theme.getAccentColor()), false);
+            theme.setBackgroundColor(systemSnapshot.getColor(
+                    android.R.attr.colorBackground, theme.getBackgroundColor()), false)
+                    .setPrimaryColor(systemSnapshot.getColor(
+                            android.R.attr.colorPrimary, theme.getPrimaryColor()), false)
+                    .setPrimaryColorDark(systemSnapshot.getColor(
+                            android.R.attr.colorPrimaryDark, theme.getPrimaryColorDark()), false)
+                    .setAccentColor(systemSnapshot.getColor(
+                            android.R.attr.colorAccent, theme.getAccentColor()), false);
 
             if (DynamicSdkUtils.is23()
                     && theme.getBackgroundColor(false, false) == Theme.AUTO) {
-                theme.setSurfaceColor(DynamicResourceUtils.resolveColor(
-                        listener.getContext(), systemTheme, android.R.attr.colorBackgroundFloating,
+                theme.setSurfaceColor(systemSnapshot.getColor(
+                        android.R.attr.colorBackgroundFloating,
                         theme.getSurfaceColor()), false);
             } else {
-                theme.setSurfaceColor(DynamicResourceUtils.resolveColor(
-                        listener.getContext(), theme.getThemeRes(), R.attr.colorSurface,
+                theme.setSurfaceColor(DynamicThemeSnapshot.get(listener.getContext(),
+                        theme.getThemeRes()).getColor(R.attr.colorSurface,
                         theme.getSurfaceColor()), false);
             }
 
             if (DynamicSdkUtils.is26()
                     && theme.getPrimaryColor(false, false) == Theme.AUTO
                     && theme.getAccentColor(false, false) == Theme.AUTO) {
-                theme.setErrorColor(DynamicResourceUtils.resolveColor(
-                        listener.getContext(), systemTheme, android.R.attr.colorError,
-                        theme.getErrorColor()), false);
+                theme.setErrorColor(systemSnapshot.getColor(
+                        android.R.attr.colorError, theme.getErrorColor()), false);
             } else {
-                theme.setErrorColor(DynamicResourceUtils.resolveColor(
-                        listener.getContext(), theme.getThemeRes(), R.attr.colorError,
+                theme.setErrorColor(DynamicThemeSnapshot.get(listener.getContext(),
+                        theme.getThemeRes()).getColor(R.attr.colorError,
                         theme.getErrorColor()), false);
             }
 
@@ -767,6 +765,8 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
                 colors.mutate(themeColors);
             }
         }
+
+        DynamicAppTheme.invalidateResolvedColors();
     }
 
     /**
@@ -786,77 +786,60 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
             themeRes = getThemeRes(theme);
         }
 
-        setVersion(DynamicResourceUtils.resolveInteger(getContext(), themeRes,
-                R.attr.ads_theme_version, Version.DEFAULT_AUTO));
-
         if (theme != null) {
             theme.setThemeRes(themeRes);
             getDefaultApplication().setType(theme.getType());
         }
 
-        getContext().getTheme().applyStyle(themeRes, true);
+        final DynamicThemeSnapshot snapshot = DynamicThemeSnapshot.apply(getContext(), themeRes);
+        DynamicResourceUtils.clearResourceIds();
         getDefaultApplication().setThemeRes(themeRes);
 
-        getDefaultApplication().setBackgroundColor(DynamicResourceUtils.resolveColor(
-                getContext(), themeRes, android.R.attr.windowBackground,
+        setVersion(snapshot.getInteger(R.attr.ads_theme_version, Version.DEFAULT_AUTO));
+
+        getDefaultApplication().setBackgroundColor(snapshot.getColor(
+                android.R.attr.windowBackground,
                 getDefaultApplication().getBackgroundColor()), false)
-                .setSurfaceColor(DynamicResourceUtils.resolveColor(
-                        getContext(), themeRes, R.attr.colorSurface,
+                .setSurfaceColor(snapshot.getColor(R.attr.colorSurface,
                         getDefaultApplication().getSurfaceColor()), false)
-                .setPrimaryColor(DynamicResourceUtils.resolveColor(
-                        getContext(), themeRes, R.attr.colorPrimary,
+                .setPrimaryColor(snapshot.getColor(R.attr.colorPrimary,
                         getDefaultApplication().getPrimaryColor()), false)
-                .setPrimaryColorDark(DynamicResourceUtils.resolveColor(
-                        getContext(), themeRes, R.attr.colorPrimaryDark,
+                .setPrimaryColorDark(snapshot.getColor(R.attr.colorPrimaryDark,
                         getDefaultApplication().getPrimaryColorDark()), false)
-                .setAccentColor(DynamicResourceUtils.resolveColor(
-                        getContext(), themeRes, R.attr.colorAccent,
+                .setAccentColor(snapshot.getColor(R.attr.colorAccent,
                         getDefaultApplication().getAccentColor()), false)
-                .setErrorColor(DynamicResourceUtils.resolveColor(
-                        getContext(), themeRes, R.attr.colorError,
+                .setErrorColor(snapshot.getColor(R.attr.colorError,
                         getDefaultApplication().getErrorColor()), false)
-                .setTextPrimaryColor(DynamicResourceUtils.resolveColor(
-                        getContext(), themeRes, android.R.attr.textColorPrimary,
+                .setTextPrimaryColor(snapshot.getColor(android.R.attr.textColorPrimary,
                         DynamicResourceUtils.ADS_DEFAULT_RESOURCE_VALUE), false)
-                .setTextSecondaryColor(DynamicResourceUtils.resolveColor(
-                        getContext(), themeRes, android.R.attr.textColorSecondary,
+                .setTextSecondaryColor(snapshot.getColor(android.R.attr.textColorSecondary,
                         DynamicResourceUtils.ADS_DEFAULT_RESOURCE_VALUE), false)
-                .setTextPrimaryColorInverse(DynamicResourceUtils.resolveColor(
-                        getContext(), themeRes, android.R.attr.textColorPrimaryInverse,
+                .setTextPrimaryColorInverse(snapshot.getColor(
+                        android.R.attr.textColorPrimaryInverse,
                         DynamicResourceUtils.ADS_DEFAULT_RESOURCE_VALUE))
-                .setTextSecondaryColorInverse(DynamicResourceUtils.resolveColor(
-                        getContext(), themeRes, android.R.attr.textColorSecondaryInverse,
+                .setTextSecondaryColorInverse(snapshot.getColor(
+                        android.R.attr.textColorSecondaryInverse,
                         DynamicResourceUtils.ADS_DEFAULT_RESOURCE_VALUE))
                 .setAccentColorDark(getDefaultApplication().getAccentColorDark(), false)
-                .setTintSurfaceColor(DynamicResourceUtils.resolveColor(
-                        getContext(), themeRes, R.attr.colorOnSurface,
+                .setTintSurfaceColor(snapshot.getColor(R.attr.colorOnSurface,
                         getDefaultApplication().getTintSurfaceColor()))
-                .setTintPrimaryColor(DynamicResourceUtils.resolveColor(
-                        getContext(), themeRes, R.attr.colorOnPrimary,
+                .setTintPrimaryColor(snapshot.getColor(R.attr.colorOnPrimary,
                         getDefaultApplication().getTintPrimaryColor()))
-                .setTintAccentColor(DynamicResourceUtils.resolveColor(
-                        getContext(), themeRes, R.attr.colorOnSecondary,
+                .setTintAccentColor(snapshot.getColor(R.attr.colorOnSecondary,
                         getDefaultApplication().getTintAccentColor()))
-                .setTintErrorColor(DynamicResourceUtils.resolveColor(
-                        getContext(), themeRes, R.attr.colorOnError,
+                .setTintErrorColor(snapshot.getColor(R.attr.colorOnError,
                         getDefaultApplication().getTintErrorColor()))
-                .setFontScale(DynamicResourceUtils.resolveInteger(
-                        getContext(), themeRes, R.attr.adt_fontScale,
+                .setFontScale(snapshot.getInteger(R.attr.adt_fontScale,
                         getDefaultApplication().getFontScale()))
-                .setCornerRadius(DynamicResourceUtils.resolveDimensionPixelOffset(
-                        getContext(), themeRes, R.attr.adt_cornerRadius,
+                .setCornerRadius(snapshot.getDimensionPixelOffset(R.attr.adt_cornerRadius,
                         getDefaultApplication().getCornerRadius()))
-                .setBackgroundAware(DynamicResourceUtils.resolveInteger(
-                        getContext(), themeRes, R.attr.adt_backgroundAware,
+                .setBackgroundAware(snapshot.getInteger(R.attr.adt_backgroundAware,
                         getDefaultApplication().getBackgroundAware()))
-                .setContrast(DynamicResourceUtils.resolveInteger(
-                        getContext(), themeRes, R.attr.adt_contrast,
+                .setContrast(snapshot.getInteger(R.attr.adt_contrast,
                         getDefaultApplication().getContrast()))
-                .setOpacity(DynamicResourceUtils.resolveInteger(
-                        getContext(), themeRes, R.attr.adt_opacity,
+                .setOpacity(snapshot.getInteger(R.attr.adt_opacity,
                         getDefaultApplication().getOpacity()))
-                .setElevation(DynamicResourceUtils.resolveInteger(
-                        getContext(), themeRes, R.attr.adt_elevation,
+                .setElevation(snapshot.getInteger(R.attr.adt_elevation,
                         getDefaultApplication().getElevation()));
 
         if (theme != null) {
@@ -864,6 +847,7 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
         } else {
             mApplicationTheme = new DynamicAppTheme(getDefaultApplication());
         }
+        DynamicAppTheme.invalidateResolvedColors();
 
         getApplication().setHost(true);
         setWallpaperColors(getColors(false), getListener(),
@@ -917,77 +901,60 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
             themeRes = getThemeRes(theme);
         }
 
-        setLocalVersion(DynamicResourceUtils.resolveInteger(getLocalContext(), themeRes,
-                R.attr.ads_theme_version, Version.DEFAULT_AUTO));
-
         if (theme != null) {
             theme.setThemeRes(themeRes);
             getDefaultLocal().setType(theme.getType());
         }
 
-        getLocalContext().getTheme().applyStyle(themeRes, true);
+        final DynamicThemeSnapshot snapshot = DynamicThemeSnapshot.apply(
+                getLocalContext(), themeRes);
+        DynamicResourceUtils.clearResourceIds();
         getDefaultLocal().setThemeRes(themeRes);
 
-        getDefaultLocal().setBackgroundColor(DynamicResourceUtils.resolveColor(
-                getLocalContext(), themeRes, android.R.attr.windowBackground,
+        setLocalVersion(snapshot.getInteger(R.attr.ads_theme_version, Version.DEFAULT_AUTO));
+
+        getDefaultLocal().setBackgroundColor(snapshot.getColor(android.R.attr.windowBackground,
                 getDefaultLocal().getBackgroundColor()), false)
-                .setSurfaceColor(DynamicResourceUtils.resolveColor(
-                        getLocalContext(), themeRes, R.attr.colorSurface,
+                .setSurfaceColor(snapshot.getColor(R.attr.colorSurface,
                         getDefaultLocal().getSurfaceColor()), false)
-                .setPrimaryColor(DynamicResourceUtils.resolveColor(
-                        getLocalContext(), themeRes, R.attr.colorPrimary,
+                .setPrimaryColor(snapshot.getColor(R.attr.colorPrimary,
                         getDefaultLocal().getPrimaryColor()))
-                .setPrimaryColorDark(DynamicResourceUtils.resolveColor(
-                        getLocalContext(), themeRes, R.attr.colorPrimaryDark,
+                .setPrimaryColorDark(snapshot.getColor(R.attr.colorPrimaryDark,
                         getDefaultLocal().getPrimaryColorDark()), false)
-                .setAccentColor(DynamicResourceUtils.resolveColor(
-                        getLocalContext(), themeRes, R.attr.colorAccent,
+                .setAccentColor(snapshot.getColor(R.attr.colorAccent,
                         getDefaultLocal().getAccentColor()), false)
-                .setErrorColor(DynamicResourceUtils.resolveColor(
-                        getLocalContext(), themeRes, R.attr.colorError,
+                .setErrorColor(snapshot.getColor(R.attr.colorError,
                         getDefaultLocal().getErrorColor()), false)
-                .setTextPrimaryColor(DynamicResourceUtils.resolveColor(
-                        getLocalContext(), themeRes, android.R.attr.textColorPrimary,
+                .setTextPrimaryColor(snapshot.getColor(android.R.attr.textColorPrimary,
                         DynamicResourceUtils.ADS_DEFAULT_RESOURCE_VALUE), false)
-                .setTextSecondaryColor(DynamicResourceUtils.resolveColor(
-                        getLocalContext(), themeRes, android.R.attr.textColorSecondary,
+                .setTextSecondaryColor(snapshot.getColor(android.R.attr.textColorSecondary,
                         DynamicResourceUtils.ADS_DEFAULT_RESOURCE_VALUE), false)
-                .setTextPrimaryColorInverse(DynamicResourceUtils.resolveColor(
-                        getLocalContext(), themeRes, android.R.attr.textColorPrimaryInverse,
+                .setTextPrimaryColorInverse(snapshot.getColor(
+                        android.R.attr.textColorPrimaryInverse,
                         DynamicResourceUtils.ADS_DEFAULT_RESOURCE_VALUE))
-                .setTextSecondaryColorInverse(DynamicResourceUtils.resolveColor(
-                        getLocalContext(), themeRes, android.R.attr.textColorSecondaryInverse,
+                .setTextSecondaryColorInverse(snapshot.getColor(
+                        android.R.attr.textColorSecondaryInverse,
                         DynamicResourceUtils.ADS_DEFAULT_RESOURCE_VALUE))
                 .setAccentColorDark(getDefaultLocal().getAccentColorDark(), false)
-                .setTintSurfaceColor(DynamicResourceUtils.resolveColor(
-                        getLocalContext(), themeRes, R.attr.colorOnSurface,
+                .setTintSurfaceColor(snapshot.getColor(R.attr.colorOnSurface,
                         getDefaultLocal().getTintSurfaceColor()))
-                .setTintPrimaryColor(DynamicResourceUtils.resolveColor(
-                        getLocalContext(), themeRes, R.attr.colorOnPrimary,
+                .setTintPrimaryColor(snapshot.getColor(R.attr.colorOnPrimary,
                         getDefaultLocal().getTintPrimaryColor()))
-                .setTintAccentColor(DynamicResourceUtils.resolveColor(
-                        getLocalContext(), themeRes, R.attr.colorOnSecondary,
+                .setTintAccentColor(snapshot.getColor(R.attr.colorOnSecondary,
                         getDefaultLocal().getTintAccentColor()))
-                .setTintErrorColor(DynamicResourceUtils.resolveColor(
-                        getLocalContext(), themeRes, R.attr.colorOnError,
+                .setTintErrorColor(snapshot.getColor(R.attr.colorOnError,
                         getDefaultLocal().getTintErrorColor()))
-                .setFontScale(DynamicResourceUtils.resolveInteger(
-                        getLocalContext(), themeRes, R.attr.adt_fontScale,
+                .setFontScale(snapshot.getInteger(R.attr.adt_fontScale,
                         getDefaultLocal().getFontScale()))
-                .setCornerRadius(DynamicResourceUtils.resolveDimensionPixelOffset(
-                        getLocalContext(), themeRes, R.attr.adt_cornerRadius,
+                .setCornerRadius(snapshot.getDimensionPixelOffset(R.attr.adt_cornerRadius,
                         getDefaultLocal().getCornerRadius()))
-                .setBackgroundAware(DynamicResourceUtils.resolveInteger(
-                        getLocalContext(), themeRes, R.attr.adt_backgroundAware,
+                .setBackgroundAware(snapshot.getInteger(R.attr.adt_backgroundAware,
                         getDefaultLocal().getBackgroundAware()))
-                .setContrast(DynamicResourceUtils.resolveInteger(
-                        getLocalContext(), themeRes, R.attr.adt_contrast,
+                .setContrast(snapshot.getInteger(R.attr.adt_contrast,
                         getDefaultLocal().getContrast()))
-                .setOpacity(DynamicResourceUtils.resolveInteger(
-                        getLocalContext(), themeRes, R.attr.adt_opacity,
+                .setOpacity(snapshot.getInteger(R.attr.adt_opacity,
                         getDefaultLocal().getOpacity()))
-                .setElevation(DynamicResourceUtils.resolveInteger(
-                        getLocalContext(), themeRes, R.attr.adt_elevation,
+                .setElevation(snapshot.getInteger(R.attr.adt_elevation,
                         getDefaultLocal().getElevation()));
 
         if (theme != null) {
@@ -995,6 +962,7 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
         } else {
             mLocalTheme = new DynamicAppTheme(getDefaultLocal());
         }
+        DynamicAppTheme.invalidateResolvedColors();
 
         setWallpaperColors(getColors(), getLocalListener(), getDefaultLocal(), getLocal());
 
@@ -1083,49 +1051,7 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
      * @see Theme.ColorType
      */
     public @ColorInt int resolveColorType(@Theme.ColorType int colorType) {
-        switch (colorType) {
-            case Theme.ColorType.BACKGROUND:
-                return get().getBackgroundColor();
-            case Theme.ColorType.SURFACE:
-                return get().getSurfaceColor();
-            case Theme.ColorType.PRIMARY:
-                return get().getPrimaryColor();
-            case Theme.ColorType.PRIMARY_DARK:
-                return get().getPrimaryColorDark();
-            case Theme.ColorType.ACCENT:
-                return get().getAccentColor();
-            case Theme.ColorType.ACCENT_DARK:
-                return get().getAccentColorDark();
-            case Theme.ColorType.ERROR:
-                return get().getErrorColor();
-            case Theme.ColorType.TINT_BACKGROUND:
-                return get().getTintBackgroundColor();
-            case Theme.ColorType.TINT_SURFACE:
-                return get().getTintSurfaceColor();
-            case Theme.ColorType.TINT_PRIMARY:
-                return get().getTintPrimaryColor();
-            case Theme.ColorType.TINT_PRIMARY_DARK:
-                return get().getTintPrimaryColorDark();
-            case Theme.ColorType.TINT_ACCENT:
-                return get().getTintAccentColor();
-            case Theme.ColorType.TINT_ACCENT_DARK:
-                return get().getTintAccentColorDark();
-            case Theme.ColorType.TINT_ERROR:
-                return get().getTintErrorColor();
-            case Theme.ColorType.TEXT_PRIMARY:
-                return get().getTextPrimaryColor();
-            case Theme.ColorType.TEXT_SECONDARY:
-                return get().getTextSecondaryColor();
-            case Theme.ColorType.TEXT_PRIMARY_INVERSE:
-                return get().getTextPrimaryColorInverse();
-            case Theme.ColorType.TEXT_SECONDARY_INVERSE:
-                return get().getTextSecondaryColorInverse();
-            case Theme.ColorType.UNKNOWN:
-            case Theme.ColorType.NONE:
-            case Theme.ColorType.CUSTOM:
-            default:
-                return Theme.Color.UNKNOWN;
-        }
+        return get().resolveColorType(colorType);
     }
 
     /**
@@ -1198,6 +1124,7 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
      */
     public @NonNull DynamicTheme setListener(@NonNull DynamicListener listener) {
         this.mListener = listener;
+        DynamicAppTheme.invalidateResolvedColors();
 
         return this;
     }
@@ -1461,6 +1388,7 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
         }
         mLocalTheme = null;
         mDefaultLocalTheme = null;
+        DynamicAppTheme.invalidateResolvedColors();
     }
 
     /**
@@ -1635,15 +1563,15 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
     
     /**
      * Add a dynamic listener to receive the various callbacks.
+     * <p>It will be held with a weak reference, so the caller must keep a strong reference
+     * to the listener till it is required.
      *
      * @param listener The dynamic listener to be added.
      *
      * @see DynamicListener
      */
     public void addDynamicListener(@Nullable DynamicListener listener) {
-        synchronized (getHandler()) {
-            getHandler().addListener(listener);
-        }
+        getHandler().addListener(listener);
     }
 
     /**
@@ -1654,9 +1582,7 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
      * @see DynamicListener
      */
     public void removeDynamicListener(@Nullable DynamicListener listener) {
-        synchronized (getHandler()) {
-            getHandler().removeListener(listener);
-        }
+        getHandler().removeListener(listener);
     }
 
     /**
@@ -1747,6 +1673,8 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
 
     @Override
     public void onDynamicChanged(boolean context, boolean recreate) {
+        DynamicAppTheme.invalidateResolvedColors();
+
         Bundle bundle = new Bundle();
         bundle.putBoolean(DynamicThemeHandler.DATA_BOOLEAN_CONTEXT, context);
         bundle.putBoolean(DynamicThemeHandler.DATA_BOOLEAN_RECREATE, recreate);
@@ -1759,6 +1687,8 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
     @Override
     public void onDynamicConfigurationChanged(boolean locale, boolean fontScale,
             boolean orientation, boolean uiMode, boolean density) {
+        DynamicAppTheme.invalidateResolvedColors();
+
         Bundle bundle = new Bundle();
         bundle.putBoolean(DynamicThemeHandler.DATA_BOOLEAN_LOCALE, locale);
         bundle.putBoolean(DynamicThemeHandler.DATA_BOOLEAN_FONT_SCALE, fontScale);
@@ -1774,6 +1704,8 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
 
     @Override
     public void onDynamicColorsChanged(@Nullable DynamicColors colors, boolean context) {
+        DynamicAppTheme.invalidateResolvedColors();
+
         Bundle bundle = new Bundle();
         bundle.putParcelable(DynamicThemeHandler.DATA_PARCELABLE_COLORS, colors);
         bundle.putBoolean(DynamicThemeHandler.DATA_BOOLEAN_CONTEXT, context);
@@ -1786,6 +1718,8 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
 
     @Override
     public void onAutoThemeChanged(boolean context) {
+        DynamicAppTheme.invalidateResolvedColors();
+
         Bundle bundle = new Bundle();
         bundle.putBoolean(DynamicThemeHandler.DATA_BOOLEAN_CONTEXT, context);
 
@@ -1797,6 +1731,8 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
 
     @Override
     public void onPowerSaveModeChanged(boolean powerSaveMode) {
+        DynamicAppTheme.invalidateResolvedColors();
+
         Bundle bundle = new Bundle();
         bundle.putBoolean(DynamicThemeHandler.DATA_BOOLEAN_POWER_SAVE_MODE, powerSaveMode);
 
@@ -1813,6 +1749,8 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
 
     @Override
     public void onNavigationBarThemeChanged() {
+        DynamicAppTheme.invalidateResolvedColors();
+
         getHandler().obtainMessage(
                 DynamicThemeHandler.MESSAGE_POST_NAVIGATION_BAR_THEME).sendToTarget();
     }
@@ -1862,11 +1800,13 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
     }
 
     /**
-     * Returns the dynamic app theme from the JSON string.
+     * Returns the dynamic app theme from the JSON or binary string.
      *
-     * @param theme The dynamic app theme JSON string to be converted.
+     * @param theme The dynamic app theme JSON or binary string to be converted.
      *
-     * @return The dynamic app theme from the JSON string.
+     * @return The dynamic app theme from the JSON or binary string.
+     *
+     * @see DynamicThemeCodec#isBinary(String)
      */
     public @Nullable DynamicAppTheme getTheme(@Nullable String theme) {
         if (theme == null) {
@@ -1874,7 +1814,11 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
         }
 
         try {
-            return new Gson().fromJson(theme, DynamicAppTheme.class);
+            if (DynamicThemeCodec.isBinary(theme)) {
+                return DynamicThemeCodec.decode(new DynamicAppTheme(), theme);
+            }
+
+            return DynamicThemeCodec.getGson().fromJson(theme, DynamicAppTheme.class);
         } catch (Exception ignored) {
             try {
                 return new DynamicAppTheme(theme);
@@ -1887,11 +1831,13 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
     }
 
     /**
-     * Returns the dynamic widget theme from the JSON string.
+     * Returns the dynamic widget theme from the JSON or binary string.
      *
-     * @param theme The dynamic widget theme JSON string to be converted.
+     * @param theme The dynamic widget theme JSON or binary string to be converted.
      *
-     * @return The dynamic widget theme from the JSON string.
+     * @return The dynamic widget theme from the JSON or binary string.
+     *
+     * @see DynamicThemeCodec#isBinary(String)
      */
     public @Nullable DynamicWidgetTheme getWidgetTheme(@Nullable String theme) {
         if (theme == null) {
@@ -1899,7 +1845,11 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
         }
 
         try {
-            return new Gson().fromJson(theme, DynamicWidgetTheme.class);
+            if (DynamicThemeCodec.isBinary(theme)) {
+                return DynamicThemeCodec.decode(new DynamicWidgetTheme(), theme);
+            }
+
+            return DynamicThemeCodec.getGson().fromJson(theme, DynamicWidgetTheme.class);
         } catch (Exception ignored) {
             try {
                 return new DynamicWidgetTheme(theme);
@@ -1912,11 +1862,13 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
     }
 
     /**
-     * Returns the dynamic remote theme from the JSON string.
+     * Returns the dynamic remote theme from the JSON or binary string.
      *
-     * @param theme The dynamic remote theme JSON string to be converted.
+     * @param theme The dynamic remote theme JSON or binary string to be converted.
      *
-     * @return The dynamic remote theme from the JSON string.
+     * @return The dynamic remote theme from the JSON or binary string.
+     *
+     * @see DynamicThemeCodec#isBinary(String)
      */
     public @Nullable DynamicRemoteTheme getRemoteTheme(@Nullable String theme) {
         if (theme == null) {
@@ -1924,7 +1876,11 @@ public class DynamicTheme implements DynamicProductFlavor, DynamicListener, Dyna
         }
 
         try {
-            return new Gson().fromJson(theme, DynamicRemoteTheme.class);
+            if (DynamicThemeCodec.isBinary(theme)) {
+                return DynamicThemeCodec.decode(new DynamicRemoteTheme(), theme);
+            }
+
+            return DynamicThemeCodec.getGson().fromJson(theme, DynamicRemoteTheme.class);
         } catch (Exception ignored) {
             try {
                 return new DynamicRemoteTheme(theme);
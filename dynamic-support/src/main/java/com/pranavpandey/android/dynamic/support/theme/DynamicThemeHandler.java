@@ -17,9 +17,11 @@
 package com.pranavpandey.android.dynamic.support.theme;
 
 import android.content.Context;
+import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
 import android.os.Message;
+import android.view.Choreographer;
 
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
@@ -33,10 +35,13 @@ import com.pranavpandey.android.dynamic.theme.Theme;
 import com.pranavpandey.android.dynamic.util.product.DynamicFlavor;
 import com.pranavpandey.android.dynamic.util.product.DynamicProductFlavor;
 
+import java.lang.ref.WeakReference;
 import java.util.List;
 
 /**
  * A {@link Handler} to handle theme updates on the main thread.
+ * <p>It can coalesce the pending updates to deliver at most one batch per frame, where a
+ * dominant event like recreate will collapse the other dependent events.
  *
  * @see Looper#getMainLooper()
  */
@@ -131,35 +136,150 @@ public class DynamicThemeHandler extends Handler implements DynamicProductFlavor
     public static final String DATA_PARCELABLE_COLORS = "ads_data_parcelable_colors";
 
     /**
-     * List of listeners to receive the callbacks.
+     * Registry of the listeners to receive the callbacks.
      */
-    private final List<DynamicListener> mListeners;
+    private final DynamicListenerRegistry<DynamicListener> mListeners;
+
+    /**
+     * Frame callback to deliver the coalesced updates.
+     */
+    private final Choreographer.FrameCallback mFrameCallback;
+
+    /**
+     * {@code true} to coalesce the updates and deliver at most one batch per frame.
+     */
+    private boolean mCoalescing;
+
+    /**
+     * {@code true} if the frame callback is scheduled to deliver the pending updates.
+     */
+    private boolean mFrameScheduled;
+
+    /**
+     * Bit mask of the pending message constants.
+     */
+    private int mPending;
+
+    /**
+     * Pending context change for the dynamic theme update.
+     */
+    private boolean mPendingContext;
+
+    /**
+     * Pending recreate change for the dynamic theme update.
+     */
+    private boolean mPendingRecreate;
+
+    /**
+     * Pending locale change for the dynamic configuration update.
+     */
+    private boolean mPendingLocale;
+
+    /**
+     * Pending font scale change for the dynamic configuration update.
+     */
+    private boolean mPendingFontScale;
+
+    /**
+     * Pending orientation change for the dynamic configuration update.
+     */
+    private boolean mPendingOrientation;
+
+    /**
+     * Pending UI mode change for the dynamic configuration update.
+     */
+    private boolean mPendingUiMode;
+
+    /**
+     * Pending density change for the dynamic configuration update.
+     */
+    private boolean mPendingDensity;
+
+    /**
+     * Pending colors for the dynamic color update.
+     */
+    private DynamicColors mPendingColors;
+
+    /**
+     * Pending context change for the dynamic color update.
+     */
+    private boolean mPendingColorsContext;
+
+    /**
+     * Pending context change for the auto theme update.
+     */
+    private boolean mPendingAutoThemeContext;
+
+    /**
+     * Pending power save mode for the power save mode update.
+     */
+    private boolean mPendingPowerSaveMode;
+
+    /**
+     * Number of events received by this handler.
+     */
+    private volatile long mReceivedCount;
+
+    /**
+     * Number of events delivered to the listeners.
+     */
+    private volatile long mDeliveredCount;
 
     /**
      * Constructor to initialize an object of this class.
      *
      * @param looper The looper to be used.
-     * @param listeners The list of listeners to receive the callbacks.
+     * @param listeners The initial list of listeners to receive the callbacks.
      */
     public DynamicThemeHandler(@NonNull Looper looper, @NonNull List<DynamicListener> listeners) {
         super(looper);
 
-        this.mListeners = listeners;
+        this.mListeners = new DynamicListenerRegistry<>();
+        for (DynamicListener listener : listeners) {
+            mListeners.add(listener);
+        }
+
+        this.mFrameCallback = new Choreographer.FrameCallback() {
+            @Override
+            public void doFrame(long frameTimeNanos) {
+                dispatchPending();
+            }
+        };
     }
 
     @Override
     public void handleMessage(@NonNull Message msg) {
         super.handleMessage(msg);
 
+        mReceivedCount++;
+
+        if (isCoalescing() && coalesce(msg)) {
+            if (!mFrameScheduled) {
+                mFrameScheduled = true;
+                Choreographer.getInstance().postFrameCallback(mFrameCallback);
+            }
+        } else {
+            dispatch(msg);
+        }
+    }
+
+    /**
+     * Dispatch the supplied message to the listeners.
+     *
+     * @param msg The message to be dispatched.
+     */
+    private void dispatch(@NonNull Message msg) {
         switch (msg.what) {
             case MESSAGE_POST_DYNAMIC:
                 if (msg.getData() != null) {
+                    mDeliveredCount++;
                     onDynamicChanged(msg.getData().getBoolean(DATA_BOOLEAN_CONTEXT),
                             msg.getData().getBoolean(DATA_BOOLEAN_RECREATE));
                 }
                 break;
             case MESSAGE_POST_DYNAMIC_CONFIGURATION:
                 if (msg.getData() != null) {
+                    mDeliveredCount++;
                     onDynamicConfigurationChanged(
                             msg.getData().getBoolean(DATA_BOOLEAN_LOCALE),
                             msg.getData().getBoolean(DATA_BOOLEAN_FONT_SCALE),
@@ -169,43 +289,234 @@ public class DynamicThemeHandler extends Handler implements DynamicProductFlavor
                 }
                 break;
             case MESSAGE_POST_DYNAMIC_COLOR:
+                mDeliveredCount++;
                 onDynamicColorsChanged(msg.getData().getParcelable(DATA_PARCELABLE_COLORS),
                         msg.getData().getBoolean(DATA_BOOLEAN_CONTEXT));
                 break;
             case MESSAGE_POST_AUTO_THEME:
+                mDeliveredCount++;
                 onAutoThemeChanged(msg.getData().getBoolean(DATA_BOOLEAN_CONTEXT));
                 break;
             case MESSAGE_POST_POWER_SAVE_MODE:
                 if (msg.getData() != null) {
+                    mDeliveredCount++;
                     onPowerSaveModeChanged(msg.getData().getBoolean(DATA_BOOLEAN_POWER_SAVE_MODE));
                 }
                 break;
             case MESSAGE_POST_NAVIGATION_BAR_THEME:
+                mDeliveredCount++;
                 onNavigationBarThemeChanged();
                 break;
         }
     }
 
+    /**
+     * Merge the supplied message into the pending updates.
+     * <p>The boolean flags will be combined and the other values will be replaced by the
+     * latest message.
+     *
+     * @param msg The message to be merged.
+     *
+     * @return {@code true} if the message has been merged, otherwise it must be dispatched.
+     */
+    private boolean coalesce(@NonNull Message msg) {
+        Bundle data = msg.getData();
+
+        switch (msg.what) {
+            case MESSAGE_POST_DYNAMIC:
+                mPendingContext |= data.getBoolean(DATA_BOOLEAN_CONTEXT);
+                mPendingRecreate |= data.getBoolean(DATA_BOOLEAN_RECREATE);
+                break;
+            case MESSAGE_POST_DYNAMIC_CONFIGURATION:
+                mPendingLocale |= data.getBoolean(DATA_BOOLEAN_LOCALE);
+                mPendingFontScale |= data.getBoolean(DATA_BOOLEAN_FONT_SCALE);
+                mPendingOrientation |= data.getBoolean(DATA_BOOLEAN_ORIENTATION);
+                mPendingUiMode |= data.getBoolean(DATA_BOOLEAN_UI_MODE);
+                mPendingDensity |= data.getBoolean(DATA_BOOLEAN_DENSITY);
+                break;
+            case MESSAGE_POST_DYNAMIC_COLOR:
+                mPendingColors = data.getParcelable(DATA_PARCELABLE_COLORS);
+                mPendingColorsContext |= data.getBoolean(DATA_BOOLEAN_CONTEXT);
+                break;
+            case MESSAGE_POST_AUTO_THEME:
+                mPendingAutoThemeContext |= data.getBoolean(DATA_BOOLEAN_CONTEXT);
+                break;
+            case MESSAGE_POST_POWER_SAVE_MODE:
+                mPendingPowerSaveMode = data.getBoolean(DATA_BOOLEAN_POWER_SAVE_MODE);
+                break;
+            case MESSAGE_POST_NAVIGATION_BAR_THEME:
+                break;
+            default:
+                return false;
+        }
+
+        mPending |= 1 << msg.what;
+        return true;
+    }
+
+    /**
+     * Checks whether the supplied message constant is pending.
+     *
+     * @param pending The bit mask of the pending message constants.
+     * @param what The message constant to be checked.
+     *
+     * @return {@code true} if the supplied message constant is pending.
+     */
+    private static boolean isPending(int pending, int what) {
+        return (pending & (1 << what)) != 0;
+    }
+
+    /**
+     * Deliver the pending updates to the listeners in the order of their priority.
+     * <p>The color and navigation bar updates will be collapsed if the listeners are going
+     * to be recreated in the same batch.
+     */
+    private void dispatchPending() {
+        int pending = mPending;
+        boolean recreate = (isPending(pending, MESSAGE_POST_DYNAMIC) && mPendingRecreate)
+                || (isPending(pending, MESSAGE_POST_DYNAMIC_CONFIGURATION)
+                && (mPendingLocale || mPendingUiMode));
+
+        boolean context = mPendingContext;
+        boolean locale = mPendingLocale;
+        boolean fontScale = mPendingFontScale;
+        boolean orientation = mPendingOrientation;
+        boolean uiMode = mPendingUiMode;
+        boolean density = mPendingDensity;
+        DynamicColors colors = mPendingColors;
+        boolean colorsContext = mPendingColorsContext;
+        boolean autoThemeContext = mPendingAutoThemeContext;
+        boolean powerSaveMode = mPendingPowerSaveMode;
+
+        clearPending();
+
+        if (isPending(pending, MESSAGE_POST_DYNAMIC_CONFIGURATION)) {
+            mDeliveredCount++;
+            onDynamicConfigurationChanged(locale, fontScale, orientation, uiMode, density);
+        }
+
+        if (isPending(pending, MESSAGE_POST_DYNAMIC)) {
+            mDeliveredCount++;
+            onDynamicChanged(context, recreate);
+        }
+
+        if (isPending(pending, MESSAGE_POST_DYNAMIC_COLOR) && !recreate) {
+            mDeliveredCount++;
+            onDynamicColorsChanged(colors, colorsContext);
+        }
+
+        if (isPending(pending, MESSAGE_POST_AUTO_THEME)) {
+            mDeliveredCount++;
+            onAutoThemeChanged(autoThemeContext);
+        }
+
+        if (isPending(pending, MESSAGE_POST_POWER_SAVE_MODE)) {
+            mDeliveredCount++;
+            onPowerSaveModeChanged(powerSaveMode);
+        }
+
+        if (isPending(pending, MESSAGE_POST_NAVIGATION_BAR_THEME) && !recreate) {
+            mDeliveredCount++;
+            onNavigationBarThemeChanged();
+        }
+    }
+
+    /**
+     * Clear all the pending updates without delivering them.
+     */
+    private void clearPending() {
+        mFrameScheduled = false;
+        mPending = 0;
+        mPendingContext = false;
+        mPendingRecreate = false;
+        mPendingLocale = false;
+        mPendingFontScale = false;
+        mPendingOrientation = false;
+        mPendingUiMode = false;
+        mPendingDensity = false;
+        mPendingColors = null;
+        mPendingColorsContext = false;
+        mPendingAutoThemeContext = false;
+        mPendingPowerSaveMode = false;
+    }
+
+    /**
+     * Checks whether the updates are coalesced to deliver at most one batch per frame.
+     *
+     * @return {@code true} if the updates are coalesced.
+     */
+    public boolean isCoalescing() {
+        return mCoalescing;
+    }
+
+    /**
+     * Sets whether to coalesce the updates and deliver at most one batch per frame.
+     * <p>The pending updates will be delivered immediately on disabling it.
+     *
+     * <p>It must be called on the thread of the looper used by this handler.
+     *
+     * @param coalescing {@code true} to coalesce the updates.
+     */
+    public void setCoalescing(boolean coalescing) {
+        this.mCoalescing = coalescing;
+
+        if (!coalescing && mFrameScheduled) {
+            Choreographer.getInstance().removeFrameCallback(mFrameCallback);
+            dispatchPending();
+        }
+    }
+
+    /**
+     * Returns the number of events received by this handler.
+     *
+     * @return The number of events received by this handler.
+     */
+    public long getReceivedCount() {
+        return mReceivedCount;
+    }
+
+    /**
+     * Returns the number of events delivered to the listeners.
+     * <p>It will be less than the received count if some of the events have been coalesced.
+     *
+     * @return The number of events delivered to the listeners.
+     */
+    public long getDeliveredCount() {
+        return mDeliveredCount;
+    }
+
     /**
      * Returns the list of listeners handled by this handler.
+     * <p>It is a copy of the listeners which are still reachable, use the
+     * {@link #addListener(DynamicListener)} or {@link #removeListener(DynamicListener)} to
+     * modify the listeners.
      *
      * @return The list of listeners handled by this handler.
      */
     public @Nullable List<DynamicListener> getListeners() {
+        return mListeners.getListeners();
+    }
+
+    /**
+     * Returns the registry of listeners handled by this handler.
+     *
+     * @return The registry of listeners handled by this handler.
+     */
+    public @NonNull DynamicListenerRegistry<DynamicListener> getListenerRegistry() {
         return mListeners;
     }
 
     /**
      * Add a dynamic listener to receive the various callbacks.
+     * <p>It will be held with a weak reference, so it will be removed automatically once it
+     * is garbage collected.
      *
      * @param listener The dynamic listener to be added.
      *
      * @see DynamicListener
      */
     public void addListener(@Nullable DynamicListener listener) {
-        if (listener != null && getListeners() != null && !getListeners().contains(listener)) {
-            getListeners().add(listener);
-        }
+        mListeners.add(listener);
     }
 
     /**
@@ -216,9 +527,7 @@ public class DynamicThemeHandler extends Handler implements DynamicProductFlavor
      * @see DynamicListener
      */
     public void removeListener(@Nullable DynamicListener listener) {
-        if (getListeners() != null) {
-            getListeners().remove(listener);
-        }
+        mListeners.remove(listener);
     }
 
     /**
@@ -231,11 +540,7 @@ public class DynamicThemeHandler extends Handler implements DynamicProductFlavor
      * @see DynamicListener
      */
     public boolean isListener(@Nullable DynamicListener listener) {
-        if (getListeners() == null) {
-            return false;
-        }
-
-        return getListeners().contains(listener);
+        return mListeners.contains(listener);
     }
 
     /**
@@ -246,12 +551,7 @@ public class DynamicThemeHandler extends Handler implements DynamicProductFlavor
      * @return The latest listener added to the theme.
      */
     public @Nullable DynamicListener resolveListener(boolean latest) {
-        if (getListeners() == null || getListeners().isEmpty()) {
-            return null;
-        }
-
-        return getListeners().get(latest && getListeners().size() > 0
-                ? getListeners().size() - 1 : 0);
+        return mListeners.resolve(latest);
     }
 
     /**
@@ -260,9 +560,7 @@ public class DynamicThemeHandler extends Handler implements DynamicProductFlavor
      * @see DynamicListener
      */
     public void clearListeners() {
-        if (getListeners() != null) {
-            getListeners().clear();
-        }
+        mListeners.clear();
     }
 
     @Override
@@ -392,59 +690,64 @@ public class DynamicThemeHandler extends Handler implements DynamicProductFlavor
 
     @Override
     public void onDynamicChanged(boolean context, boolean recreate) {
-        if (getListeners() == null) {
-            return;
+        DynamicListener listener;
+        for (WeakReference<DynamicListener> reference : mListeners.getSnapshot()) {
+            if ((listener = reference.get()) != null) {
+                listener.onDynamicChanged(context, recreate);
+            }
         }
 
-        for (DynamicListener listener : getListeners()) {
-            listener.onDynamicChanged(context, recreate);
-        }
+        mListeners.prune();
     }
 
     @Override
     public void onDynamicConfigurationChanged(boolean locale, boolean fontScale,
             boolean orientation, boolean uiMode, boolean density) {
-        if (getListeners() == null) {
-            return;
+        DynamicListener listener;
+        for (WeakReference<DynamicListener> reference : mListeners.getSnapshot()) {
+            if ((listener = reference.get()) != null) {
+                listener.onDynamicConfigurationChanged(locale,
+                        fontScale, orientation, uiMode, density);
+            }
         }
 
-        for (DynamicListener listener : getListeners()) {
-            listener.onDynamicConfigurationChanged(locale,
-                    fontScale, orientation, uiMode, density);
-        }
+        mListeners.prune();
     }
 
     @Override
     public void onDynamicColorsChanged(@Nullable DynamicColors colors, boolean context) {
-        if (getListeners() == null) {
-            return;
+        DynamicListener listener;
+        for (WeakReference<DynamicListener> reference : mListeners.getSnapshot()) {
+            if ((listener = reference.get()) != null) {
+                listener.onDynamicColorsChanged(colors, context);
+            }
         }
 
-        for (DynamicListener listener : getListeners()) {
-            listener.onDynamicColorsChanged(colors, context);
-        }
+        mListeners.prune();
     }
 
     @Override
     public void onAutoThemeChanged(boolean context) {
-        if (getListeners() == null) {
-            return;
-    }
-
-        for (DynamicListener listener : getListeners()) {
-            listener.onAutoThemeChanged(context);
+        DynamicListener listener;
+        for (WeakReference<DynamicListener> reference : mListeners.getSnapshot()) {
+            if ((listener = reference.get()) != null) {
+                listener.onAutoThemeChanged(context);
+            }
         }
+
+        mListeners.prune();
     }
 
     @Override
     public void onPowerSaveModeChanged(boolean powerSaveMode) {
-        if (getListeners() == null) {
-            return;
+        DynamicListener listener;
+        for (WeakReference<DynamicListener> reference : mListeners.getSnapshot()) {
+            if ((listener = reference.get()) != null) {
+                listener.onPowerSaveModeChanged(powerSaveMode);
+            }
         }
 
-        for (DynamicListener listener : getListeners()) {
-            listener.onPowerSaveModeChanged(powerSaveMode);
-        }
+        mListeners.prune();
     }
 
     @Override
@@ -459,12 +762,13 @@ public class DynamicThemeHandler extends Handler implements DynamicProductFlavor
 
     @Override
     public void onNavigationBarThemeChanged() {
-        if (getListeners() == null) {
-            return;
+        DynamicListener listener;
+        for (WeakReference<DynamicListener> reference : mListeners.getSnapshot()) {
+            if ((listener = reference.get()) != null) {
+                listener.onNavigationBarThemeChanged();
+            }
         }
 
-        for (DynamicListener listener : getListeners()) {
-            listener.onNavigationBarThemeChanged();
-        }
+        mListeners.prune();
     }
 }
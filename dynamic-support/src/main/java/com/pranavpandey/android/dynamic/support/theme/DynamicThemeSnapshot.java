@@ -0,0 +1,377 @@
+/*
+ * Copyright 2018-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.theme;
+
+import android.content.Context;
+import android.content.pm.ActivityInfo;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.content.res.TypedArray;
+import android.util.SparseArray;
+
+import androidx.annotation.AttrRes;
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.StyleRes;
+
+import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.util.DynamicSdkUtils;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * An immutable snapshot of the theme attributes resolved from a style resource.
+ * <p>All the attributes used by the {@link DynamicTheme} are resolved in a single pass with
+ * one {@link TypedArray} and the snapshot is memoised according to the context and style
+ * resource, so applying the same style again does not require to resolve the attributes again.
+ *
+ * <p>A memoised snapshot is validated against the theme of the context and its state, so it
+ * will be evicted only if the theme is replaced or modified, or the configuration is changed.
+ */
+public class DynamicThemeSnapshot {
+
+    /**
+     * Constant for the integer attribute.
+     */
+    private static final int TYPE_INTEGER = 0;
+
+    /**
+     * Constant for the color attribute.
+     */
+    private static final int TYPE_COLOR = 1;
+
+    /**
+     * Constant for the dimension attribute.
+     */
+    private static final int TYPE_DIMENSION = 2;
+
+    /**
+     * Attributes and their types resolved by the snapshot.
+     */
+    private static final int[][] ATTRS_TYPES = new int[][] {
+            { R.attr.ads_theme_version, TYPE_INTEGER },
+            { R.attr.adt_fontScale, TYPE_INTEGER },
+            { R.attr.adt_cornerRadius, TYPE_DIMENSION },
+            { R.attr.adt_backgroundAware, TYPE_INTEGER },
+            { R.attr.adt_contrast, TYPE_INTEGER },
+            { R.attr.adt_opacity, TYPE_INTEGER },
+            { R.attr.adt_elevation, TYPE_INTEGER },
+            { R.attr.colorSurface, TYPE_COLOR },
+            { R.attr.colorPrimary, TYPE_COLOR },
+            { R.attr.colorPrimaryDark, TYPE_COLOR },
+            { R.attr.colorAccent, TYPE_COLOR },
+            { R.attr.colorError, TYPE_COLOR },
+            { R.attr.colorOnSurface, TYPE_COLOR },
+            { R.attr.colorOnPrimary, TYPE_COLOR },
+            { R.attr.colorOnSecondary, TYPE_COLOR },
+            { R.attr.colorOnError, TYPE_COLOR },
+            { android.R.attr.windowBackground, TYPE_COLOR },
+            { android.R.attr.colorBackground, TYPE_COLOR },
+            { android.R.attr.colorBackgroundFloating, TYPE_COLOR },
+            { android.R.attr.colorPrimary, TYPE_COLOR },
+            { android.R.attr.colorPrimaryDark, TYPE_COLOR },
+            { android.R.attr.colorAccent, TYPE_COLOR },
+            { android.R.attr.colorError, TYPE_COLOR },
+            { android.R.attr.textColorPrimary, TYPE_COLOR },
+            { android.R.attr.textColorSecondary, TYPE_COLOR },
+            { android.R.attr.textColorPrimaryInverse, TYPE_COLOR },
+            { android.R.attr.textColorSecondaryInverse, TYPE_COLOR },
+            { android.R.attr.dialogCornerRadius, TYPE_DIMENSION }
+    };
+
+    /**
+     * Sorted attributes to be resolved by the snapshot.
+     */
+    private static final int[] ATTRS;
+
+    /**
+     * Types of the sorted attributes to be resolved by the snapshot.
+     */
+    private static final int[] TYPES;
+
+    static {
+        int[] attrs = new int[ATTRS_TYPES.length];
+        for (int i = 0; i < ATTRS_TYPES.length; i++) {
+            attrs[i] = ATTRS_TYPES[i][0];
+        }
+
+        Arrays.sort(attrs);
+        ATTRS = attrs;
+        TYPES = new int[attrs.length];
+
+        for (int[] attrType : ATTRS_TYPES) {
+            TYPES[Arrays.binarySearch(ATTRS, attrType[0])] = attrType[1];
+        }
+    }
+
+    /**
+     * Configuration changes which may select different resources for the attributes.
+     */
+    private static final int CONFIG_RESOURCES = ActivityInfo.CONFIG_MCC
+            | ActivityInfo.CONFIG_MNC | ActivityInfo.CONFIG_LOCALE
+            | ActivityInfo.CONFIG_TOUCHSCREEN | ActivityInfo.CONFIG_KEYBOARD
+            | ActivityInfo.CONFIG_KEYBOARD_HIDDEN | ActivityInfo.CONFIG_NAVIGATION
+            | ActivityInfo.CONFIG_ORIENTATION | ActivityInfo.CONFIG_SCREEN_LAYOUT
+            | ActivityInfo.CONFIG_UI_MODE | ActivityInfo.CONFIG_SCREEN_SIZE
+            | ActivityInfo.CONFIG_SMALLEST_SCREEN_SIZE | ActivityInfo.CONFIG_DENSITY
+            | ActivityInfo.CONFIG_LAYOUT_DIRECTION | ActivityInfo.CONFIG_COLOR_MODE;
+
+    /**
+     * Memoised snapshots according to the context and style resource.
+     */
+    private static final Map<Context, SparseArray<DynamicThemeSnapshot>> SNAPSHOTS =
+            new WeakHashMap<>();
+
+    /**
+     * Theme used to resolve the attributes.
+     */
+    private final WeakReference<Resources.Theme> mTheme;
+
+    /**
+     * Hash code of the theme state after resolving the attributes.
+     * <p>It will be updated when the same style is applied again to the theme.
+     */
+    private int mThemeHashCode;
+
+    /**
+     * Configuration used to resolve the attributes.
+     */
+    private final Configuration mConfiguration;
+
+    /**
+     * {@code true} if the attribute at the index is defined by the style.
+     */
+    private final boolean[] mDefined;
+
+    /**
+     * Integer, color or pixel offset values of the attributes.
+     */
+    private final int[] mValues;
+
+    /**
+     * Dimension values of the attributes.
+     */
+    private final float[] mDimensions;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param context The context to be used.
+     * @param themeRes The style resource to resolve the attributes.
+     */
+    private DynamicThemeSnapshot(@NonNull Context context, @StyleRes int themeRes) {
+        this.mTheme = new WeakReference<>(context.getTheme());
+        this.mThemeHashCode = getHashCode(context.getTheme());
+        this.mConfiguration = new Configuration(context.getResources().getConfiguration());
+        this.mDefined = new boolean[ATTRS.length];
+        this.mValues = new int[ATTRS.length];
+        this.mDimensions = new float[ATTRS.length];
+
+        TypedArray a = context.getTheme().obtainStyledAttributes(themeRes, ATTRS);
+
+        try {
+            for (int i = 0; i < ATTRS.length; i++) {
+                if (!a.hasValue(i)) {
+                    continue;
+                }
+
+                try {
+                    switch (TYPES[i]) {
+                        case TYPE_COLOR:
+                            mValues[i] = a.getColor(i, 0);
+                            break;
+                        case TYPE_DIMENSION:
+                            mDimensions[i] = a.getDimension(i, 0);
+                            mValues[i] = a.getDimensionPixelOffset(i, 0);
+                            break;
+                        case TYPE_INTEGER:
+                        default:
+                            mValues[i] = a.getInteger(i, 0);
+                            break;
+                    }
+
+                    mDefined[i] = true;
+                } catch (Exception ignored) {
+                }
+            }
+        } finally {
+            a.recycle();
+        }
+    }
+
+    /**
+     * Returns the snapshot for the supplied context and style resource.
+     * <p>It will be resolved only once and memoised till the theme of the context is replaced
+     * or modified, or the configuration is changed to select different resources.
+     *
+     * @param context The context to resolve the attributes.
+     * @param themeRes The style resource to get the snapshot.
+     *
+     * @return The snapshot for the supplied context and style resource.
+     */
+    public static @NonNull DynamicThemeSnapshot get(
+            @NonNull Context context, @StyleRes int themeRes) {
+        synchronized (SNAPSHOTS) {
+            SparseArray<DynamicThemeSnapshot> snapshots = SNAPSHOTS.get(context);
+            if (snapshots == null) {
+                snapshots = new SparseArray<>();
+                SNAPSHOTS.put(context, snapshots);
+            }
+
+            DynamicThemeSnapshot snapshot = snapshots.get(themeRes);
+            if (snapshot == null || !snapshot.isValid(context)) {
+                snapshot = new DynamicThemeSnapshot(context, themeRes);
+                snapshots.put(themeRes, snapshot);
+            }
+
+            return snapshot;
+        }
+    }
+
+    /**
+     * Apply the supplied style resource to the theme of the context and returns its snapshot.
+     * <p>The memoised snapshot will be reused if the theme has not been modified since it was
+     * resolved, as applying the same style again does not change the resolved attributes.
+     *
+     * @param context The context to apply the style.
+     * @param themeRes The style resource to be applied.
+     *
+     * @return The snapshot for the supplied context and style resource.
+     */
+    public static @NonNull DynamicThemeSnapshot apply(
+            @NonNull Context context, @StyleRes int themeRes) {
+        synchronized (SNAPSHOTS) {
+            SparseArray<DynamicThemeSnapshot> snapshots = SNAPSHOTS.get(context);
+            DynamicThemeSnapshot snapshot = snapshots != null ? snapshots.get(themeRes) : null;
+            boolean valid = snapshot != null && snapshot.isValid(context);
+
+            context.getTheme().applyStyle(themeRes, true);
+
+            if (valid) {
+                snapshot.mThemeHashCode = getHashCode(context.getTheme());
+
+                return snapshot;
+            }
+
+            return get(context, themeRes);
+        }
+    }
+
+    /**
+     * Clear all the memoised snapshots.
+     */
+    public static void clear() {
+        synchronized (SNAPSHOTS) {
+            SNAPSHOTS.clear();
+        }
+    }
+
+    /**
+     * Checks whether this snapshot is still valid for the supplied context.
+     *
+     * @param context The context to validate this snapshot.
+     *
+     * @return {@code true} if this snapshot is still valid for the supplied context.
+     */
+    private boolean isValid(@NonNull Context context) {
+        return mTheme.get() == context.getTheme()
+                && mThemeHashCode == getHashCode(context.getTheme())
+                && (mConfiguration.diff(context.getResources().getConfiguration())
+                & CONFIG_RESOURCES) == 0;
+    }
+
+    /**
+     * Returns the hash code of the supplied theme state.
+     * <p>It reflects the applied styles on API 23 and above, otherwise only the theme
+     * identity will be used.
+     *
+     * @param theme The theme to get the hash code.
+     *
+     * @return The hash code of the supplied theme state.
+     */
+    private static int getHashCode(@NonNull Resources.Theme theme) {
+        return DynamicSdkUtils.is23() ? theme.hashCode() : 0;
+    }
+
+    /**
+     * Returns the index of the supplied attribute if it is defined by the style.
+     *
+     * @param attr The attribute to get the index.
+     *
+     * @return The index of the supplied attribute, otherwise {@code -1}.
+     */
+    private int indexOf(@AttrRes int attr) {
+        int index = Arrays.binarySearch(ATTRS, attr);
+
+        return index >= 0 && mDefined[index] ? index : -1;
+    }
+
+    /**
+     * Returns the value of the supplied integer attribute.
+     *
+     * @param attr The integer attribute whose value should be returned.
+     * @param defaultValue The value to return if the attribute is not defined.
+     *
+     * @return The value of the supplied attribute.
+     */
+    public int getInteger(@AttrRes int attr, int defaultValue) {
+        int index = indexOf(attr);
+
+        return index != -1 ? mValues[index] : defaultValue;
+    }
+
+    /**
+     * Returns the value of the supplied color attribute.
+     *
+     * @param attr The color attribute whose value should be returned.
+     * @param defaultValue The value to return if the attribute is not defined.
+     *
+     * @return The value of the supplied attribute.
+     */
+    public @ColorInt int getColor(@AttrRes int attr, int defaultValue) {
+        return getInteger(attr, defaultValue);
+    }
+
+    /**
+     * Returns the value of the supplied dimension attribute.
+     *
+     * @param attr The dimension attribute whose value should be returned.
+     * @param defaultValue The value to return if the attribute is not defined.
+     *
+     * @return The value of the supplied attribute.
+     */
+    public float getDimension(@AttrRes int attr, float defaultValue) {
+        int index = indexOf(attr);
+
+        return index != -1 ? mDimensions[index] : defaultValue;
+    }
+
+    /**
+     * Returns the value of the supplied dimension attribute in integer pixels.
+     *
+     * @param attr The dimension attribute whose value should be returned.
+     * @param defaultValue The value to return if the attribute is not defined.
+     *
+     * @return The value of the supplied attribute.
+     */
+    public int getDimensionPixelOffset(@AttrRes int attr, int defaultValue) {
+        return getInteger(attr, defaultValue);
+    }
+}
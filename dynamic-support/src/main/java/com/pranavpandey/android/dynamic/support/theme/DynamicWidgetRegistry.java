@@ -0,0 +1,772 @@
+/*
+ * Copyright 2018-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.theme;
+
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.util.SparseArray;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.view.ViewCompat;
+
+import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.widget.base.BaseWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicBackgroundWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicErrorWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicLinkWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicScrollableWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicStateSelectedWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicStateWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicTextWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
+import com.pranavpandey.android.dynamic.theme.Theme;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * A registry to hold the dynamic widgets attached to each window, grouped by the color
+ * types they depend on.
+ * <p>Widgets join the registry when they are attached to a window and leave it when they
+ * are detached, so the theme changes can be applied to the widgets of a window without
+ * traversing its whole view hierarchy.
+ *
+ * <p>Widgets are held with weak references and it must be accessed on the main thread.
+ */
+public class DynamicWidgetRegistry implements View.OnAttachStateChangeListener {
+
+    /**
+     * Maximum number of the color types a widget can depend on.
+     * <p>Each color type is added along with its tint counterpart.
+     */
+    private static final int ADS_COLOR_TYPES_MAX = 20;
+
+    /**
+     * Color types which can be resolved from a theme in the theme state.
+     *
+     * @see #getThemeState(DynamicAppTheme)
+     */
+    private static final int[] THEME_COLOR_TYPES = new int[] {
+            Theme.ColorType.BACKGROUND,
+            Theme.ColorType.SURFACE,
+            Theme.ColorType.PRIMARY,
+            Theme.ColorType.PRIMARY_DARK,
+            Theme.ColorType.ACCENT,
+            Theme.ColorType.ACCENT_DARK,
+            Theme.ColorType.ERROR,
+            Theme.ColorType.TINT_BACKGROUND,
+            Theme.ColorType.TINT_SURFACE,
+            Theme.ColorType.TINT_PRIMARY,
+            Theme.ColorType.TINT_PRIMARY_DARK,
+            Theme.ColorType.TINT_ACCENT,
+            Theme.ColorType.TINT_ACCENT_DARK,
+            Theme.ColorType.TINT_ERROR,
+            Theme.ColorType.TEXT_PRIMARY,
+            Theme.ColorType.TEXT_SECONDARY,
+            Theme.ColorType.TEXT_PRIMARY_INVERSE,
+            Theme.ColorType.TEXT_SECONDARY_INVERSE
+    };
+
+    /**
+     * Singleton instance of {@link DynamicWidgetRegistry}.
+     */
+    private static DynamicWidgetRegistry sInstance;
+
+    /**
+     * Registered widgets according to the root view of their window.
+     */
+    private final Map<View, Widgets> mWindows;
+
+    /**
+     * Registration for each registered widget.
+     */
+    private final Map<View, Registration> mRegistrations;
+
+    /**
+     * Sequence to generate the increasing generations of the theme changes, it will be
+     * incremented on every initialization.
+     */
+    private int mSequence;
+
+    /**
+     * Making default constructor private so that it cannot be initialized directly.
+     * <p>Use {@link #getInstance()} instead.
+     */
+    private DynamicWidgetRegistry() {
+        this.mWindows = new WeakHashMap<>();
+        this.mRegistrations = new WeakHashMap<>();
+    }
+
+    /**
+     * Get instance to access public methods. Must be called before accessing the methods.
+     *
+     * @return The singleton instance of this class.
+     */
+    public static synchronized @NonNull DynamicWidgetRegistry getInstance() {
+        if (sInstance == null) {
+            sInstance = new DynamicWidgetRegistry();
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Register a widget to join the registry whenever it is attached to a window.
+     * <p>It should be called from {@link View#onAttachedToWindow()} so that the widgets
+     * which are never attached will not be registered, it will be ignored if the widget
+     * is already registered.
+     *
+     * @param widget The widget to be registered.
+     */
+    public void register(@NonNull View widget) {
+        if (!(widget instanceof BaseWidget) || mRegistrations.containsKey(widget)) {
+            return;
+        }
+
+        widget.addOnAttachStateChangeListener(this);
+        mRegistrations.put(widget, new Registration(mSequence));
+
+        if (ViewCompat.isAttachedToWindow(widget)) {
+            add(widget);
+        }
+    }
+
+    /**
+     * Unregister a widget so that it will not join the registry anymore.
+     *
+     * @param widget The widget to be unregistered.
+     */
+    public void unregister(@NonNull View widget) {
+        widget.removeOnAttachStateChangeListener(this);
+
+        remove(widget);
+        mRegistrations.remove(widget);
+    }
+
+    @Override
+    public void onViewAttachedToWindow(@NonNull View view) {
+        add(view);
+    }
+
+    @Override
+    public void onViewDetachedFromWindow(@NonNull View view) {
+        remove(view);
+    }
+
+    /**
+     * Add a widget to the window it is attached to.
+     * <p>It will be initialized again if the theme of that window has been changed after it
+     * was last initialized, for example, while it was detached in the recycled view pool.
+     *
+     * @param widget The widget to be added.
+     */
+    private void add(@NonNull View widget) {
+        View root = widget.getRootView();
+        Registration registration = mRegistrations.get(widget);
+        if (registration == null) {
+            registration = new Registration(mSequence);
+            mRegistrations.put(widget, registration);
+        } else if (registration.getRoot() == root) {
+            return;
+        }
+
+        remove(widget);
+        Widgets widgets = mWindows.get(root);
+        if (widgets == null) {
+            widgets = new Widgets(mSequence);
+            mWindows.put(root, widgets);
+        }
+
+        if (registration.mGeneration < widgets.mGeneration) {
+            registration.mGeneration = widgets.mGeneration;
+            ((BaseWidget) widget).initialize();
+        }
+
+        widgets.add(widget);
+        registration.mRoot = new WeakReference<>(root);
+    }
+
+    /**
+     * Remove a widget from the window it was attached to.
+     *
+     * @param widget The widget to be removed.
+     */
+    private void remove(@NonNull View widget) {
+        Registration registration = mRegistrations.get(widget);
+        View root = null;
+        if (registration != null) {
+            root = registration.getRoot();
+            registration.mRoot = null;
+        }
+
+        Widgets widgets = root != null ? mWindows.get(root) : null;
+
+        if (widgets != null) {
+            widgets.remove(widget);
+
+            if (widgets.isEmpty()) {
+                mWindows.remove(root);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of widgets registered for the supplied window.
+     *
+     * @param root The root view of the window.
+     *
+     * @return The number of widgets registered for the supplied window.
+     */
+    public int getCount(@Nullable View root) {
+        Widgets widgets = root != null ? mWindows.get(root.getRootView()) : null;
+
+        return widgets != null ? widgets.size() : 0;
+    }
+
+    /**
+     * Initialize all the widgets registered for the supplied window.
+     * <p>It will resolve their colors again from the current dynamic theme.
+     *
+     * @param root The root view of the window.
+     *
+     * @see BaseWidget#initialize()
+     */
+    public void initialize(@Nullable View root) {
+        Widgets widgets = root != null ? mWindows.get(root.getRootView()) : null;
+
+        if (widgets != null) {
+            initialize(widgets, widgets.getAll());
+        }
+    }
+
+    /**
+     * Initialize the widgets registered for the supplied window which depend on any of the
+     * supplied color types.
+     * <p>It will resolve their colors again from the current dynamic theme.
+     *
+     * @param root The root view of the window.
+     * @param colorTypes The changed color types.
+     *
+     * @see BaseWidget#initialize()
+     */
+    public void initialize(@Nullable View root, @Theme.ColorType int... colorTypes) {
+        Widgets widgets = root != null ? mWindows.get(root.getRootView()) : null;
+
+        if (widgets != null && colorTypes != null) {
+            initialize(widgets, widgets.get(colorTypes));
+        }
+    }
+
+    /**
+     * Initialize all the widgets registered for the windows of the supplied context.
+     * <p>It includes the windows of the dialogs and popups shown by the context, as their
+     * widgets are created with the same context.
+     *
+     * @param context The context to initialize its windows, for example, an activity.
+     *
+     * @see #initialize(View)
+     */
+    public void initialize(@NonNull Context context) {
+        for (Widgets widgets : getWindows(context)) {
+            initialize(widgets, widgets.getAll());
+        }
+    }
+
+    /**
+     * Initialize the widgets registered for the windows of the supplied context which depend
+     * on any of the supplied color types.
+     * <p>It includes the windows of the dialogs and popups shown by the context, as their
+     * widgets are created with the same context.
+     *
+     * @param context The context to initialize its windows, for example, an activity.
+     * @param colorTypes The changed color types.
+     *
+     * @see #initialize(View, int...)
+     */
+    public void initialize(@NonNull Context context, @Theme.ColorType int... colorTypes) {
+        if (colorTypes == null) {
+            return;
+        }
+
+        for (Widgets widgets : getWindows(context)) {
+            initialize(widgets, widgets.get(colorTypes));
+        }
+    }
+
+    /**
+     * Returns the registered windows whose widgets belong to the supplied context.
+     *
+     * @param context The context to get the windows.
+     *
+     * @return The registered windows whose widgets belong to the supplied context.
+     */
+    private @NonNull List<Widgets> getWindows(@NonNull Context context) {
+        List<Widgets> windows = new ArrayList<>();
+
+        for (Widgets widgets : mWindows.values()) {
+            for (View widget : widgets.getAll()) {
+                if (widget != null) {
+                    if (isContext(widget.getContext(), context)) {
+                        windows.add(widgets);
+                    }
+
+                    break;
+                }
+            }
+        }
+
+        return windows;
+    }
+
+    /**
+     * Checks whether the supplied context is or wraps the target context.
+     *
+     * @param context The context to be checked.
+     * @param target The target context.
+     *
+     * @return {@code true} if the supplied context is or wraps the target context.
+     */
+    private static boolean isContext(@Nullable Context context, @NonNull Context target) {
+        while (context != null) {
+            if (context == target) {
+                return true;
+            }
+
+            context = context instanceof ContextWrapper
+                    ? ((ContextWrapper) context).getBaseContext() : null;
+        }
+
+        return false;
+    }
+
+    /**
+     * Initialize the supplied widgets.
+     *
+     * @param widgets The widgets of the window.
+     * @param views The widgets to be initialized.
+     */
+    private void initialize(@NonNull Widgets widgets, @NonNull View[] views) {
+        widgets.mGeneration = ++mSequence;
+
+        Registration registration;
+        for (View view : views) {
+            if (view != null) {
+                if ((registration = mRegistrations.get(view)) != null) {
+                    registration.mGeneration = widgets.mGeneration;
+                }
+
+                ((BaseWidget) view).initialize();
+            }
+        }
+    }
+
+    /**
+     * Returns the color types the supplied widget depends on.
+     *
+     * @param widget The widget to get the color types.
+     *
+     * @return The color types the supplied widget depends on.
+     */
+    static @NonNull int[] getColorTypes(@NonNull View widget) {
+        int[] colorTypes = new int[ADS_COLOR_TYPES_MAX];
+        int count = 0;
+
+        if (widget instanceof DynamicWidget) {
+            DynamicWidget dynamicWidget = (DynamicWidget) widget;
+
+            count = add(colorTypes, count, dynamicWidget.getColorType());
+            count = add(colorTypes, count, dynamicWidget.getContrastWithColorType());
+
+            // Background aware and auto contrast depend on the theme background as well.
+            if (dynamicWidget.isBackgroundAware()
+                    || dynamicWidget.getContrast(false) == Theme.Contrast.AUTO) {
+                count = add(colorTypes, count, Theme.ColorType.BACKGROUND);
+            }
+        }
+
+        if (widget instanceof DynamicBackgroundWidget) {
+            count = add(colorTypes, count,
+                    ((DynamicBackgroundWidget) widget).getBackgroundColorType());
+        }
+
+        if (widget instanceof DynamicTextWidget) {
+            count = add(colorTypes, count, ((DynamicTextWidget) widget).getTextColorType());
+        }
+
+        if (widget instanceof DynamicLinkWidget) {
+            count = add(colorTypes, count, ((DynamicLinkWidget) widget).getLinkColorType());
+        }
+
+        if (widget instanceof DynamicErrorWidget) {
+            count = add(colorTypes, count, ((DynamicErrorWidget) widget).getErrorColorType());
+        }
+
+        if (widget instanceof DynamicStateWidget) {
+            count = add(colorTypes, count,
+                    ((DynamicStateWidget) widget).getStateNormalColorType());
+        }
+
+        if (widget instanceof DynamicStateSelectedWidget) {
+            count = add(colorTypes, count,
+                    ((DynamicStateSelectedWidget) widget).getStateSelectedColorType());
+        }
+
+        if (widget instanceof DynamicScrollableWidget) {
+            count = add(colorTypes, count,
+                    ((DynamicScrollableWidget) widget).getScrollBarColorType());
+        }
+
+        return Arrays.copyOf(colorTypes, count);
+    }
+
+    /**
+     * Returns the state of the supplied theme used by the dynamic widgets.
+     * <p>It contains the resolved colors according to the {@link #THEME_COLOR_TYPES}
+     * followed by the other attributes applied to the widgets.
+     *
+     * @param theme The theme to get the state.
+     *
+     * @return The state of the supplied theme used by the dynamic widgets.
+     *
+     * @see #getChangedColorTypes(int[], int[])
+     */
+    public static @NonNull int[] getThemeState(@NonNull DynamicAppTheme theme) {
+        int[] state = new int[THEME_COLOR_TYPES.length + 6];
+        for (int i = 0; i < THEME_COLOR_TYPES.length; i++) {
+            state[i] = theme.resolveColorType(THEME_COLOR_TYPES[i]);
+        }
+
+        int index = THEME_COLOR_TYPES.length;
+        state[index++] = theme.getFontScale();
+        state[index++] = theme.getCornerRadius();
+        state[index++] = theme.getBackgroundAware();
+        state[index++] = theme.getContrast();
+        state[index++] = theme.getOpacity();
+        state[index] = theme.getElevation();
+
+        return state;
+    }
+
+    /**
+     * Returns the color types which have been changed between the supplied theme states.
+     *
+     * @param previous The previous theme state.
+     * @param state The current theme state.
+     *
+     * @return The color types which have been changed between the supplied theme states.
+     *         <p>{@code null} if any other attribute has been changed, so all the widgets
+     *         should be initialized.
+     *
+     * @see #getThemeState(DynamicAppTheme)
+     */
+    public static @Nullable int[] getChangedColorTypes(
+            @Nullable int[] previous, @NonNull int[] state) {
+        if (previous == null || previous.length != state.length) {
+            return null;
+        }
+
+        for (int i = THEME_COLOR_TYPES.length; i < state.length; i++) {
+            if (previous[i] != state[i]) {
+                return null;
+            }
+        }
+
+        int[] colorTypes = new int[THEME_COLOR_TYPES.length];
+        int count = 0;
+        for (int i = 0; i < THEME_COLOR_TYPES.length; i++) {
+            if (previous[i] != state[i]) {
+                colorTypes[count++] = THEME_COLOR_TYPES[i];
+            }
+        }
+
+        return Arrays.copyOf(colorTypes, count);
+    }
+
+    /**
+     * Add a color type along with its tint counterpart to the supplied array if it can be
+     * resolved and not added before.
+     * <p>Tint colors are derived from their base colors, so they depend on each other.
+     *
+     * @param colorTypes The array to add the color type.
+     * @param count The number of color types in the array.
+     * @param colorType The color type to be added.
+     *
+     * @return The number of color types in the array after adding the color type.
+     */
+    private static int add(@NonNull int[] colorTypes, int count,
+            @Theme.ColorType int colorType) {
+        return put(colorTypes, put(colorTypes, count, colorType), getTintColorType(colorType));
+    }
+
+    /**
+     * Put a color type in the supplied array if it can be resolved and not added before.
+     *
+     * @param colorTypes The array to put the color type.
+     * @param count The number of color types in the array.
+     * @param colorType The color type to be put.
+     *
+     * @return The number of color types in the array after putting the color type.
+     */
+    private static int put(@NonNull int[] colorTypes, int count,
+            @Theme.ColorType int colorType) {
+        if (colorType == Theme.ColorType.NONE || colorType == Theme.ColorType.CUSTOM) {
+            return count;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (colorTypes[i] == colorType) {
+                return count;
+            }
+        }
+
+        colorTypes[count] = colorType;
+        return count + 1;
+    }
+
+    /**
+     * Returns the tint counterpart of the supplied color type.
+     * <p>It will return the base color type for a tint color type.
+     *
+     * @param colorType The color type to get its counterpart.
+     *
+     * @return The tint counterpart of the supplied color type.
+     *         <p>{@link Theme.ColorType#NONE} if it does not have any counterpart.
+     */
+    private static @Theme.ColorType int getTintColorType(@Theme.ColorType int colorType) {
+        switch (colorType) {
+            case Theme.ColorType.BACKGROUND:
+                return Theme.ColorType.TINT_BACKGROUND;
+            case Theme.ColorType.TINT_BACKGROUND:
+                return Theme.ColorType.BACKGROUND;
+            case Theme.ColorType.SURFACE:
+                return Theme.ColorType.TINT_SURFACE;
+            case Theme.ColorType.TINT_SURFACE:
+                return Theme.ColorType.SURFACE;
+            case Theme.ColorType.PRIMARY:
+                return Theme.ColorType.TINT_PRIMARY;
+            case Theme.ColorType.TINT_PRIMARY:
+                return Theme.ColorType.PRIMARY;
+            case Theme.ColorType.PRIMARY_DARK:
+                return Theme.ColorType.TINT_PRIMARY_DARK;
+            case Theme.ColorType.TINT_PRIMARY_DARK:
+                return Theme.ColorType.PRIMARY_DARK;
+            case Theme.ColorType.ACCENT:
+                return Theme.ColorType.TINT_ACCENT;
+            case Theme.ColorType.TINT_ACCENT:
+                return Theme.ColorType.ACCENT;
+            case Theme.ColorType.ACCENT_DARK:
+                return Theme.ColorType.TINT_ACCENT_DARK;
+            case Theme.ColorType.TINT_ACCENT_DARK:
+                return Theme.ColorType.ACCENT_DARK;
+            case Theme.ColorType.ERROR:
+                return Theme.ColorType.TINT_ERROR;
+            case Theme.ColorType.TINT_ERROR:
+                return Theme.ColorType.ERROR;
+            default:
+                return Theme.ColorType.NONE;
+        }
+    }
+
+    /**
+     * Registration of a widget to hold the window it is attached to and the generation of
+     * the theme changes applied to it.
+     */
+    static class Registration {
+
+        /**
+         * Root view of the window the widget is attached to.
+         */
+        private WeakReference<View> mRoot;
+
+        /**
+         * Generation of the theme changes applied to the widget.
+         */
+        private int mGeneration;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param generation The generation of the theme changes applied to the widget.
+         */
+        Registration(int generation) {
+            this.mGeneration = generation;
+        }
+
+        /**
+         * Returns the root view of the window the widget is attached to.
+         *
+         * @return The root view of the window the widget is attached to.
+         */
+        @Nullable View getRoot() {
+            return mRoot != null ? mRoot.get() : null;
+        }
+    }
+
+    /**
+     * Widgets of a window grouped by the color types they depend on.
+     */
+    static class Widgets {
+
+        /**
+         * Generation of the theme changes applied to this window.
+         */
+        private int mGeneration;
+
+        /**
+         * Color types for each widget of the window.
+         */
+        private final Map<View, int[]> mColorTypes;
+
+        /**
+         * Widgets according to the color types they depend on.
+         */
+        private final SparseArray<Set<View>> mGroups;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param generation The generation of the theme changes applied to this window.
+         */
+        Widgets(int generation) {
+            this.mGeneration = generation;
+            this.mColorTypes = new WeakHashMap<>();
+            this.mGroups = new SparseArray<>();
+        }
+
+        /**
+         * Add a widget or update its color types if it is already added.
+         *
+         * @param widget The widget to be added.
+         */
+        void add(@NonNull View widget) {
+            int[] colorTypes = getColorTypes(widget);
+            int[] previous = mColorTypes.put(widget, colorTypes);
+
+            if (Arrays.equals(previous, colorTypes)) {
+                return;
+            }
+
+            if (previous != null) {
+                remove(widget, previous);
+            }
+
+            Set<View> group;
+            for (int colorType : colorTypes) {
+                if ((group = mGroups.get(colorType)) == null) {
+                    group = Collections.newSetFromMap(new WeakHashMap<View, Boolean>());
+                    mGroups.put(colorType, group);
+                }
+
+                group.add(widget);
+            }
+        }
+
+        /**
+         * Remove a widget from this window.
+         *
+         * @param widget The widget to be removed.
+         */
+        void remove(@NonNull View widget) {
+            int[] colorTypes = mColorTypes.remove(widget);
+
+            if (colorTypes != null) {
+                remove(widget, colorTypes);
+            }
+        }
+
+        /**
+         * Remove a widget from the groups of the supplied color types.
+         *
+         * @param widget The widget to be removed.
+         * @param colorTypes The color types to remove the widget.
+         */
+        private void remove(@NonNull View widget, @NonNull int[] colorTypes) {
+            Set<View> group;
+            for (int colorType : colorTypes) {
+                if ((group = mGroups.get(colorType)) != null) {
+                    group.remove(widget);
+
+                    if (group.isEmpty()) {
+                        mGroups.remove(colorType);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns a snapshot of all the widgets of this window.
+         *
+         * @return A snapshot of all the widgets of this window.
+         */
+        @NonNull View[] getAll() {
+            return mColorTypes.keySet().toArray(new View[0]);
+        }
+
+        /**
+         * Returns a snapshot of the widgets which depend on any of the supplied color types.
+         * <p>The color types of all the widgets will be updated before grouping them, as they
+         * can be modified by the widget setters without notifying the registry.
+         *
+         * @param colorTypes The color types to get the widgets.
+         *
+         * @return A snapshot of the widgets which depend on any of the supplied color types.
+         */
+        @NonNull View[] get(@Theme.ColorType int... colorTypes) {
+            for (View widget : getAll()) {
+                add(widget);
+            }
+
+            Set<View> widgets = new LinkedHashSet<>();
+            Set<View> group;
+
+            for (int colorType : colorTypes) {
+                if ((group = mGroups.get(colorType)) != null) {
+                    widgets.addAll(group);
+                }
+            }
+
+            return widgets.toArray(new View[0]);
+        }
+
+        /**
+         * Returns the number of widgets of this window.
+         *
+         * @return The number of widgets of this window.
+         */
+        int size() {
+            return mColorTypes.size();
+        }
+
+        /**
+         * Checks whether this window has any widget.
+         *
+         * @return {@code true} if this window does not have any widget.
+         */
+        boolean isEmpty() {
+            return mColorTypes.isEmpty();
+        }
+    }
+}
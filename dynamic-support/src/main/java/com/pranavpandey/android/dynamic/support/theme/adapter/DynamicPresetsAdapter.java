@@ -19,6 +19,9 @@ package com.pranavpandey.android.dynamic.support.theme.adapter;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.database.Cursor;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.LruCache;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -26,6 +29,7 @@ import android.view.ViewGroup;
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.pranavpandey.android.dynamic.support.Dynamic;
@@ -36,14 +40,23 @@ import com.pranavpandey.android.dynamic.support.theme.view.base.ThemePreview;
 import com.pranavpandey.android.dynamic.theme.AppTheme;
 import com.pranavpandey.android.dynamic.theme.ThemeContract;
 import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
+import com.pranavpandey.android.dynamic.util.concurrent.DynamicConcurrent;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static com.pranavpandey.android.dynamic.support.theme.adapter.DynamicPresetsAdapter.Type.VERTICAL;
 
 /**
  * A recycler view adapter to show the theme presets.
+ * <p>The presets are decoded and parsed into an immutable snapshot in the background and
+ * the parsed themes are cached according to their raw value, so binding a preset does not
+ * touch the cursor or parse the theme on the main thread.
  *
  @param <T> The type of the dynamic app theme this adapter will receive.
  */
@@ -67,15 +80,45 @@ public class DynamicPresetsAdapter<T extends AppTheme<?>>
         int HORIZONTAL = 2;
     }
 
+    /**
+     * Maximum number of the parsed themes to be cached.
+     */
+    public static final int ADS_PRESETS_CACHE_SIZE = 64;
+
     /**
      * Layout inflater used by this adapter.
      */
     private final LayoutInflater mInflater;
 
     /**
-     * Cursor for presets handled by this adapter.
+     * Handler to deliver the parsed presets on the main thread.
+     */
+    private final Handler mHandler;
+
+    /**
+     * Cache to store the parsed themes according to their raw value.
+     */
+    private final LruCache<String, Preset<T>> mCache;
+
+    /**
+     * Version of the cache to discard the themes parsed before clearing it.
      */
-    private Cursor mPresets;
+    private volatile int mCacheVersion;
+
+    /**
+     * Raw values of the presets to parse them again after changing the listener.
+     */
+    private List<String> mValues;
+
+    /**
+     * Immutable snapshot of the presets handled by this adapter.
+     */
+    private List<Preset<T>> mPresets;
+
+    /**
+     * Generation of the presets snapshot to discard the outdated results.
+     */
+    private int mGeneration;
 
     /**
      * Type of the preset layout used by this adapter.
@@ -117,18 +160,45 @@ public class DynamicPresetsAdapter<T extends AppTheme<?>>
     public DynamicPresetsAdapter(@NonNull Context context,
             @Type int type, @LayoutRes int layoutRes) {
         this.mInflater = LayoutInflater.from(context);
+        this.mHandler = new Handler(Looper.getMainLooper());
+        this.mCache = new LruCache<>(ADS_PRESETS_CACHE_SIZE);
+        this.mValues = Collections.emptyList();
+        this.mPresets = Collections.emptyList();
         this.mType = type;
         this.mLayoutRes = layoutRes;
+
+        setHasStableIds(true);
     }
 
     @Override
     public @NonNull ViewHolder<T> onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        return new ViewHolder<>(mInflater.inflate(mLayoutRes, parent, false));
+        final ViewHolder<T> holder = new ViewHolder<>(
+                mInflater.inflate(mLayoutRes, parent, false));
+        final View.OnClickListener onClickListener = new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                Preset<T> preset = holder.getPreset();
+                if (mDynamicPresetsListener == null || preset == null) {
+                    return;
+                }
+
+                mDynamicPresetsListener.onPresetClick(v,
+                        preset.getDynamicString(), holder.getThemePreview());
+            }
+        };
+
+        Dynamic.setOnClickListener(holder.getForeground(), onClickListener);
+        Dynamic.setOnClickListener(holder.getThemePreview().getActionView(), onClickListener);
+
+        return holder;
     }
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder<T> holder, int position) {
-        if (mPresets == null) {
+        Preset<T> preset = getPreset(position);
+        holder.setPreset(preset);
+
+        if (preset == null) {
             Dynamic.setVisibility(holder.getRoot(), View.GONE);
 
             return;
@@ -137,50 +207,16 @@ public class DynamicPresetsAdapter<T extends AppTheme<?>>
         Dynamic.setVisibility(holder.getRoot(), View.VISIBLE);
 
         try {
-            T theme = null;
-            if (mPresets.moveToPosition(position)) {
-                String decodeTheme = DynamicThemeUtils.decodeTheme(
-                        mPresets.getString(mPresets.getColumnIndexOrThrow(
-                                ThemeContract.Preset.Column.THEME)));
-
-                if (decodeTheme != null) {
-                    theme = mDynamicPresetsListener.getDynamicTheme(decodeTheme);
-                }
-            }
-
-            if (theme == null) {
-                Dynamic.setVisibility(holder.getRoot(), View.GONE);
-                return;
-            }
+            T theme = preset.getTheme();
 
             holder.getThemePreview().setDynamicTheme(theme);
             Dynamic.setResource(holder.getThemePreview().getActionView(),
                     R.drawable.ads_ic_palette);
             Dynamic.setCorner(holder.getRoot(), theme.getCornerRadius());
             Dynamic.setContrastWithColor(holder.getForeground(), theme.getBackgroundColor());
-
-            if (mDynamicPresetsListener != null) {
-                Dynamic.setOnClickListener(holder.getForeground(), new View.OnClickListener() {
-                    @Override
-                    public void onClick(View v) {
-                        mDynamicPresetsListener.onPresetClick(v,
-                                holder.getThemePreview().getDynamicTheme().toDynamicString(),
-                                holder.getThemePreview());
-                    }
-                });
-                Dynamic.setOnClickListener(holder.getThemePreview().getActionView(),
-                        new View.OnClickListener() {
-                    @Override
-                    public void onClick(View v) {
-                        mDynamicPresetsListener.onPresetClick(v,
-                                holder.getThemePreview().getDynamicTheme().toDynamicString(),
-                                holder.getThemePreview());
-                    }
-                });
-            } else {
-                Dynamic.setClickable(holder.getForeground(), false);
-                Dynamic.setClickable(holder.getThemePreview().getActionView(), false);
-            }
+            Dynamic.setClickable(holder.getForeground(), mDynamicPresetsListener != null);
+            Dynamic.setClickable(holder.getThemePreview().getActionView(),
+                    mDynamicPresetsListener != null);
         } catch (Exception ignored) {
             Dynamic.setVisibility(holder.getRoot(), View.GONE);
         }
@@ -188,19 +224,212 @@ public class DynamicPresetsAdapter<T extends AppTheme<?>>
 
     @Override
     public int getItemCount() {
-        return mPresets == null ? 0 : mPresets.getCount();
+        return mPresets.size();
+    }
+
+    @Override
+    public long getItemId(int position) {
+        Preset<T> preset = getPreset(position);
+
+        return preset != null ? preset.getId() : RecyclerView.NO_ID;
+    }
+
+    /**
+     * Returns the preset at the supplied position.
+     *
+     * @param position The position of the preset.
+     *
+     * @return The preset at the supplied position.
+     */
+    public @Nullable Preset<T> getPreset(int position) {
+        return position >= 0 && position < mPresets.size() ? mPresets.get(position) : null;
+    }
+
+    /**
+     * Returns the immutable snapshot of the presets handled by this adapter.
+     *
+     * @return The immutable snapshot of the presets handled by this adapter.
+     */
+    public @NonNull List<Preset<T>> getPresets() {
+        return mPresets;
     }
 
     /**
      * Sets the theme presets for this adapter.
+     * <p>The raw values will be read from the cursor on the calling thread and they will be
+     * decoded and parsed in the background before updating this adapter.
      *
      * @param presets The theme presets to be set.
      */
-    @SuppressLint("NotifyDataSetChanged")
     public void setPresets(@Nullable Cursor presets) {
+        final List<String> values = new ArrayList<>();
+
+        if (presets != null && !presets.isClosed()) {
+            try {
+                int column = presets.getColumnIndexOrThrow(ThemeContract.Preset.Column.THEME);
+                if (presets.moveToFirst()) {
+                    do {
+                        values.add(presets.getString(column));
+                    } while (presets.moveToNext());
+                }
+            } catch (Exception ignored) {
+            }
+        }
+
+        mValues = Collections.unmodifiableList(values);
+        updatePresets();
+    }
+
+    /**
+     * Parse the raw values of the presets in the background before updating this adapter.
+     */
+    private void updatePresets() {
+        final List<String> values = mValues;
+        final int generation = ++mGeneration;
+        final List<Preset<T>> oldPresets = mPresets;
+        final DynamicPresetsView.DynamicPresetsListener<T> listener = mDynamicPresetsListener;
+
+        if (values.isEmpty()) {
+            setPresets(generation, Collections.<Preset<T>>emptyList(), null);
+
+            return;
+        }
+
+        final int cacheVersion = mCacheVersion;
+
+        DynamicConcurrent.getDefaultExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                final List<Preset<T>> newPresets = parsePresets(
+                        values, listener, cacheVersion);
+                final DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(
+                        new PresetsDiffCallback<>(oldPresets, newPresets));
+
+                mHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        setPresets(generation, newPresets, diffResult);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Sets the parsed presets for this adapter if they are not outdated.
+     *
+     * @param generation The generation of the parsed presets.
+     * @param presets The parsed presets to be set.
+     * @param diffResult The diff result from the current presets, {@code null} to notify that
+     *                   the whole data set has been changed.
+     */
+    @SuppressLint("NotifyDataSetChanged")
+    private void setPresets(int generation, @NonNull List<Preset<T>> presets,
+            @Nullable DiffUtil.DiffResult diffResult) {
+        if (generation != mGeneration) {
+            return;
+        }
+
         mPresets = presets;
 
-        notifyDataSetChanged();
+        if (diffResult != null) {
+            diffResult.dispatchUpdatesTo(this);
+        } else {
+            notifyDataSetChanged();
+        }
+    }
+
+    /**
+     * Clear the cache and discard the themes which are being parsed in the background.
+     */
+    private void clearCache() {
+        mCacheVersion++;
+        mCache.evictAll();
+    }
+
+    /**
+     * Decode the raw preset and parse it by using the supplied listener.
+     *
+     * @param value The raw value of the preset.
+     * @param listener The listener to parse the decoded theme.
+     *
+     * @return The parsed theme, {@code null} if it cannot be parsed.
+     */
+    private @Nullable T getDynamicTheme(@NonNull String value,
+            @NonNull DynamicPresetsView.DynamicPresetsListener<T> listener) {
+        try {
+            String decodeTheme = DynamicThemeUtils.decodeTheme(value);
+
+            return decodeTheme != null ? listener.getDynamicTheme(decodeTheme) : null;
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Decode and parse the raw presets by using the cached themes whenever possible.
+     * <p>It will be called in the background.
+     *
+     * @param values The raw values of the presets.
+     * @param listener The listener to parse the decoded themes.
+     * @param cacheVersion The version of the cache to store the parsed themes.
+     *
+     * @return The immutable list of the parsed presets.
+     */
+    private @NonNull List<Preset<T>> parsePresets(@NonNull List<String> values,
+            @Nullable DynamicPresetsView.DynamicPresetsListener<T> listener, int cacheVersion) {
+        if (listener == null) {
+            return Collections.emptyList();
+        }
+
+        List<Preset<T>> presets = new ArrayList<>(values.size());
+        Map<String, Integer> occurrences = new HashMap<>();
+
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+
+            Preset<T> preset = mCache.get(value);
+            if (preset == null) {
+                T theme = getDynamicTheme(value, listener);
+
+                if (theme == null) {
+                    continue;
+                }
+
+                preset = new Preset<>(value, getId(value), theme);
+                if (cacheVersion == mCacheVersion) {
+                    mCache.put(value, preset);
+                }
+            }
+
+            Integer occurrence = occurrences.get(value);
+            occurrences.put(value, occurrence == null ? 1 : occurrence + 1);
+
+            // Keep the ids unique if the provider returns the same preset more than once.
+            presets.add(occurrence == null ? preset : new Preset<>(value,
+                    preset.getId() * 31 + occurrence, preset.getTheme()));
+        }
+
+        return Collections.unmodifiableList(presets);
+    }
+
+    /**
+     * Returns the stable id for the supplied raw preset.
+     *
+     * @param value The raw value of the preset.
+     *
+     * @return The stable id for the supplied raw preset.
+     */
+    private static long getId(@NonNull String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        return hash == RecyclerView.NO_ID ? 0 : hash;
     }
 
     /**
@@ -223,15 +452,156 @@ public class DynamicPresetsAdapter<T extends AppTheme<?>>
 
     /**
      * Sets the dynamic preset listener for this adapter.
+     * <p>The presets will be parsed again if the listener has been changed.
      *
      * @param dynamicPresetsListener The listener to be set.
      */
     @SuppressLint("NotifyDataSetChanged")
     public void setDynamicPresetsListener(
             @Nullable DynamicPresetsView.DynamicPresetsListener<T> dynamicPresetsListener) {
+        if (mDynamicPresetsListener == dynamicPresetsListener) {
+            notifyDataSetChanged();
+
+            return;
+        }
+
         this.mDynamicPresetsListener = dynamicPresetsListener;
 
-        notifyDataSetChanged();
+        clearCache();
+        updatePresets();
+    }
+
+    /**
+     * A parsed theme preset displayed by this adapter.
+     *
+     * @param <T> The type of the dynamic app theme.
+     */
+    public static class Preset<T extends AppTheme<?>> {
+
+        /**
+         * Raw value of this preset returned by the theme provider.
+         */
+        private final String value;
+
+        /**
+         * Stable id of this preset.
+         */
+        private final long id;
+
+        /**
+         * Parsed theme of this preset.
+         */
+        private final T theme;
+
+        /**
+         * Dynamic string of the parsed theme, it will be created on the first access.
+         */
+        private String dynamicString;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param value The raw value of this preset.
+         * @param id The stable id of this preset.
+         * @param theme The parsed theme of this preset.
+         */
+        public Preset(@NonNull String value, long id, @NonNull T theme) {
+            this.value = value;
+            this.id = id;
+            this.theme = theme;
+        }
+
+        /**
+         * Get the raw value of this preset returned by the theme provider.
+         *
+         * @return The raw value of this preset returned by the theme provider.
+         */
+        public @NonNull String getValue() {
+            return value;
+        }
+
+        /**
+         * Get the stable id of this preset.
+         *
+         * @return The stable id of this preset.
+         */
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * Get the parsed theme of this preset.
+         *
+         * @return The parsed theme of this preset.
+         */
+        public @NonNull T getTheme() {
+            return theme;
+        }
+
+        /**
+         * Get the dynamic string of the parsed theme.
+         *
+         * @return The dynamic string of the parsed theme.
+         */
+        public @NonNull String getDynamicString() {
+            if (dynamicString == null) {
+                dynamicString = theme.toDynamicString();
+            }
+
+            return dynamicString;
+        }
+    }
+
+    /**
+     * Diff callback to compare the presets snapshots.
+     *
+     * @param <T> The type of the dynamic app theme.
+     */
+    static class PresetsDiffCallback<T extends AppTheme<?>> extends DiffUtil.Callback {
+
+        /**
+         * Presets displayed before the update.
+         */
+        private final List<Preset<T>> mOldPresets;
+
+        /**
+         * Presets to be displayed after the update.
+         */
+        private final List<Preset<T>> mNewPresets;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param oldPresets The presets displayed before the update.
+         * @param newPresets The presets to be displayed after the update.
+         */
+        PresetsDiffCallback(@NonNull List<Preset<T>> oldPresets,
+                @NonNull List<Preset<T>> newPresets) {
+            this.mOldPresets = oldPresets;
+            this.mNewPresets = newPresets;
+        }
+
+        @Override
+        public int getOldListSize() {
+            return mOldPresets.size();
+        }
+
+        @Override
+        public int getNewListSize() {
+            return mNewPresets.size();
+        }
+
+        @Override
+        public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+            return mOldPresets.get(oldItemPosition).getId()
+                    == mNewPresets.get(newItemPosition).getId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+            return mOldPresets.get(oldItemPosition).getTheme()
+                    == mNewPresets.get(newItemPosition).getTheme();
+        }
     }
 
     /**
@@ -256,6 +626,11 @@ public class DynamicPresetsAdapter<T extends AppTheme<?>>
          */
         private final ViewGroup foreground;
 
+        /**
+         * Preset bound to this view holder.
+         */
+        private Preset<T> preset;
+
         /**
          * Constructor to initialize views from the supplied layout.
          *
@@ -295,5 +670,23 @@ public class DynamicPresetsAdapter<T extends AppTheme<?>>
         public @Nullable ViewGroup getForeground() {
             return foreground;
         }
+
+        /**
+         * Get the preset bound to this view holder.
+         *
+         * @return The preset bound to this view holder.
+         */
+        public @Nullable Preset<T> getPreset() {
+            return preset;
+        }
+
+        /**
+         * Set the preset bound to this view holder.
+         *
+         * @param preset The preset to be set.
+         */
+        public void setPreset(@Nullable Preset<T> preset) {
+            this.preset = preset;
+        }
     }
 }
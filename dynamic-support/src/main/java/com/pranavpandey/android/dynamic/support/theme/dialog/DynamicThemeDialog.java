@@ -39,6 +39,7 @@ import com.pranavpandey.android.dynamic.support.dialog.DynamicDialog;
 import com.pranavpandey.android.dynamic.support.dialog.fragment.DynamicDialogFragment;
 import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
 import com.pranavpandey.android.dynamic.support.model.DynamicTaskViewModel;
+import com.pranavpandey.android.dynamic.support.model.DynamicThemeCodec;
 import com.pranavpandey.android.dynamic.support.theme.listener.ThemeListener;
 import com.pranavpandey.android.dynamic.support.theme.task.ThemeImportTask;
 import com.pranavpandey.android.dynamic.support.util.DynamicInputUtils;
@@ -462,7 +463,8 @@ public class DynamicThemeDialog<T extends AppTheme<?>, V> extends DynamicDialogF
         if (getDynamicDialog() != null) {
             getDynamicDialog().getButton(DynamicDialog.BUTTON_POSITIVE)
                     .setEnabled(charSequence != null
-                            && DynamicThemeUtils.isValidTheme(charSequence.toString()));
+                            && (DynamicThemeUtils.isValidTheme(charSequence.toString())
+                            || DynamicThemeCodec.isBinary(charSequence.toString())));
         }
     }
 
@@ -228,6 +228,10 @@ public class DynamicAppThemeFragment extends ThemeFragment<DynamicAppTheme> {
                 DynamicIntent.EXTRA_THEME_SHOW_PRESETS_DEFAULT)) {
             Dynamic.setVisibility(mPresetsView, View.VISIBLE);
 
+            // Presets are parsed in the background, so capture the state on the main thread.
+            final @Theme.Style int style = mDynamicTheme.getStyle();
+            final @Theme int type = mDynamicTheme.getType(false);
+
             mPresetsView.setPresetsAdapter(this, getPresetLayoutRes(),
                     new DynamicPresetsView.DynamicPresetsListener<DynamicAppTheme>() {
                 @Override
@@ -238,8 +242,7 @@ public class DynamicAppThemeFragment extends ThemeFragment<DynamicAppTheme> {
                 @Override
                 public @Nullable DynamicAppTheme getDynamicTheme(@NonNull String theme) {
                     try {
-                        return new DynamicAppTheme(theme).setStyle(mDynamicTheme.getStyle())
-                                .setType(mDynamicTheme.getType(false));
+                        return new DynamicAppTheme(theme).setStyle(style).setType(type);
                     } catch (Exception ignored) {
                         return null;
                     }
@@ -244,6 +244,10 @@ public class DynamicRemoteThemeFragment extends ThemeFragment<DynamicRemoteTheme
                 DynamicIntent.EXTRA_THEME_SHOW_PRESETS_DEFAULT)) {
             Dynamic.setVisibility(mPresetsView, View.VISIBLE);
 
+            // Presets are parsed in the background, so capture the state on the main thread.
+            final @Theme.Style int style = mDynamicTheme.getStyle();
+            final @Theme int type = mDynamicTheme.getType(false);
+
             mPresetsView.setPresetsAdapter(this, getPresetLayoutRes(),
                     new DynamicPresetsView.DynamicPresetsListener<DynamicRemoteTheme>() {
                 @Override
@@ -257,8 +261,8 @@ public class DynamicRemoteThemeFragment extends ThemeFragment<DynamicRemoteTheme
                         return new DynamicRemoteTheme(new DynamicWidgetTheme(theme)
                                 .setBackgroundColor(Theme.AUTO, false)
                                 .setTintBackgroundColor(Theme.AUTO)
-                                .setStyle(mDynamicTheme.getStyle())
-                                .setType(mDynamicTheme.getType(false)));
+                                .setStyle(style)
+                                .setType(type));
                     } catch (Exception ignored) {
                         return null;
                     }
@@ -245,6 +245,10 @@ public class DynamicWidgetThemeFragment extends ThemeFragment<DynamicWidgetTheme
                 DynamicIntent.EXTRA_THEME_SHOW_PRESETS_DEFAULT)) {
             Dynamic.setVisibility(mPresetsView, View.VISIBLE);
 
+            // Presets are parsed in the background, so capture the state on the main thread.
+            final @Theme.Style int style = mDynamicTheme.getStyle();
+            final @Theme int type = mDynamicTheme.getType(false);
+
             mPresetsView.setPresetsAdapter(this, getPresetLayoutRes(),
                     new DynamicPresetsView.DynamicPresetsListener<DynamicWidgetTheme>() {
                 @Override
@@ -256,8 +260,7 @@ public class DynamicWidgetThemeFragment extends ThemeFragment<DynamicWidgetTheme
                 public @Nullable DynamicWidgetTheme getDynamicTheme(@NonNull String theme) {
                     try {
                         return new DynamicWidgetTheme(new DynamicWidgetTheme(theme)
-                                .setStyle(mDynamicTheme.getStyle()).setType(
-                                        mDynamicTheme.getType(false)));
+                                .setStyle(style).setType(type));
                     } catch (Exception ignored) {
                         return null;
                     }
@@ -50,6 +50,7 @@ import com.pranavpandey.android.dynamic.support.dialog.fragment.DynamicProgressD
 import com.pranavpandey.android.dynamic.support.fragment.DynamicFragment;
 import com.pranavpandey.android.dynamic.support.intent.DynamicIntent;
 import com.pranavpandey.android.dynamic.support.model.DynamicTaskViewModel;
+import com.pranavpandey.android.dynamic.support.model.DynamicThemeCodec;
 import com.pranavpandey.android.dynamic.support.setting.base.DynamicSliderPreference;
 import com.pranavpandey.android.dynamic.support.setting.base.DynamicSpinnerPreference;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
@@ -563,7 +564,8 @@ public abstract class ThemeFragment<T extends AppTheme<?>> extends DynamicFragme
 
     @Override
     public void importTheme(@Nullable String theme, @Theme.Action int themeAction) {
-        if (theme == null || !DynamicThemeUtils.isValidTheme(theme)) {
+        if (theme == null || !(DynamicThemeUtils.isValidTheme(theme)
+                || DynamicThemeCodec.isBinary(theme))) {
             onThemeError(themeAction, getThemePreview(), null);
         } else {
             try {
@@ -17,14 +17,19 @@
 package com.pranavpandey.android.dynamic.support.theme.inflater;
 
 import android.content.Context;
+import android.content.res.TypedArray;
 import android.util.AttributeSet;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.Button;
 
+import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.pranavpandey.android.dynamic.support.Defaults;
+import com.pranavpandey.android.dynamic.support.Dynamic;
+import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.util.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.widget.DynamicAppBarLayout;
@@ -74,10 +79,19 @@ import com.pranavpandey.android.dynamic.support.widget.DynamicTextInputLayout;
 import com.pranavpandey.android.dynamic.support.widget.DynamicTextView;
 import com.pranavpandey.android.dynamic.support.widget.DynamicToolbar;
 import com.pranavpandey.android.dynamic.support.widget.DynamicViewPager;
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.util.DynamicSdkUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * A {@link LayoutInflater.Factory2} to replace original views with the dynamic support views
  * during inflation.
+ * <p>It uses a pre-compiled registry of {@link ViewCreator} according to the tag name and
+ * peeks the {@link AttributeSet} to avoid constructing the views that will be discarded.
+ * <p>Use {@link #addViewCreator(ViewCreator, String...)} to register the app specific views.
  */
 public class DynamicLayoutInflater implements LayoutInflater.Factory2 {
 
@@ -86,6 +100,373 @@ public class DynamicLayoutInflater implements LayoutInflater.Factory2 {
      */
     protected static final String ADS_TAG_IGNORE = ":ads_ignore";
 
+    /**
+     * Android namespace to peek the raw attributes during inflation.
+     */
+    protected static final String ADS_NAMESPACE_ANDROID =
+            "http://schemas.android.com/apk/res/android";
+
+    /**
+     * Tag attribute to peek the ignore tag during inflation.
+     */
+    protected static final String ADS_ATTR_TAG = "tag";
+
+    /**
+     * Initial capacity for the default view creators.
+     */
+    private static final int ADS_VIEW_CREATORS_CAPACITY = 192;
+
+    /**
+     * Interface to create a view for the supplied tag name during inflation.
+     */
+    public interface ViewCreator {
+
+        /**
+         * This method will be called to create a view during inflation.
+         *
+         * @param context The context the view is being created in.
+         * @param attrs Inflation attributes as specified in XML file.
+         *
+         * @return The created view.
+         */
+        @Nullable View createView(@NonNull Context context, @NonNull AttributeSet attrs);
+    }
+
+    /**
+     * View creator for the menu item view.
+     */
+    private static class MenuItemViewCreator implements ViewCreator {
+
+        /**
+         * Tag name of the menu item view.
+         */
+        private final String mName;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param name The tag name of the menu item view.
+         */
+        MenuItemViewCreator(@NonNull String name) {
+            this.mName = name;
+        }
+
+        @Override
+        public @Nullable View createView(@NonNull Context context,
+                @NonNull AttributeSet attrs) {
+            View view = null;
+
+            try {
+                view = LayoutInflater.from(context).createView(mName, null, attrs);
+                view.post(new MenuInflaterRunnable(view, attrs));
+            } catch (Exception ignored) {
+            }
+
+            return view;
+        }
+    }
+
+    /**
+     * View creator for the button.
+     */
+    private static final ViewCreator BUTTON = new ViewCreator() {
+        @Override
+        public @Nullable View createView(@NonNull Context context,
+                @NonNull AttributeSet attrs) {
+            Button button = new Button(context, attrs);
+            button.setTextColor(DynamicResourceUtils.getColorStateList(
+                    DynamicTheme.getInstance().get().getTintBackgroundColor()));
+
+            return button;
+        }
+    };
+
+    /**
+     * View creator for the card view.
+     * <p>It will directly create a {@link DynamicMaterialCardView} if the stroke is required.
+     */
+    private static final ViewCreator CARD_VIEW = new ViewCreator() {
+        @Override
+        public @Nullable View createView(@NonNull Context context,
+                @NonNull AttributeSet attrs) {
+            return isStrokeRequired(context, attrs)
+                    ? new DynamicMaterialCardView(context, attrs)
+                    : new DynamicCardView(context, attrs);
+        }
+    };
+
+    /**
+     * Immutable map of the default view creators according to the tag name.
+     */
+    private static final Map<String, ViewCreator> VIEW_CREATORS;
+
+    static {
+        Map<String, ViewCreator> creators = new HashMap<>(ADS_VIEW_CREATORS_CAPACITY);
+
+        put(creators, DynamicBackgroundView::new,
+                "View");
+        putMenuItemView(creators,
+                "ListMenuItemView",
+                "com.android.internal.view.menu.ListMenuItemView",
+                "android.support.v7.view.menu.ListMenuItemView",
+                "androidx.appcompat.view.menu.ListMenuItemView");
+        put(creators, DynamicToolbar::new,
+                "Toolbar",
+                "android.support.v7.widget.Toolbar",
+                "androidx.appcompat.widget.Toolbar",
+                "com.google.android.material.appbar.MaterialToolbar",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicToolbar");
+        put(creators, DynamicFloatingToolbar::new,
+                "com.google.android.material.floatingtoolbar.FloatingToolbarLayout",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicFloatingToolbar");
+        put(creators, BUTTON,
+                "Button");
+        put(creators, DynamicButton::new,
+                "android.support.v7.widget.AppCompatButton",
+                "androidx.appcompat.widget.AppCompatButton",
+                "com.google.android.material.button.MaterialButton",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicButton");
+        put(creators, DynamicImageButton::new,
+                "ImageButton",
+                "android.support.v7.widget.AppCompatImageButton",
+                "androidx.appcompat.widget.AppCompatImageButton",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicImageButton");
+        put(creators, DynamicImageView::new,
+                "ImageView",
+                "android.support.v7.widget.AppCompatImageView",
+                "androidx.appcompat.widget.AppCompatImageView",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicImageView");
+        put(creators, DynamicTextView::new,
+                "TextView",
+                "android.support.v7.widget.AppCompatTextView",
+                "androidx.appcompat.widget.AppCompatTextView",
+                "com.google.android.material.textview.MaterialTextView",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicTextView");
+        put(creators, DynamicCheckBox::new,
+                "CheckBox",
+                "android.support.v7.widget.AppCompatCheckBox",
+                "androidx.appcompat.widget.AppCompatCheckBox",
+                "com.google.android.material.checkbox.MaterialCheckBox",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicCheckBox");
+        put(creators, DynamicRadioButton::new,
+                "RadioButton",
+                "android.support.v7.widget.AppCompatRadioButton",
+                "androidx.appcompat.widget.AppCompatRadioButton",
+                "com.google.android.material.radiobutton.MaterialRadioButton",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicRadioButton");
+        put(creators, DynamicEditText::new,
+                "EditText",
+                "android.support.v7.widget.AppCompatEditText",
+                "androidx.appcompat.widget.AppCompatEditText",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicEditText");
+        put(creators, DynamicSwitchCompat::new,
+                "android.support.v7.widget.SwitchCompat",
+                "androidx.appcompat.widget.SwitchCompat",
+                "com.google.android.material.switchmaterial.SwitchMaterial",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicSwitchCompat");
+        put(creators, DynamicMaterialSwitch::new,
+                "com.google.android.material.materialswitch.MaterialSwitch",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicMaterialSwitch");
+        put(creators, DynamicSeekBar::new,
+                "SeekBar",
+                "android.support.v7.widget.AppCompatSeekBar",
+                "androidx.appcompat.widget.AppCompatSeekBar",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicSeekBar");
+        put(creators, DynamicRatingBar::new,
+                "RatingBar",
+                "android.support.v7.widget.AppCompatRatingBar",
+                "androidx.appcompat.widget.AppCompatRatingBar",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicRatingBar");
+        put(creators, DynamicSpinner::new,
+                "Spinner",
+                "android.support.v7.widget.AppCompatSpinner",
+                "androidx.appcompat.widget.AppCompatSpinner",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicSpinner");
+        put(creators, DynamicProgressBar::new,
+                "ProgressBar",
+                "android.support.v4.widget.ContentLoadingProgressBar",
+                "androidx.core.widget.ContentLoadingProgressBar",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicProgressBar");
+        put(creators, DynamicCircularProgressIndicator::new,
+                "com.google.android.material.progressindicator.CircularProgressIndicator",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicCircularProgressIndicator");
+        put(creators, DynamicLinearProgressIndicator::new,
+                "com.google.android.material.progressindicator.LinearProgressIndicator",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicLinearProgressIndicator");
+        put(creators, DynamicSwipeRefreshLayout::new,
+                "android.support.v4.widget.SwipeRefreshLayout",
+                "androidx.SwipeRefreshLayout.widget.SwipeRefreshLayout",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicSwipeRefreshLayout");
+        put(creators, DynamicFrameLayout::new,
+                "FrameLayout",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicFrameLayout");
+        put(creators, DynamicLinearLayout::new,
+                "LinearLayout",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicLinearLayout");
+        put(creators, DynamicLinearLayoutCompat::new,
+                "android.support.v7.widget.LinearLayoutCompat",
+                "androidx.appcompat.widget.LinearLayoutCompat",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicLinearLayoutCompat");
+        put(creators, DynamicForegroundLinearLayout::new,
+                "android.support.design.internal.ForegroundLinearLayout",
+                "com.google.android.material.internal.ForegroundLinearLayout",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicForegroundLinearLayout");
+        put(creators, DynamicRelativeLayout::new,
+                "RelativeLayout",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicRelativeLayout");
+        put(creators, DynamicScrollView::new,
+                "ScrollView",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicScrollView");
+        put(creators, DynamicHorizontalScrollView::new,
+                "HorizontalScrollView",
+                "com.pranavpandey.android.dynamic.support.widget.HorizontalScrollView");
+        put(creators, DynamicListView::new,
+                "ListView",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicListView");
+        put(creators, DynamicGridView::new,
+                "GridView",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicGridView");
+        put(creators, DynamicRecyclerView::new,
+                "android.support.v7.widget.RecyclerView",
+                "androidx.recyclerview.widget.RecyclerView",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicRecyclerView");
+        put(creators, DynamicNestedScrollView::new,
+                "android.support.v4.widget.NestedScrollView",
+                "androidx.core.widget.NestedScrollView",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicNestedScrollView");
+        put(creators, DynamicViewPager::new,
+                "android.support.v4.view.ViewPager",
+                "androidx.viewpager.widget.ViewPager",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicViewPager");
+        put(creators, DynamicCoordinatorLayout::new,
+                "android.support.design.widget.CoordinatorLayout",
+                "androidx.coordinatorlayout.widget.CoordinatorLayout",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicCoordinatorLayout");
+        put(creators, DynamicAppBarLayout::new,
+                "android.support.design.widget.AppBarLayout",
+                "com.google.android.material.bottomappbar.AppBarLayout",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicAppBarLayout");
+        put(creators, DynamicBottomAppBar::new,
+                "android.support.design.bottomappbar.BottomAppBar",
+                "com.google.android.material.bottomappbar.BottomAppBar",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicBottomAppBar");
+        put(creators, DynamicCollapsingToolbarLayout::new,
+                "android.support.design.widget.CollapsingToolbarLayout",
+                "com.google.android.material.bottomappbar.CollapsingToolbarLayout",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicCollapsingToolbarLayout");
+        put(creators, DynamicDrawerLayout::new,
+                "android.support.v4.widget.DrawerLayout",
+                "androidx.DrawerLayout.widget.DrawerLayout",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicDrawerLayout");
+        put(creators, DynamicNavigationView::new,
+                "android.support.design.widget.NavigationView",
+                "com.google.android.material.navigation.NavigationView",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicNavigationView");
+        put(creators, DynamicNavigationMenuItemView::new,
+                "android.support.design.internal.NavigationMenuItemView",
+                "com.google.android.material.internal.NavigationMenuItemView",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicNavigationMenuItemView");
+        put(creators, DynamicBottomNavigationView::new,
+                "android.support.design.widget.BottomNavigationView",
+                "com.google.android.material.bottomnavigation.BottomNavigationView",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicBottomNavigationView");
+        put(creators, DynamicNavigationRailView::new,
+                "android.support.design.widget.NavigationRailView",
+                "com.google.android.material.navigationrail.NavigationRailView",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicNavigationRailView");
+        put(creators, DynamicTabLayout::new,
+                "android.support.design.widget.TabLayout",
+                "com.google.android.material.tabs.TabLayout",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicTabLayout");
+        put(creators, CARD_VIEW,
+                "CardView",
+                "android.support.v7.widget.CardView",
+                "androidx.cardview.widget.CardView",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicCardView");
+        put(creators, DynamicMaterialCardView::new,
+                "com.google.android.material.card.MaterialCardView",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicMaterialCardView");
+        put(creators, DynamicTextInputLayout::new,
+                "android.support.design.widget.TextInputLayout",
+                "com.google.android.material.textfield.TextInputLayout",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicTextInputLayout");
+        put(creators, DynamicTextInputEditText::new,
+                "android.support.design.widget.TextInputEditText",
+                "com.google.android.material.textfield.TextInputEditText",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicTextInputEditText");
+        put(creators, DynamicFloatingActionButton::new,
+                "android.support.design.widget.FloatingActionButton",
+                "com.google.android.material.floatingactionbutton.FloatingActionButton",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicFloatingActionButton");
+        put(creators, DynamicExtendedFloatingActionButton::new,
+                "com.google.android.material.floatingactionbutton.ExtendedFloatingActionButton",
+                "com.pranavpandey.android.dynamic.support.widget.DynamicExtendedFloatingActionButton");
+
+        VIEW_CREATORS = Collections.unmodifiableMap(creators);
+    }
+
+    /**
+     * Map of the view creators registered by the app according to the tag name.
+     */
+    private final Map<String, ViewCreator> mViewCreators = new HashMap<>();
+
+    /**
+     * Put a view creator for the supplied tag names.
+     *
+     * @param creators The map to put the view creator.
+     * @param creator The view creator to be put.
+     * @param names The tag names for the view creator.
+     */
+    private static void put(@NonNull Map<String, ViewCreator> creators,
+            @NonNull ViewCreator creator, @NonNull String... names) {
+        for (String name : names) {
+            creators.put(name, creator);
+        }
+    }
+
+    /**
+     * Put a menu item view creator for each of the supplied tag names.
+     *
+     * @param creators The map to put the view creators.
+     * @param names The tag names for the menu item view.
+     */
+    private static void putMenuItemView(@NonNull Map<String, ViewCreator> creators,
+            @NonNull String... names) {
+        for (String name : names) {
+            creators.put(name, new MenuItemViewCreator(name));
+        }
+    }
+
+    /**
+     * Register a view creator for the supplied tag names.
+     * <p>It will take precedence over the default view creators.
+     *
+     * @param creator The view creator to be registered.
+     * @param names The tag names for the view creator.
+     *
+     * @return The {@link DynamicLayoutInflater} object to allow for chaining of calls to
+     *         set methods.
+     */
+    public @NonNull DynamicLayoutInflater addViewCreator(
+            @NonNull ViewCreator creator, @NonNull String... names) {
+        put(mViewCreators, creator, names);
+
+        return this;
+    }
+
+    /**
+     * Returns the view creator for the supplied tag name.
+     *
+     * @param name The tag name to get the view creator.
+     *
+     * @return The view creator for the supplied tag name.
+     */
+    protected @Nullable ViewCreator getViewCreator(@NonNull String name) {
+        ViewCreator creator = mViewCreators.isEmpty() ? null : mViewCreators.get(name);
+
+        return creator != null ? creator : VIEW_CREATORS.get(name);
+    }
+
     @Override
     public @Nullable View onCreateView(@NonNull String name,
             @NonNull Context context, @NonNull AttributeSet attrs) {
@@ -95,267 +476,87 @@ public class DynamicLayoutInflater implements LayoutInflater.Factory2 {
     @Override
     public @Nullable View onCreateView(@Nullable View parent, final @NonNull String name,
             final @NonNull Context context, final @NonNull AttributeSet attrs) {
+        ViewCreator creator = getViewCreator(name);
         View view = null;
 
-        switch (name) {
-            case "View":
-                view = new DynamicBackgroundView(context, attrs);
-                break;
-            case "ListMenuItemView":
-            case "com.android.internal.view.menu.ListMenuItemView":
-            case "android.support.v7.view.menu.ListMenuItemView":
-            case "androidx.appcompat.view.menu.ListMenuItemView":
-                try {
-                    view = LayoutInflater.from(context).createView(name, null, attrs);
-                    view.post(new MenuInflaterRunnable(view, attrs));
-                } catch (Exception ignored) {
-                }
-                break;
-            case "Toolbar":
-            case "android.support.v7.widget.Toolbar":
-            case "androidx.appcompat.widget.Toolbar":
-            case "com.google.android.material.appbar.MaterialToolbar":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicToolbar":
-                view = new DynamicToolbar(context, attrs);
-                break;
-            case "com.google.android.material.floatingtoolbar.FloatingToolbarLayout":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicFloatingToolbar":
-                view = new DynamicFloatingToolbar(context, attrs);
-                break;
-            case "Button":
-                view = new Button(context, attrs);
-                ((Button) view).setTextColor(DynamicResourceUtils.getColorStateList(
-                        DynamicTheme.getInstance().get().getTintBackgroundColor()));
-                break;
-            case "android.support.v7.widget.AppCompatButton":
-            case "androidx.appcompat.widget.AppCompatButton":
-            case "com.google.android.material.button.MaterialButton":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicButton":
-                view = new DynamicButton(context, attrs);
-                break;
-            case "ImageButton":
-            case "android.support.v7.widget.AppCompatImageButton":
-            case "androidx.appcompat.widget.AppCompatImageButton":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicImageButton":
-                view = new DynamicImageButton(context, attrs);
-                break;
-            case "ImageView":
-            case "android.support.v7.widget.AppCompatImageView":
-            case "androidx.appcompat.widget.AppCompatImageView":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicImageView":
-                view = new DynamicImageView(context, attrs);
-            break;
-            case "TextView":
-            case "android.support.v7.widget.AppCompatTextView":
-            case "androidx.appcompat.widget.AppCompatTextView":
-            case "com.google.android.material.textview.MaterialTextView":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicTextView":
-                view = new DynamicTextView(context, attrs);
-                break;
-            case "CheckBox":
-            case "android.support.v7.widget.AppCompatCheckBox":
-            case "androidx.appcompat.widget.AppCompatCheckBox":
-            case "com.google.android.material.checkbox.MaterialCheckBox":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicCheckBox":
-                view = new DynamicCheckBox(context, attrs);
-                break;
-            case "RadioButton":
-            case "android.support.v7.widget.AppCompatRadioButton":
-            case "androidx.appcompat.widget.AppCompatRadioButton":
-            case "com.google.android.material.radiobutton.MaterialRadioButton":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicRadioButton":
-                view = new DynamicRadioButton(context, attrs);
-                break;
-            case "EditText":
-            case "android.support.v7.widget.AppCompatEditText":
-            case "androidx.appcompat.widget.AppCompatEditText":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicEditText":
-                view = new DynamicEditText(context, attrs);
-                break;
-            case "android.support.v7.widget.SwitchCompat":
-            case "androidx.appcompat.widget.SwitchCompat":
-            case "com.google.android.material.switchmaterial.SwitchMaterial":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicSwitchCompat":
-                view = new DynamicSwitchCompat(context, attrs);
-                break;
-            case "com.google.android.material.materialswitch.MaterialSwitch":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicMaterialSwitch":
-                view = new DynamicMaterialSwitch(context, attrs);
-                break;
-            case "SeekBar":
-            case "android.support.v7.widget.AppCompatSeekBar":
-            case "androidx.appcompat.widget.AppCompatSeekBar":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicSeekBar":
-                view = new DynamicSeekBar(context, attrs);
-                break;
-            case "RatingBar":
-            case "android.support.v7.widget.AppCompatRatingBar":
-            case "androidx.appcompat.widget.AppCompatRatingBar":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicRatingBar":
-                view = new DynamicRatingBar(context, attrs);
-                break;
-            case "Spinner":
-            case "android.support.v7.widget.AppCompatSpinner":
-            case "androidx.appcompat.widget.AppCompatSpinner":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicSpinner":
-                view = new DynamicSpinner(context, attrs);
-                break;
-            case "ProgressBar":
-            case "android.support.v4.widget.ContentLoadingProgressBar":
-            case "androidx.core.widget.ContentLoadingProgressBar":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicProgressBar":
-                view = new DynamicProgressBar(context, attrs);
-                break;
-            case "com.google.android.material.progressindicator.CircularProgressIndicator":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicCircularProgressIndicator":
-                view = new DynamicCircularProgressIndicator(context, attrs);
-                break;
-            case "com.google.android.material.progressindicator.LinearProgressIndicator":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicLinearProgressIndicator":
-                view = new DynamicLinearProgressIndicator(context, attrs);
-                break;
-            case "android.support.v4.widget.SwipeRefreshLayout":
-            case "androidx.SwipeRefreshLayout.widget.SwipeRefreshLayout":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicSwipeRefreshLayout":
-                view = new DynamicSwipeRefreshLayout(context, attrs);
-                break;
-            case "FrameLayout":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicFrameLayout":
-                view = new DynamicFrameLayout(context, attrs);
-                break;
-            case "LinearLayout":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicLinearLayout":
-                view = new DynamicLinearLayout(context, attrs);
-                break;
-            case "android.support.v7.widget.LinearLayoutCompat":
-            case "androidx.appcompat.widget.LinearLayoutCompat":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicLinearLayoutCompat":
-                view = new DynamicLinearLayoutCompat(context, attrs);
-                break;
-            case "android.support.design.internal.ForegroundLinearLayout":
-            case "com.google.android.material.internal.ForegroundLinearLayout":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicForegroundLinearLayout":
-                view = new DynamicForegroundLinearLayout(context, attrs);
-                break;
-            case "RelativeLayout":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicRelativeLayout":
-                view = new DynamicRelativeLayout(context, attrs);
-                break;
-            case "ScrollView":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicScrollView":
-                view = new DynamicScrollView(context, attrs);
-                break;
-            case "HorizontalScrollView":
-            case "com.pranavpandey.android.dynamic.support.widget.HorizontalScrollView":
-                view = new DynamicHorizontalScrollView(context, attrs);
-                break;
-            case "ListView":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicListView":
-                view = new DynamicListView(context, attrs);
-                break;
-            case "GridView":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicGridView":
-                view = new DynamicGridView(context, attrs);
-                break;
-            case "android.support.v7.widget.RecyclerView":
-            case "androidx.recyclerview.widget.RecyclerView":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicRecyclerView":
-                view = new DynamicRecyclerView(context, attrs);
-                break;
-            case "android.support.v4.widget.NestedScrollView":
-            case "androidx.core.widget.NestedScrollView":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicNestedScrollView":
-                view = new DynamicNestedScrollView(context, attrs);
-                break;
-            case "android.support.v4.view.ViewPager":
-            case "androidx.viewpager.widget.ViewPager":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicViewPager":
-                view = new DynamicViewPager(context, attrs);
-                break;
-            case "android.support.design.widget.CoordinatorLayout":
-            case "androidx.coordinatorlayout.widget.CoordinatorLayout":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicCoordinatorLayout":
-                view = new DynamicCoordinatorLayout(context, attrs);
-                break;
-            case "android.support.design.widget.AppBarLayout":
-            case "com.google.android.material.bottomappbar.AppBarLayout":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicAppBarLayout":
-                view = new DynamicAppBarLayout(context, attrs);
-                break;
-            case "android.support.design.bottomappbar.BottomAppBar":
-            case "com.google.android.material.bottomappbar.BottomAppBar":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicBottomAppBar":
-                view = new DynamicBottomAppBar(context, attrs);
-                break;
-            case "android.support.design.widget.CollapsingToolbarLayout":
-            case "com.google.android.material.bottomappbar.CollapsingToolbarLayout":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicCollapsingToolbarLayout":
-                view = new DynamicCollapsingToolbarLayout(context, attrs);
-                break;
-            case "android.support.v4.widget.DrawerLayout":
-            case "androidx.DrawerLayout.widget.DrawerLayout":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicDrawerLayout":
-                view = new DynamicDrawerLayout(context, attrs);
-                break;
-            case "android.support.design.widget.NavigationView":
-            case "com.google.android.material.navigation.NavigationView":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicNavigationView":
-                view = new DynamicNavigationView(context, attrs);
-                break;
-            case "android.support.design.internal.NavigationMenuItemView":
-            case "com.google.android.material.internal.NavigationMenuItemView":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicNavigationMenuItemView":
-                view = new DynamicNavigationMenuItemView(context, attrs);
-                break;
-            case "android.support.design.widget.BottomNavigationView":
-            case "com.google.android.material.bottomnavigation.BottomNavigationView":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicBottomNavigationView":
-                view = new DynamicBottomNavigationView(context, attrs);
-                break;
-            case "android.support.design.widget.NavigationRailView":
-            case "com.google.android.material.navigationrail.NavigationRailView":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicNavigationRailView":
-                view = new DynamicNavigationRailView(context, attrs);
-                break;
-            case "android.support.design.widget.TabLayout":
-            case "com.google.android.material.tabs.TabLayout":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicTabLayout":
-                view = new DynamicTabLayout(context, attrs);
-                break;
-            case "CardView":
-            case "android.support.v7.widget.CardView":
-            case "androidx.cardview.widget.CardView":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicCardView":
-                view = new DynamicCardView(context, attrs);
-                break;
-            case "com.google.android.material.card.MaterialCardView":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicMaterialCardView":
-                view = new DynamicMaterialCardView(context, attrs);
-                break;
-            case "android.support.design.widget.TextInputLayout":
-            case "com.google.android.material.textfield.TextInputLayout":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicTextInputLayout":
-                view = new DynamicTextInputLayout(context, attrs);
-                break;
-            case "android.support.design.widget.TextInputEditText":
-            case "com.google.android.material.textfield.TextInputEditText":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicTextInputEditText":
-                view = new DynamicTextInputEditText(context, attrs);
-                break;
-            case "android.support.design.widget.FloatingActionButton":
-            case "com.google.android.material.floatingactionbutton.FloatingActionButton":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicFloatingActionButton":
-                view = new DynamicFloatingActionButton(context, attrs);
-                break;
-            case "com.google.android.material.floatingactionbutton.ExtendedFloatingActionButton":
-            case "com.pranavpandey.android.dynamic.support.widget.DynamicExtendedFloatingActionButton":
-                view = new DynamicExtendedFloatingActionButton(context, attrs);
-                break;
+        if (creator != null && !isIgnored(attrs)) {
+            view = creator.createView(context, attrs);
         }
 
         return onCustomiseView(view, context, attrs);
     }
 
+    /**
+     * Checks whether the view should be ignored by peeking the supplied attributes.
+     *
+     * @param attrs Inflation attributes as specified in XML file.
+     *
+     * @return {@code true} if the view should be ignored during inflation.
+     */
+    protected boolean isIgnored(@NonNull AttributeSet attrs) {
+        return ADS_TAG_IGNORE.equals(attrs.getAttributeValue(
+                ADS_NAMESPACE_ANDROID, ADS_ATTR_TAG));
+    }
+
+    /**
+     * Checks whether the card view requires a stroke by peeking the supplied attributes.
+     *
+     * @param context The context the view is being created in.
+     * @param attrs Inflation attributes as specified in XML file.
+     *
+     * @return {@code true} if the card view requires a stroke.
+     *
+     * @see DynamicCardView#isStrokeRequired()
+     */
+    protected static boolean isStrokeRequired(@NonNull Context context,
+            @NonNull AttributeSet attrs) {
+        if (!DynamicSdkUtils.is16()) {
+            return false;
+        }
+
+        @Theme.ColorType int colorType;
+        @Theme.ColorType int contrastWithColorType;
+        @ColorInt int color;
+        @ColorInt int contrastWithColor;
+        TypedArray a = context.obtainStyledAttributes(attrs, R.styleable.DynamicCardView);
+
+        try {
+            if (a.getBoolean(R.styleable.DynamicCardView_adt_forceElevation,
+                    Defaults.ADS_FORCE_ELEVATION)) {
+                return false;
+            }
+
+            colorType = a.getInt(
+                    R.styleable.DynamicCardView_adt_colorType,
+                    Theme.ColorType.SURFACE);
+            contrastWithColorType = a.getInt(
+                    R.styleable.DynamicCardView_adt_contrastWithColorType,
+                    Theme.ColorType.BACKGROUND);
+            color = a.getColor(
+                    R.styleable.DynamicCardView_adt_color,
+                    Theme.Color.UNKNOWN);
+            contrastWithColor = a.getColor(
+                    R.styleable.DynamicCardView_adt_contrastWithColor,
+                    Theme.Color.UNKNOWN);
+        } finally {
+            a.recycle();
+        }
+
+        if (colorType != Theme.ColorType.NONE
+                && colorType != Theme.ColorType.CUSTOM) {
+            color = DynamicTheme.getInstance().resolveColorType(colorType);
+        }
+
+        if (contrastWithColorType != Theme.ColorType.NONE
+                && contrastWithColorType != Theme.ColorType.CUSTOM) {
+            contrastWithColor = DynamicTheme.getInstance()
+                    .resolveColorType(contrastWithColorType);
+        }
+
+        return Dynamic.isStrokeRequired(false,
+                Dynamic.isBackgroundSurface(colorType, color, contrastWithColor), color);
+    }
+
     /**
      * Customise the supplied view created by this layout inflater.
      *
@@ -82,6 +82,8 @@ public class DynamicPresetsView<T extends AppTheme<?>>
 
         /**
          * This method will be called while creating the dynamic theme.
+         * <p>It will be called on a background thread while parsing the presets, so it should
+         * only read the state captured on the main thread.
          *
          * @param theme The dynamic theme string associated with the clicked preset.
          *
@@ -184,6 +186,8 @@ public class DynamicPresetsView<T extends AppTheme<?>>
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
 
+        removeCallbacks(mLoadPresets);
+
         if (mLifecycleOwner != null) {
             mLifecycleOwner.getLifecycle().removeObserver(this);
         }
@@ -272,10 +276,11 @@ public class DynamicPresetsView<T extends AppTheme<?>>
 
     /**
      * Try to load the theme presets.
+     * <p>The pending requests will be coalesced, so that the loader is restarted only once.
      */
     public void loadPresets() {
+        removeCallbacks(mLoadPresets);
         post(mLoadPresets);
-        postDelayed(mLoadPresets, DynamicMotion.Duration.SHORT);
     }
 
     /**
@@ -693,6 +693,7 @@ public abstract class DynamicTutorialActivity<V extends Fragment, T extends Tuto
                 }
             };
 
+            mDynamicColorAnimator.setHost(mViewPager);
             DynamicTaskUtils.executeTask(mDynamicColorAnimator);
         }
     }
@@ -187,6 +187,107 @@ public class DynamicPickerUtils {
                 Theme.Color.UNKNOWN);
     }
 
+    /**
+     * Converts the supplied boxed colors into a primitive array.
+     *
+     * @param colors The boxed colors to be converted.
+     *
+     * @return The primitive array of the supplied colors.
+     *         <p>The {@code null} entries will be converted to {@link Theme.Color#UNKNOWN}.
+     */
+    public static @Nullable int[] toPrimitive(@Nullable Integer[] colors) {
+        if (colors == null) {
+            return null;
+        }
+
+        int[] primitives = new int[colors.length];
+        for (int i = 0; i < colors.length; i++) {
+            primitives[i] = colors[i] != null ? colors[i] : Theme.Color.UNKNOWN;
+        }
+
+        return primitives;
+    }
+
+    /**
+     * Converts the supplied boxed shades into a primitive array.
+     *
+     * @param shades The boxed shades to be converted.
+     *
+     * @return The primitive array of the supplied shades.
+     */
+    public static @Nullable int[][] toPrimitive(@Nullable Integer[][] shades) {
+        if (shades == null) {
+            return null;
+        }
+
+        int[][] primitives = new int[shades.length][];
+        for (int i = 0; i < shades.length; i++) {
+            primitives[i] = toPrimitive(shades[i]);
+        }
+
+        return primitives;
+    }
+
+    /**
+     * Converts the supplied primitive colors into a boxed array.
+     *
+     * @param colors The primitive colors to be converted.
+     *
+     * @return The boxed array of the supplied colors.
+     */
+    public static @Nullable Integer[] toBoxed(@Nullable int[] colors) {
+        if (colors == null) {
+            return null;
+        }
+
+        Integer[] boxed = new Integer[colors.length];
+        for (int i = 0; i < colors.length; i++) {
+            boxed[i] = colors[i];
+        }
+
+        return boxed;
+    }
+
+    /**
+     * Converts the supplied primitive shades into a boxed array.
+     *
+     * @param shades The primitive shades to be converted.
+     *
+     * @return The boxed array of the supplied shades.
+     */
+    public static @Nullable Integer[][] toBoxed(@Nullable int[][] shades) {
+        if (shades == null) {
+            return null;
+        }
+
+        Integer[][] boxed = new Integer[shades.length][];
+        for (int i = 0; i < shades.length; i++) {
+            boxed[i] = toBoxed(shades[i]);
+        }
+
+        return boxed;
+    }
+
+    /**
+     * Returns the index of the supplied color in the colors array.
+     *
+     * @param colors The colors array to be searched.
+     * @param color The color to be found.
+     *
+     * @return The index of the supplied color, otherwise {@code -1}.
+     */
+    public static int indexOf(@Nullable int[] colors, @ColorInt int color) {
+        if (colors != null) {
+            for (int i = 0; i < colors.length; i++) {
+                if (colors[i] == color) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
     /**
      * Try to request a storage location for the supplied file.
      *
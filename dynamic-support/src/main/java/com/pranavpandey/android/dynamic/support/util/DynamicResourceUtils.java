@@ -34,6 +34,8 @@ import android.text.TextUtils;
 import android.text.style.ForegroundColorSpan;
 import android.text.style.StyleSpan;
 import android.util.AttributeSet;
+import android.util.LruCache;
+import android.util.SparseIntArray;
 import android.util.TypedValue;
 import android.widget.TextView;
 
@@ -57,6 +59,10 @@ import com.pranavpandey.android.dynamic.util.DynamicSdkUtils;
 import com.pranavpandey.android.dynamic.util.concurrent.DynamicCallback;
 import com.pranavpandey.android.dynamic.util.loader.DynamicLoader;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Helper class to perform resource operations.
  * <p>{@link ContextCompat} and {@link AppCompatResources} are used to provide backward
@@ -79,6 +85,95 @@ public class DynamicResourceUtils {
      */
     public static final boolean ADS_DEFAULT_BOOLEAN_VALUE = false;
 
+    /**
+     * Cache of the resolved attribute value resource ids according to the context.
+     * <p>It will be cleared whenever a style is applied by the {@code DynamicTheme}.
+     */
+    private static final Map<Context, ThemeResourceIds> THEME_RESOURCE_IDS =
+            new WeakHashMap<>();
+
+    /**
+     * Maximum number of the color state lists to be interned.
+     */
+    private static final int ADS_COLOR_STATE_LISTS_CACHE_SIZE = 128;
+
+    /**
+     * State specs for the color state lists converted from an existing one.
+     */
+    private static final int[][] STATES_CONVERTED = new int[][] {
+            new int[] { android.R.attr.state_checked },
+            new int[] { android.R.attr.state_enabled },
+            new int[] { android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_focused },
+            new int[] { android.R.attr.state_pressed }
+    };
+
+    /**
+     * State spec to query the enabled color from an existing color state list.
+     */
+    private static final int[] STATE_ENABLED = new int[] { android.R.attr.state_enabled };
+
+    /**
+     * State spec to query the pressed color from an existing color state list.
+     */
+    private static final int[] STATE_PRESSED = new int[] { android.R.attr.state_pressed };
+
+    /**
+     * State spec to query the focused color from an existing color state list.
+     */
+    private static final int[] STATE_FOCUSED = new int[] { android.R.attr.state_focused };
+
+    /**
+     * State specs for the color state lists of the checkable views.
+     */
+    private static final int[][] STATES_CHECKABLE = new int[][] {
+            new int[] { android.R.attr.state_enabled,
+                    android.R.attr.state_focused },
+            new int[] { -android.R.attr.state_enabled,
+                    -android.R.attr.state_activated,
+                    -android.R.attr.state_checked,
+                    -android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_enabled,
+                    -android.R.attr.state_activated,
+                    -android.R.attr.state_checked,
+                    -android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_enabled,
+                    -android.R.attr.state_activated,
+                    -android.R.attr.state_checked,
+                    android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_activated },
+            new int[] { android.R.attr.state_checked },
+            new int[] { }
+    };
+
+    /**
+     * State specs for the color state lists of the other views.
+     */
+    private static final int[][] STATES_DEFAULT = new int[][] {
+            new int[] { android.R.attr.state_enabled,
+                    android.R.attr.state_focused },
+            new int[] { -android.R.attr.state_enabled,
+                    -android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_enabled,
+                    -android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_pressed },
+            new int[] { }
+    };
+
+    /**
+     * Interned color state lists according to their colors.
+     * <p>Color state lists are immutable, so the same instance can be shared by all the
+     * views tinted with the same colors.
+     */
+    private static final LruCache<ColorStateListKey, ColorStateList> COLOR_STATE_LISTS =
+            new LruCache<>(ADS_COLOR_STATE_LISTS_CACHE_SIZE);
+
+    /**
+     * Reusable key to look up the interned color state lists without any allocation.
+     * <p>It must be accessed only while holding the lock on {@link #COLOR_STATE_LISTS}.
+     */
+    private static final ColorStateListKey COLOR_STATE_LIST_LOOKUP = new ColorStateListKey();
+
     /**
      * Extract the supplied attribute value resource id from the theme.
      *
@@ -449,14 +544,6 @@ public class DynamicResourceUtils {
     public static @NonNull ColorStateList convertColorStateListWithNormal(
             @NonNull ColorStateList colorStateList,
             @ColorInt int normalColor, @ColorInt int tintColor) {
-        int[][] states = new int[][] {
-                new int[] { android.R.attr.state_checked },
-                new int[] { android.R.attr.state_enabled },
-                new int[] { android.R.attr.state_pressed },
-                new int[] { android.R.attr.state_focused },
-                new int[] { android.R.attr.state_pressed }
-        };
-
         int[] colors = new int[] {
                 tintColor,
                 normalColor,
@@ -465,7 +552,7 @@ public class DynamicResourceUtils {
                 normalColor,
         };
 
-        return new ColorStateList(states, colors);
+        return new ColorStateList(STATES_CONVERTED, colors);
     }
 
     /**
@@ -497,27 +584,15 @@ public class DynamicResourceUtils {
      */
     public static @NonNull ColorStateList convertColorStateList(
             @NonNull ColorStateList colorStateList, @ColorInt int color) {
-        int[][] states = new int[][] {
-                new int[] { android.R.attr.state_checked },
-                new int[] { android.R.attr.state_enabled },
-                new int[] { android.R.attr.state_pressed },
-                new int[] { android.R.attr.state_focused },
-                new int[] { android.R.attr.state_pressed }
-        };
-
         int[] colors = new int[] {
                 color,
-                colorStateList.getColorForState
-                        (new int[] { android.R.attr.state_enabled }, color),
-                colorStateList.getColorForState(
-                        new int[] { android.R.attr.state_pressed }, color),
-                colorStateList.getColorForState
-                        (new int[] { android.R.attr.state_focused }, color),
-                colorStateList.getColorForState(
-                        new int[] { android.R.attr.state_pressed }, color),
+                colorStateList.getColorForState(STATE_ENABLED, color),
+                colorStateList.getColorForState(STATE_PRESSED, color),
+                colorStateList.getColorForState(STATE_FOCUSED, color),
+                colorStateList.getColorForState(STATE_PRESSED, color),
         };
 
-        return new ColorStateList(states, colors);
+        return new ColorStateList(STATES_CONVERTED, colors);
     }
 
     /**
@@ -550,9 +625,12 @@ public class DynamicResourceUtils {
     }
 
     /**
-     * Create a new color state list from the supplied disabled, normal and tint colors.
+     * Returns a color state list for the supplied disabled, normal and tint colors.
      * <p>Tint color will be applied on the states like checked, enabled, etc.
      *
+     * <p>The color state lists are interned, so the same immutable instance will be returned
+     * for the same colors and it should not be modified by the caller.
+     *
      * @param disabled The color for the disabled state.
      * @param normal The color for the normal state.
      * @param pressed The color for the pressed state.
@@ -563,41 +641,25 @@ public class DynamicResourceUtils {
      */
     public static @NonNull ColorStateList getColorStateList(@ColorInt int disabled,
             @ColorInt int normal, @ColorInt int pressed, @ColorInt int color, boolean checkable) {
-        if (checkable) {
-            return new ColorStateList(
-                    new int[][] {
-                            new int[] { android.R.attr.state_enabled,
-                                    android.R.attr.state_focused },
-                            new int[] { -android.R.attr.state_enabled,
-                                    -android.R.attr.state_activated,
-                                    -android.R.attr.state_checked,
-                                    -android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_enabled,
-                                    -android.R.attr.state_activated,
-                                    -android.R.attr.state_checked,
-                                    -android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_enabled,
-                                    -android.R.attr.state_activated,
-                                    -android.R.attr.state_checked,
-                                    android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_activated },
-                            new int[] { android.R.attr.state_checked },
-                            new int[] { }
-                    },
-                    new int[] { pressed, disabled, normal, pressed, color, color, normal });
-        } else {
-            return new ColorStateList(
-                    new int[][] {
-                            new int[] { android.R.attr.state_enabled,
-                                    android.R.attr.state_focused },
-                            new int[] { -android.R.attr.state_enabled,
-                                    -android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_enabled,
-                                    -android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_pressed },
-                            new int[] { }
-                    },
-                    new int[] { color, disabled, normal, color, normal });
+        synchronized (COLOR_STATE_LISTS) {
+            COLOR_STATE_LIST_LOOKUP.set(disabled, normal, pressed, color, checkable);
+            ColorStateList colorStateList = COLOR_STATE_LISTS.get(COLOR_STATE_LIST_LOOKUP);
+            if (colorStateList != null) {
+                return colorStateList;
+            }
+
+            if (checkable) {
+                colorStateList = new ColorStateList(STATES_CHECKABLE, new int[] {
+                        pressed, disabled, normal, pressed, color, color, normal });
+            } else {
+                colorStateList = new ColorStateList(STATES_DEFAULT, new int[] {
+                        color, disabled, normal, color, normal });
+            }
+
+            COLOR_STATE_LISTS.put(new ColorStateListKey().set(
+                    disabled, normal, pressed, color, checkable), colorStateList);
+
+            return colorStateList;
         }
     }
 
@@ -715,6 +777,8 @@ public class DynamicResourceUtils {
 
     /**
      * Get the value resource id of a given attribute.
+     * <p>It will be resolved only once for the theme of a context and then cached till the
+     * theme is modified or the {@link #clearResourceIds()} is called.
      *
      * @param context The context to be used.
      * @param attrRes The resource id of the attribute.
@@ -726,12 +790,44 @@ public class DynamicResourceUtils {
             return ADS_DEFAULT_RESOURCE_VALUE;
         }
 
-        TypedArray a = context.getTheme().obtainStyledAttributes(new int[] { attrRes });
+        Resources.Theme theme = context.getTheme();
 
-        try {
-            return a.getResourceId(0, ADS_DEFAULT_RESOURCE_VALUE);
-        } finally {
-            a.recycle();
+        synchronized (THEME_RESOURCE_IDS) {
+            ThemeResourceIds themeResourceIds = THEME_RESOURCE_IDS.get(context);
+            if (themeResourceIds == null || !themeResourceIds.isValid(theme)) {
+                themeResourceIds = new ThemeResourceIds(theme);
+                THEME_RESOURCE_IDS.put(context, themeResourceIds);
+            }
+
+            SparseIntArray resourceIds = themeResourceIds.mResourceIds;
+            int index = resourceIds.indexOfKey(attrRes);
+            if (index >= 0) {
+                return resourceIds.valueAt(index);
+            }
+
+            TypedArray a = theme.obtainStyledAttributes(new int[] { attrRes });
+
+            try {
+                int resourceId = a.getResourceId(0, ADS_DEFAULT_RESOURCE_VALUE);
+                resourceIds.put(attrRes, resourceId);
+
+                return resourceId;
+            } finally {
+                a.recycle();
+            }
+        }
+    }
+
+    /**
+     * Clear the cached attribute value resource ids for all the themes.
+     * <p>It must be called after applying a style to an existing theme so that the
+     * attributes can be resolved again.
+     *
+     * @see #getResourceId(Context, int)
+     */
+    public static void clearResourceIds() {
+        synchronized (THEME_RESOURCE_IDS) {
+            THEME_RESOURCE_IDS.clear();
         }
     }
 
@@ -903,4 +999,128 @@ public class DynamicResourceUtils {
         return Dynamic.isLegacyVersion() ? R.style.Animation_Dynamic_Popup
                 : R.style.Animation_Dynamic2_Popup;
     }
+
+    /**
+     * Resolved attribute value resource ids for the theme of a context.
+     */
+    private static final class ThemeResourceIds {
+
+        /**
+         * Theme used to resolve the resource ids.
+         */
+        private final WeakReference<Resources.Theme> mTheme;
+
+        /**
+         * Hash code of the theme while resolving the resource ids.
+         * <p>It reflects the applied styles on API 23 and above, so any style applied
+         * afterwards can be detected.
+         */
+        private final int mThemeHashCode;
+
+        /**
+         * Resolved resource ids according to the attributes.
+         */
+        private final SparseIntArray mResourceIds;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param theme The theme to resolve the resource ids.
+         */
+        ThemeResourceIds(@NonNull Resources.Theme theme) {
+            this.mTheme = new WeakReference<>(theme);
+            this.mThemeHashCode = theme.hashCode();
+            this.mResourceIds = new SparseIntArray();
+        }
+
+        /**
+         * Checks whether the resolved resource ids are still valid for the supplied theme.
+         *
+         * @param theme The current theme of the context.
+         *
+         * @return {@code true} if the resolved resource ids are still valid.
+         */
+        boolean isValid(@NonNull Resources.Theme theme) {
+            return mTheme.get() == theme && mThemeHashCode == theme.hashCode();
+        }
+    }
+
+    /**
+     * Key to intern the color state lists according to their colors.
+     */
+    private static final class ColorStateListKey {
+
+        /**
+         * The color for the disabled state.
+         */
+        private @ColorInt int mDisabled;
+
+        /**
+         * The color for the normal state.
+         */
+        private @ColorInt int mNormal;
+
+        /**
+         * The color for the pressed state.
+         */
+        private @ColorInt int mPressed;
+
+        /**
+         * The tint color to be applied.
+         */
+        private @ColorInt int mColor;
+
+        /**
+         * {@code true} if the view is checkable.
+         */
+        private boolean mCheckable;
+
+        /**
+         * Set the colors for this key.
+         *
+         * @param disabled The color for the disabled state.
+         * @param normal The color for the normal state.
+         * @param pressed The color for the pressed state.
+         * @param color The tint color to be applied.
+         * @param checkable {@code true} if the view is checkable.
+         *
+         * @return The {@link ColorStateListKey} object to allow for chaining of calls to
+         *         set methods.
+         */
+        @NonNull ColorStateListKey set(@ColorInt int disabled, @ColorInt int normal,
+                @ColorInt int pressed, @ColorInt int color, boolean checkable) {
+            this.mDisabled = disabled;
+            this.mNormal = normal;
+            this.mPressed = pressed;
+            this.mColor = color;
+            this.mCheckable = checkable;
+
+            return this;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof ColorStateListKey)) {
+                return false;
+            }
+
+            ColorStateListKey key = (ColorStateListKey) o;
+            return mDisabled == key.mDisabled && mNormal == key.mNormal
+                    && mPressed == key.mPressed && mColor == key.mColor
+                    && mCheckable == key.mCheckable;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = mDisabled;
+            result = 31 * result + mNormal;
+            result = 31 * result + mPressed;
+            result = 31 * result + mColor;
+            return 31 * result + (mCheckable ? 1 : 0);
+        }
+    }
 }
@@ -23,6 +23,7 @@ import android.graphics.PorterDuff;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.RippleDrawable;
 import android.os.Build;
+import android.util.LruCache;
 import android.view.View;
 import android.widget.AbsListView;
 import android.widget.EdgeEffect;
@@ -30,6 +31,7 @@ import android.widget.HorizontalScrollView;
 import android.widget.ScrollView;
 
 import androidx.annotation.ColorInt;
+import androidx.annotation.DrawableRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
@@ -51,6 +53,9 @@ import com.pranavpandey.android.dynamic.util.DynamicDrawableUtils;
 import com.pranavpandey.android.dynamic.util.DynamicSdkUtils;
 
 import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
 
@@ -177,6 +182,99 @@ public final class DynamicScrollUtils {
      */
     private static Field F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB;
 
+    /**
+     * Maximum number of the thumb drawables to be cached.
+     */
+    private static final int THUMB_CACHE_SIZE = 16;
+
+    /**
+     * Fields resolved via reflection according to their declaring class.
+     * <p>The missing fields are also cached so that they will not be resolved again.
+     */
+    private static final Map<Class<?>, Map<String, Field>> sFields = new HashMap<>();
+
+    /**
+     * Colors applied to the edge effects.
+     */
+    private static final Map<Object, Integer> sEdgeEffectColors = new WeakHashMap<>();
+
+    /**
+     * Scroll bar color, corner size and thumb drawable state applied to the views.
+     */
+    private static final Map<View, int[]> sScrollBarTints = new WeakHashMap<>();
+
+    /**
+     * Colorized thumb drawables according to the drawable resource and color.
+     */
+    private static final LruCache<Long, Drawable.ConstantState> sThumbDrawables =
+            new LruCache<>(THUMB_CACHE_SIZE);
+
+    /**
+     * Returns the accessible field declared by the supplied class.
+     * <p>The result will be cached, so the reflection is performed only once for each field.
+     *
+     * @param clazz The class declaring the field.
+     * @param name The name of the field.
+     *
+     * @return The accessible field declared by the supplied class, otherwise {@code null}.
+     */
+    private static synchronized @Nullable Field getField(
+            @NonNull Class<?> clazz, @NonNull String name) {
+        Map<String, Field> fields = sFields.get(clazz);
+        if (fields == null) {
+            fields = new HashMap<>();
+            sFields.put(clazz, fields);
+        }
+
+        if (fields.containsKey(name)) {
+            return fields.get(name);
+        }
+
+        Field field = null;
+        try {
+            field = clazz.getDeclaredField(name);
+            field.setAccessible(true);
+        } catch (Exception ignored) {
+            field = null;
+        }
+
+        fields.put(name, field);
+
+        return field;
+    }
+
+    /**
+     * Returns the thumb drawable for the supplied resource and color.
+     * <p>The colorized drawable state will be shared, so the resource is inflated only once
+     * for each corner and color.
+     *
+     * @param view The view to get the resources.
+     * @param drawableRes The drawable resource for the thumb.
+     * @param color The color for the thumb.
+     *
+     * @return The thumb drawable for the supplied resource and color.
+     */
+    private static @Nullable Drawable getThumbDrawable(@NonNull View view,
+            @DrawableRes int drawableRes, @ColorInt int color) {
+        Long key = ((long) drawableRes << 32) | (color & 0xFFFFFFFFL);
+        Drawable.ConstantState state = sThumbDrawables.get(key);
+        if (state != null) {
+            return state.newDrawable(view.getResources());
+        }
+
+        Drawable drawable = DynamicResourceUtils.getDrawable(view.getContext(), drawableRes);
+        if (drawable == null) {
+            return null;
+        }
+
+        DynamicDrawableUtils.colorizeDrawable(drawable, color);
+        if ((state = drawable.getConstantState()) != null) {
+            sThumbDrawables.put(key, state);
+        }
+
+        return drawable;
+    }
+
     /**
      * Initialize edge effect or glow fields so that we can access them via reflection.
      *
@@ -185,20 +283,10 @@ public final class DynamicScrollUtils {
     @TargetApi(Build.VERSION_CODES.ICE_CREAM_SANDWICH)
     private static void initializeEdgeEffectFields(@Nullable Object clazz) {
         if (clazz instanceof EdgeEffectCompat) {
-            try {
-                F_EDGE_EFFECT_COMPAT_EDGE_EFFECT = EdgeEffectCompat.class
-                        .getDeclaredField("mEdgeEffect");
-                F_EDGE_EFFECT_COMPAT_EDGE_EFFECT.setAccessible(true);
-            } catch (Exception ignored) {
-            }
+            F_EDGE_EFFECT_COMPAT_EDGE_EFFECT = getField(EdgeEffectCompat.class, "mEdgeEffect");
         } else if (clazz instanceof EdgeEffect) {
-            try {
-                F_EDGE_EFFECT_EDGE = EdgeEffect.class.getDeclaredField("mEdge");
-                F_EDGE_EFFECT_EDGE.setAccessible(true);
-                F_EDGE_EFFECT_GLOW = EdgeEffect.class.getDeclaredField("mGlow");
-                F_EDGE_EFFECT_GLOW.setAccessible(true);
-            } catch (Exception ignored) {
-            }
+            F_EDGE_EFFECT_EDGE = getField(EdgeEffect.class, "mEdge");
+            F_EDGE_EFFECT_GLOW = getField(EdgeEffect.class, "mGlow");
         }
     }
 
@@ -253,15 +341,8 @@ public final class DynamicScrollUtils {
      */
     private static void initializeListViewFields(@Nullable Object clazz) {
         if (clazz instanceof AbsListView) {
-            try {
-                F_LIST_VIEW_EDGE_GLOW_TOP = AbsListView.class
-                        .getDeclaredField("mEdgeGlowTop");
-                F_LIST_VIEW_EDGE_GLOW_TOP.setAccessible(true);
-                F_LIST_VIEW_EDGE_GLOW_BOTTOM = AbsListView.class
-                        .getDeclaredField("mEdgeGlowBottom");
-                F_LIST_VIEW_EDGE_GLOW_BOTTOM.setAccessible(true);
-            } catch (Exception ignored) {
-            }
+            F_LIST_VIEW_EDGE_GLOW_TOP = getField(AbsListView.class, "mEdgeGlowTop");
+            F_LIST_VIEW_EDGE_GLOW_BOTTOM = getField(AbsListView.class, "mEdgeGlowBottom");
         }
     }
 
@@ -272,21 +353,10 @@ public final class DynamicScrollUtils {
      */
     private static void initializeRecyclerViewFields(@Nullable Object clazz) {
         if (clazz instanceof RecyclerView) {
-            try {
-                F_RECYCLER_VIEW_EDGE_GLOW_TOP = RecyclerView.class
-                        .getDeclaredField("mTopGlow");
-                F_RECYCLER_VIEW_EDGE_GLOW_TOP.setAccessible(true);
-                F_RECYCLER_VIEW_EDGE_GLOW_BOTTOM = RecyclerView.class
-                        .getDeclaredField("mBottomGlow");
-                F_RECYCLER_VIEW_EDGE_GLOW_BOTTOM.setAccessible(true);
-                F_RECYCLER_VIEW_EDGE_GLOW_LEFT = RecyclerView.class
-                        .getDeclaredField("mLeftGlow");
-                F_RECYCLER_VIEW_EDGE_GLOW_LEFT.setAccessible(true);
-                F_RECYCLER_VIEW_EDGE_GLOW_RIGHT = RecyclerView.class
-                        .getDeclaredField("mRightGlow");
-                F_RECYCLER_VIEW_EDGE_GLOW_RIGHT.setAccessible(true);
-            } catch (Exception ignored) {
-            }
+            F_RECYCLER_VIEW_EDGE_GLOW_TOP = getField(RecyclerView.class, "mTopGlow");
+            F_RECYCLER_VIEW_EDGE_GLOW_BOTTOM = getField(RecyclerView.class, "mBottomGlow");
+            F_RECYCLER_VIEW_EDGE_GLOW_LEFT = getField(RecyclerView.class, "mLeftGlow");
+            F_RECYCLER_VIEW_EDGE_GLOW_RIGHT = getField(RecyclerView.class, "mRightGlow");
         }
     }
 
@@ -297,15 +367,8 @@ public final class DynamicScrollUtils {
      */
     private static void initializeScrollViewFields(@Nullable Object clazz) {
         if (clazz instanceof ScrollView) {
-            try {
-                F_SCROLL_VIEW_EDGE_GLOW_TOP = ScrollView.class
-                        .getDeclaredField("mEdgeGlowTop");
-                F_SCROLL_VIEW_EDGE_GLOW_TOP.setAccessible(true);
-                F_SCROLL_VIEW_EDGE_GLOW_BOTTOM = ScrollView.class
-                        .getDeclaredField("mEdgeGlowBottom");
-                F_SCROLL_VIEW_EDGE_GLOW_BOTTOM.setAccessible(true);
-            } catch (Exception ignored) {
-            }
+            F_SCROLL_VIEW_EDGE_GLOW_TOP = getField(ScrollView.class, "mEdgeGlowTop");
+            F_SCROLL_VIEW_EDGE_GLOW_BOTTOM = getField(ScrollView.class, "mEdgeGlowBottom");
         }
     }
 
@@ -316,15 +379,8 @@ public final class DynamicScrollUtils {
      */
     private static void initializeHorizontalScrollViewFields(@Nullable Object clazz) {
         if (clazz instanceof HorizontalScrollView) {
-            try {
-                F_SCROLL_VIEW_EDGE_GLOW_LEFT = HorizontalScrollView.class
-                        .getDeclaredField("mEdgeGlowLeft");
-                F_SCROLL_VIEW_EDGE_GLOW_LEFT.setAccessible(true);
-                F_SCROLL_VIEW_EDGE_GLOW_RIGHT = HorizontalScrollView.class
-                        .getDeclaredField("mEdgeGlowRight");
-                F_SCROLL_VIEW_EDGE_GLOW_RIGHT.setAccessible(true);
-            } catch (Exception ignored) {
-            }
+            F_SCROLL_VIEW_EDGE_GLOW_LEFT = getField(HorizontalScrollView.class, "mEdgeGlowLeft");
+            F_SCROLL_VIEW_EDGE_GLOW_RIGHT = getField(HorizontalScrollView.class, "mEdgeGlowRight");
         }
     }
 
@@ -335,15 +391,9 @@ public final class DynamicScrollUtils {
      */
     private static void initializeNestedScrollViewFields(@Nullable Object clazz) {
         if (clazz instanceof NestedScrollView) {
-            try {
-                F_NESTED_SCROLL_VIEW_EDGE_GLOW_TOP = NestedScrollView.class
-                        .getDeclaredField("mEdgeGlowTop");
-                F_NESTED_SCROLL_VIEW_EDGE_GLOW_TOP.setAccessible(true);
-                F_NESTED_SCROLL_VIEW_EDGE_GLOW_BOTTOM = NestedScrollView.class
-                        .getDeclaredField("mEdgeGlowBottom");
-                F_NESTED_SCROLL_VIEW_EDGE_GLOW_BOTTOM.setAccessible(true);
-            } catch (Exception ignored) {
-            }
+            F_NESTED_SCROLL_VIEW_EDGE_GLOW_TOP = getField(NestedScrollView.class, "mEdgeGlowTop");
+            F_NESTED_SCROLL_VIEW_EDGE_GLOW_BOTTOM = getField(
+                    NestedScrollView.class, "mEdgeGlowBottom");
         }
     }
 
@@ -354,15 +404,8 @@ public final class DynamicScrollUtils {
      */
     private static void initializeViewPagerFields(@Nullable Object clazz) {
         if (clazz instanceof ViewPager) {
-            try {
-                F_VIEW_PAGER_EDGE_GLOW_LEFT = ViewPager.class
-                        .getDeclaredField("mLeftEdge");
-                F_VIEW_PAGER_EDGE_GLOW_LEFT.setAccessible(true);
-                F_VIEW_PAGER_EDGE_GLOW_RIGHT = ViewPager.class
-                        .getDeclaredField("mRightEdge");
-                F_VIEW_PAGER_EDGE_GLOW_RIGHT.setAccessible(true);
-            } catch (Exception ignored) {
-            }
+            F_VIEW_PAGER_EDGE_GLOW_LEFT = getField(ViewPager.class, "mLeftEdge");
+            F_VIEW_PAGER_EDGE_GLOW_RIGHT = getField(ViewPager.class, "mRightEdge");
         }
     }
 
@@ -373,21 +416,11 @@ public final class DynamicScrollUtils {
      */
     private static void initializeNavigationViewFields(@Nullable Object clazz) {
         if (clazz instanceof NavigationView) {
-            try {
-                F_NAVIGATION_VIEW_PRESENTER = NavigationView.class
-                        .getDeclaredField("presenter");
-                F_NAVIGATION_VIEW_PRESENTER.setAccessible(true);
-            } catch (Exception ignored) {
-            }
+            F_NAVIGATION_VIEW_PRESENTER = getField(NavigationView.class, "presenter");
         }
 
         if (clazz instanceof NavigationMenuPresenter) {
-            try {
-                F_NAVIGATION_VIEW_RECYCLER_VIEW = NavigationMenuPresenter.class
-                        .getDeclaredField("menuView");
-                F_NAVIGATION_VIEW_RECYCLER_VIEW.setAccessible(true);
-            } catch (Exception ignored) {
-            }
+            F_NAVIGATION_VIEW_RECYCLER_VIEW = getField(NavigationMenuPresenter.class, "menuView");
         }
     }
 
@@ -398,11 +431,7 @@ public final class DynamicScrollUtils {
      */
     private static void initializeScrollBarFields(@Nullable Object clazz) {
         if (clazz instanceof View) {
-            try {
-                F_VIEW_SCROLL_CACHE = View.class.getDeclaredField("mScrollCache");
-                F_VIEW_SCROLL_CACHE.setAccessible(true);
-            } catch (Exception ignored) {
-            }
+            F_VIEW_SCROLL_CACHE = getField(View.class, "mScrollCache");
         }
     }
 
@@ -590,6 +619,13 @@ public final class DynamicScrollUtils {
             return;
         }
 
+        Integer appliedColor = sEdgeEffectColors.get(edgeEffect);
+        if (appliedColor != null && appliedColor == color) {
+            return;
+        }
+
+        sEdgeEffectColors.put(edgeEffect, color);
+
         if (DynamicSdkUtils.is21()) {
             ((EdgeEffect) edgeEffect).setColor(color);
         } else if (edgeEffect instanceof EdgeEffect){
@@ -614,6 +650,8 @@ public final class DynamicScrollUtils {
 
     /**
      * Set the scroll bar color for the view.
+     * <p>It will be skipped if the same color and corner size have already been applied to
+     * the supplied view.
      *
      * @param view The view to be used.
      * @param color The color to be set.
@@ -627,12 +665,22 @@ public final class DynamicScrollUtils {
             return;
         }
 
-        Drawable thumbDrawable = DynamicResourceUtils.getDrawable(view.getContext(),
-                DynamicShapeUtils.getOverlayDimRes(cornerSize));
+        int[] tint = sScrollBarTints.get(view);
+        int corner = Float.floatToIntBits(cornerSize);
+        if (tint != null && tint[0] == color && tint[1] == corner
+                && (tint[2] == 1 || !drawable)) {
+            return;
+        }
+
+        Drawable thumbDrawable = null;
+        if (drawable) {
+            thumbDrawable = getThumbDrawable(view,
+                    DynamicShapeUtils.getOverlayDimRes(cornerSize), color);
 
-        if (drawable && DynamicSdkUtils.is16()) {
-            view.setScrollBarSize(view.getContext().getResources()
-                    .getDimensionPixelSize(R.dimen.ads_scrollbar_size));
+            if (DynamicSdkUtils.is16()) {
+                view.setScrollBarSize(view.getContext().getResources()
+                        .getDimensionPixelSize(R.dimen.ads_scrollbar_size));
+            }
         }
 
         if (DynamicSdkUtils.is29()) {
@@ -646,6 +694,8 @@ public final class DynamicScrollUtils {
             DynamicDrawableUtils.colorizeDrawable(
                     view.getHorizontalScrollbarThumbDrawable(), color);
 
+            sScrollBarTints.put(view, new int[] { color, corner, drawable ? 1 : 0 });
+
             return;
         }
 
@@ -653,66 +703,41 @@ public final class DynamicScrollUtils {
 
         try {
             Object mScrollCache = F_VIEW_SCROLL_CACHE.get(view);
+            Object scrollBar = view;
 
             if (mScrollCache != null) {
-                F_VIEW_SCROLL_BAR =
-                        mScrollCache.getClass().getDeclaredField("scrollBar");
-                F_VIEW_SCROLL_BAR.setAccessible(true);
-                Object scrollBar = F_VIEW_SCROLL_BAR.get(mScrollCache);
-
-                if (scrollBar != null) {
-                    F_VIEW_SCROLL_BAR_VERTICAL_THUMB =
-                            scrollBar.getClass().getDeclaredField("mVerticalThumb");
-                    F_VIEW_SCROLL_BAR_VERTICAL_THUMB.setAccessible(true);
-
-                    if (F_VIEW_SCROLL_BAR_VERTICAL_THUMB != null) {
-                        if (drawable) {
-                            F_VIEW_SCROLL_BAR_VERTICAL_THUMB.set(scrollBar, thumbDrawable);
-                        }
-
-                        DynamicDrawableUtils.colorizeDrawable((Drawable)
-                                F_VIEW_SCROLL_BAR_VERTICAL_THUMB.get(scrollBar), color);
-                    }
-
-                    F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB =
-                            scrollBar.getClass().getDeclaredField("mHorizontalThumb");
-                    F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB.setAccessible(true);
+                F_VIEW_SCROLL_BAR = getField(mScrollCache.getClass(), "scrollBar");
+                scrollBar = F_VIEW_SCROLL_BAR != null
+                        ? F_VIEW_SCROLL_BAR.get(mScrollCache) : null;
+            }
 
-                    if (F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB != null) {
-                        if (drawable) {
-                            F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB.set(scrollBar, thumbDrawable);
-                        }
+            if (scrollBar == null) {
+                return;
+            }
 
-                        DynamicDrawableUtils.colorizeDrawable((Drawable)
-                                F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB.get(scrollBar), color);
-                    }
+            F_VIEW_SCROLL_BAR_VERTICAL_THUMB = getField(scrollBar.getClass(), "mVerticalThumb");
+            if (F_VIEW_SCROLL_BAR_VERTICAL_THUMB != null) {
+                if (drawable) {
+                    F_VIEW_SCROLL_BAR_VERTICAL_THUMB.set(scrollBar, thumbDrawable);
                 }
-            } else {
-                F_VIEW_SCROLL_BAR_VERTICAL_THUMB =
-                        view.getClass().getDeclaredField("mVerticalThumb");
-                F_VIEW_SCROLL_BAR_VERTICAL_THUMB.setAccessible(true);
 
-                if (F_VIEW_SCROLL_BAR_VERTICAL_THUMB != null) {
-                    if (drawable) {
-                        F_VIEW_SCROLL_BAR_VERTICAL_THUMB.set(view, thumbDrawable);
-                    }
+                DynamicDrawableUtils.colorizeDrawable((Drawable)
+                        F_VIEW_SCROLL_BAR_VERTICAL_THUMB.get(scrollBar), color);
+            }
 
-                    DynamicDrawableUtils.colorizeDrawable((Drawable)
-                            F_VIEW_SCROLL_BAR_VERTICAL_THUMB.get(view), color);
+            F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB = getField(
+                    scrollBar.getClass(), "mHorizontalThumb");
+            if (F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB != null) {
+                if (drawable) {
+                    F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB.set(scrollBar, thumbDrawable);
                 }
 
-                F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB =
-                        view.getClass().getDeclaredField("mHorizontalThumb");
-                F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB.setAccessible(true);
-
-                if (F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB != null) {
-                    if (drawable) {
-                        F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB.set(view, thumbDrawable);
-                    }
+                DynamicDrawableUtils.colorizeDrawable((Drawable)
+                        F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB.get(scrollBar), color);
+            }
 
-                    DynamicDrawableUtils.colorizeDrawable((Drawable)
-                            F_VIEW_SCROLL_BAR_HORIZONTAL_THUMB.get(view), color);
-                }
+            if (mScrollCache != null) {
+                sScrollBarTints.put(view, new int[] { color, corner, drawable ? 1 : 0 });
             }
         } catch(Exception ignored) {
         }
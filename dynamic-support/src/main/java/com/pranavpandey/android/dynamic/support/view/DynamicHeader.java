@@ -54,6 +54,10 @@ public class DynamicHeader extends DynamicItemView {
 
     @Override
     public void setColor() {
+        if (deferColor()) {
+            return;
+        }
+
         super.setColor();
 
         Dynamic.setColorTypeOrColor(getTitleView(), getColorType(), getColor());
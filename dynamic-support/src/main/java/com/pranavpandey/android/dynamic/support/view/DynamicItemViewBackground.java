@@ -56,6 +56,10 @@ public class DynamicItemViewBackground extends DynamicItemView {
 
     @Override
     public void setColor() {
+        if (deferColor()) {
+            return;
+        }
+
         super.setColor();
 
         final ViewGroup cardView = findViewById(R.id.ads_item_view_card);
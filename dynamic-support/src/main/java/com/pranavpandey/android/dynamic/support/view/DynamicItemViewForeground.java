@@ -57,6 +57,10 @@ public class DynamicItemViewForeground extends DynamicItemView {
 
     @Override
     public void setColor() {
+        if (deferColor()) {
+            return;
+        }
+
         super.setColor();
 
         final ViewGroup cardView = findViewById(R.id.ads_item_view_card);
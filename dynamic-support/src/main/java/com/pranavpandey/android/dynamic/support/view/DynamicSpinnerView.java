@@ -66,6 +66,10 @@ public class DynamicSpinnerView extends DynamicItemView {
 
     @Override
     public void setColor() {
+        if (deferColor()) {
+            return;
+        }
+
         super.setColor();
 
         Dynamic.setContrastWithColorTypeOrColor(getSelectorView(),
@@ -288,6 +288,10 @@ public class DynamicInfoView extends DynamicView implements DynamicWidget {
 
     @Override
     public void setColor() {
+        if (deferColor()) {
+            return;
+        }
+
         super.setColor();
 
         Dynamic.setContrastWithColorTypeOrColor(getInfoView(),
@@ -462,9 +466,13 @@ public class DynamicInfoView extends DynamicView implements DynamicWidget {
      * @param icon The icon to be set.
      */
     public void setIcon(@Nullable Drawable icon) {
+        if (mIcon == icon) {
+            return;
+        }
+
         this.mIcon = icon;
 
-        onUpdate();
+        update();
     }
 
     /**
@@ -482,9 +490,13 @@ public class DynamicInfoView extends DynamicView implements DynamicWidget {
      * @param iconBig The big fallback icon to be set.
      */
     public void setIconBig(@Nullable Drawable iconBig) {
+        if (mIconBig == iconBig) {
+            return;
+        }
+
         this.mIconBig = iconBig;
 
-        onUpdate();
+        update();
     }
 
     /**
@@ -504,7 +516,7 @@ public class DynamicInfoView extends DynamicView implements DynamicWidget {
     public void setTitle(@Nullable CharSequence title) {
         this.mTitle = title;
 
-        onUpdate();
+        update();
     }
 
     /**
@@ -524,7 +536,7 @@ public class DynamicInfoView extends DynamicView implements DynamicWidget {
     public void setSubtitle(@Nullable CharSequence subtitle) {
         this.mSubtitle = subtitle;
 
-        onUpdate();
+        update();
     }
 
     /**
@@ -544,7 +556,7 @@ public class DynamicInfoView extends DynamicView implements DynamicWidget {
     public void setDescription(@Nullable CharSequence description) {
         this.mDescription = description;
 
-        onUpdate();
+        update();
     }
 
     /**
@@ -564,7 +576,7 @@ public class DynamicInfoView extends DynamicView implements DynamicWidget {
     public void setStatus(@Nullable CharSequence status) {
         this.mStatus = status;
 
-        onUpdate();
+        update();
     }
 
     /**
@@ -580,7 +592,7 @@ public class DynamicInfoView extends DynamicView implements DynamicWidget {
      * Set the title for the links used by this view.
      *
      * <p>Automatic refresh is disabled due to the stability reasons.
-     * <p>Please call {@link #onUpdate()} to refresh the view.
+     * <p>Please call {@link #update()} to refresh the view.
      *
      * @param links The titles for the links to be set.
      */
@@ -601,7 +613,7 @@ public class DynamicInfoView extends DynamicView implements DynamicWidget {
      * Set the subtitle for the links used by this view.
      *
      * <p>Automatic refresh is disabled due to the stability reasons.
-     * <p>Please call {@link #onUpdate()} to refresh the view.
+     * <p>Please call {@link #update()} to refresh the view.
      *
      * @param linksSubtitles The subtitles for the links to be set.
      */
@@ -622,7 +634,7 @@ public class DynamicInfoView extends DynamicView implements DynamicWidget {
      * Set the URL for the links used by this view.
      *
      * <p>Automatic refresh is disabled due to the stability reasons.
-     * <p>Please call {@link #onUpdate()} to refresh the view.
+     * <p>Please call {@link #update()} to refresh the view.
      *
      * @param linksUrls The urls for the links to be set.
      */
@@ -643,7 +655,7 @@ public class DynamicInfoView extends DynamicView implements DynamicWidget {
      * Set the icons array resource for the links used by this view.
      *
      * <p>Automatic refresh is disabled due to the stability reasons.
-     * <p>Please call {@link #onUpdate()} to refresh the view.
+     * <p>Please call {@link #update()} to refresh the view.
      *
      * @param linksIconsResId The icon drawables array resource for the links to be set.
      */
@@ -664,7 +676,7 @@ public class DynamicInfoView extends DynamicView implements DynamicWidget {
      * Set the icon tint colors array resource for the links used by this view.
      *
      * <p>Automatic refresh is disabled due to the stability reasons.
-     * <p>Please call {@link #onUpdate()} to refresh the view.
+     * <p>Please call {@link #update()} to refresh the view.
      *
      * @param linksColorsResId The icon tint colors array resource for the links to be set.
      */
@@ -685,7 +697,7 @@ public class DynamicInfoView extends DynamicView implements DynamicWidget {
      * Set the icon for the links used by this view.
      *
      * <p>Automatic refresh is disabled due to the stability reasons.
-     * <p>Please call {@link #onUpdate()} to refresh the view.
+     * <p>Please call {@link #update()} to refresh the view.
      *
      * @param linksDrawables The icon drawables for the links to be set.
      */
@@ -706,7 +718,7 @@ public class DynamicInfoView extends DynamicView implements DynamicWidget {
      * Set the icon tint color for the links used by this view.
      *
      * <p>Automatic refresh is disabled due to the stability reasons.
-     * <p>Please call {@link #onUpdate()} to refresh the view.
+     * <p>Please call {@link #update()} to refresh the view.
      *
      * @param linksColors The icon tint color for the links to be set.
      */
@@ -250,6 +250,10 @@ public class DynamicItemView extends DynamicView implements DynamicWidget {
 
     @Override
     public void setColor() {
+        if (deferColor()) {
+            return;
+        }
+
         super.setColor();
 
         Dynamic.setContrastWithColorTypeOrColor(getItemView(),
@@ -345,9 +349,13 @@ public class DynamicItemView extends DynamicView implements DynamicWidget {
      * @param icon The icon to be set.
      */
     public void setIcon(@Nullable Drawable icon) {
+        if (mIcon == icon) {
+            return;
+        }
+
         this.mIcon = icon;
 
-        onUpdate();
+        update();
     }
 
     /**
@@ -367,7 +375,7 @@ public class DynamicItemView extends DynamicView implements DynamicWidget {
     public void setTitle(@Nullable CharSequence title) {
         this.mTitle = title;
 
-        onUpdate();
+        update();
     }
 
     /**
@@ -387,7 +395,7 @@ public class DynamicItemView extends DynamicView implements DynamicWidget {
     public void setSubtitle(@Nullable CharSequence subtitle) {
         this.mSubtitle = subtitle;
 
-        onUpdate();
+        update();
     }
 
     /**
@@ -407,6 +415,10 @@ public class DynamicItemView extends DynamicView implements DynamicWidget {
      *               image drawable.
      */
     public void setImageDrawable(@Nullable Drawable imageDrawable, boolean update) {
+        if (mImageDrawable == imageDrawable) {
+            return;
+        }
+
         this.mImageDrawable = imageDrawable;
 
         if (update) {
@@ -444,9 +456,13 @@ public class DynamicItemView extends DynamicView implements DynamicWidget {
      * @param showDivider {@code true} to show the horizontal divider.
      */
     public void setShowDivider(boolean showDivider) {
+        if (mShowDivider == showDivider) {
+            return;
+        }
+
         this.mShowDivider = showDivider;
 
-        onUpdate();
+        update();
     }
 
     /**
@@ -464,9 +480,13 @@ public class DynamicItemView extends DynamicView implements DynamicWidget {
      * @param fillSpace {@code true} to fill the empty icon space.
      */
     public void setFillSpace(boolean fillSpace) {
+        if (mFillSpace == fillSpace) {
+            return;
+        }
+
         this.mFillSpace = fillSpace;
 
-        onUpdate();
+        update();
     }
 
     /**
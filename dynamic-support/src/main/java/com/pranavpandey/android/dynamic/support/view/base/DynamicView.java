@@ -33,9 +33,27 @@ import com.pranavpandey.android.dynamic.theme.Theme;
 /**
  * A {@link DynamicFrameLayout} with basic functionality to create views according
  * to the requirements.
+ *
+ * <p>Use {@link #beginUpdate()} and {@link #endUpdate()} to set multiple values at once, the
+ * view will be updated only once at the end of the batch.
  */
 public abstract class DynamicView extends DynamicFrameLayout {
 
+    /**
+     * Nesting level of the update batches.
+     */
+    private int mUpdateBatch;
+
+    /**
+     * {@code true} if the view update has been requested during the batch.
+     */
+    private boolean mUpdatePending;
+
+    /**
+     * {@code true} if the color update has been requested during the batch.
+     */
+    private boolean mColorPending;
+
     public DynamicView(@NonNull Context context) {
         super(context);
     }
@@ -88,9 +106,83 @@ public abstract class DynamicView extends DynamicFrameLayout {
     /**
      * Manually update this view by calling {@link #onUpdate()} method.
      * <p>Useful in some situations to restore the view state.
+     *
+     * <p>It will be deferred till the end of the batch if called during an update batch.
+     *
+     * @see #beginUpdate()
      */
     public void update() {
-        onUpdate();
+        if (!deferUpdate()) {
+            onUpdate();
+        }
+    }
+
+    /**
+     * Start a batch to set multiple values for this view.
+     * <p>The view and color updates will be deferred till the matching {@link #endUpdate()},
+     * batches can be nested.
+     */
+    public void beginUpdate() {
+        mUpdateBatch++;
+    }
+
+    /**
+     * End the batch started by {@link #beginUpdate()}.
+     * <p>It will update this view once if any update has been requested during the batch.
+     */
+    public void endUpdate() {
+        if (mUpdateBatch == 0 || --mUpdateBatch > 0) {
+            return;
+        }
+
+        boolean update = mUpdatePending;
+        boolean color = mColorPending;
+        mUpdatePending = false;
+        mColorPending = false;
+
+        if (update) {
+            onUpdate();
+        } else if (color) {
+            setColor();
+        }
+    }
+
+    /**
+     * Checks whether an update batch is in progress.
+     *
+     * @return {@code true} if an update batch is in progress.
+     */
+    public boolean isUpdating() {
+        return mUpdateBatch > 0;
+    }
+
+    /**
+     * Defer the view update till the end of the batch if an update batch is in progress.
+     *
+     * @return {@code true} if the view update has been deferred.
+     */
+    protected boolean deferUpdate() {
+        if (!isUpdating()) {
+            return false;
+        }
+
+        mUpdatePending = true;
+        return true;
+    }
+
+    /**
+     * Defer the color update till the end of the batch if an update batch is in progress.
+     * <p>Call it at the start of {@link #setColor()} and return if it has been deferred.
+     *
+     * @return {@code true} if the color update has been deferred.
+     */
+    protected boolean deferColor() {
+        if (!isUpdating()) {
+            return false;
+        }
+
+        mColorPending = true;
+        return true;
     }
 
     /**
@@ -155,6 +247,10 @@ public abstract class DynamicView extends DynamicFrameLayout {
 
     @Override
     public void setColor() {
+        if (deferColor()) {
+            return;
+        }
+
         if (mColor != Theme.Color.UNKNOWN) {
             mAppliedColor = mColor;
             if (isBackgroundAware() && mContrastWithColor != Theme.Color.UNKNOWN) {
@@ -30,6 +30,7 @@ import com.pranavpandey.android.dynamic.support.Defaults;
 import com.pranavpandey.android.dynamic.support.Dynamic;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.theme.DynamicWidgetRegistry;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.WindowInsetsWidget;
 import com.pranavpandey.android.dynamic.theme.Theme;
@@ -136,6 +137,13 @@ public class DynamicAppBarLayout extends AppBarLayout
         initialize();
     }
 
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+
+        DynamicWidgetRegistry.getInstance().register(this);
+    }
+
     @Override
     public void initialize() {
         if (mColorType != Theme.ColorType.NONE
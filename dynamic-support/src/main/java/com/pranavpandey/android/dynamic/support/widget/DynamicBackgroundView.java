@@ -32,6 +32,7 @@ import com.pranavpandey.android.dynamic.support.Defaults;
 import com.pranavpandey.android.dynamic.support.Dynamic;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.theme.DynamicWidgetRegistry;
 import com.pranavpandey.android.dynamic.support.util.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicTintWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
@@ -165,6 +166,13 @@ public class DynamicBackgroundView extends View implements DynamicWidget, Dynami
         initialize();
     }
 
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+
+        DynamicWidgetRegistry.getInstance().register(this);
+    }
+
     @Override
     public void initialize() {
         if (mColorType == Theme.ColorType.NONE) {
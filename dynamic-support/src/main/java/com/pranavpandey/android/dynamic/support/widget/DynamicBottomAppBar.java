@@ -31,6 +31,7 @@ import com.pranavpandey.android.dynamic.support.Defaults;
 import com.pranavpandey.android.dynamic.support.Dynamic;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.theme.DynamicWidgetRegistry;
 import com.pranavpandey.android.dynamic.support.util.DynamicMenuUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicBackgroundWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicTextWidget;
@@ -179,6 +180,13 @@ public class DynamicBottomAppBar extends BottomAppBar implements
         initialize();
     }
 
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+
+        DynamicWidgetRegistry.getInstance().register(this);
+    }
+
     @Override
     public void initialize() {
         if (mBackgroundColorType != Theme.ColorType.NONE
@@ -31,6 +31,7 @@ import com.pranavpandey.android.dynamic.support.Defaults;
 import com.pranavpandey.android.dynamic.support.Dynamic;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.theme.DynamicWidgetRegistry;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicSurfaceWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicTintWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
@@ -173,6 +174,8 @@ public class DynamicLinearLayout extends LinearLayout implements DynamicWidget,
     protected void onAttachedToWindow() {
         super.onAttachedToWindow();
 
+        DynamicWidgetRegistry.getInstance().register(this);
+
         Dynamic.setShowDividers(this, LinearLayout.SHOW_DIVIDER_MIDDLE);
 
         if (getParent() instanceof DynamicWidget
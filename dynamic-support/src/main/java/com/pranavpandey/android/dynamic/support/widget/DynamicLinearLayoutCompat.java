@@ -32,6 +32,7 @@ import com.pranavpandey.android.dynamic.support.Defaults;
 import com.pranavpandey.android.dynamic.support.Dynamic;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.theme.DynamicWidgetRegistry;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicSurfaceWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicTintWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
@@ -177,6 +178,8 @@ public class DynamicLinearLayoutCompat extends LinearLayoutCompat
     protected void onAttachedToWindow() {
         super.onAttachedToWindow();
 
+        DynamicWidgetRegistry.getInstance().register(this);
+
         Dynamic.setShowDividers(this, LinearLayoutCompat.SHOW_DIVIDER_MIDDLE);
 
         if (getParent() instanceof DynamicWidget
@@ -33,6 +33,7 @@ import com.pranavpandey.android.dynamic.support.Defaults;
 import com.pranavpandey.android.dynamic.support.Dynamic;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.theme.DynamicWidgetRegistry;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicCornerWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicFloatingWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicSurfaceWidget;
@@ -172,6 +173,13 @@ public class DynamicMaterialCardView extends MaterialCardView implements Dynamic
         initialize();
     }
 
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+
+        DynamicWidgetRegistry.getInstance().register(this);
+    }
+
     @Override
     public void initialize() {
         if (mColorType != Theme.ColorType.NONE
@@ -421,16 +429,11 @@ public class DynamicMaterialCardView extends MaterialCardView implements Dynamic
 
     @Override
     public boolean isBackgroundSurface() {
-        return !DynamicTheme.getInstance().get().isElevation()
-                || (mColorType != Theme.ColorType.BACKGROUND
-                && mColor != Theme.Color.UNKNOWN
-                && DynamicColorUtils.removeAlpha(mColor)
-                == DynamicColorUtils.removeAlpha(mContrastWithColor));
+        return Dynamic.isBackgroundSurface(mColorType, mColor, mContrastWithColor);
     }
 
     @Override
     public boolean isStrokeRequired() {
-        return DynamicSdkUtils.is16() && !mForceElevation && isBackgroundSurface()
-                && Color.alpha(mColor) < Theme.Opacity.STROKE;
+        return Dynamic.isStrokeRequired(mForceElevation, isBackgroundSurface(), mColor);
     }
 }
@@ -32,6 +32,7 @@ import com.pranavpandey.android.dynamic.support.Defaults;
 import com.pranavpandey.android.dynamic.support.Dynamic;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.theme.DynamicWidgetRegistry;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicSurfaceWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicTintWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
@@ -178,6 +179,8 @@ public class DynamicNavigationMenuItemView extends NavigationMenuItemView
     protected void onAttachedToWindow() {
         super.onAttachedToWindow();
 
+        DynamicWidgetRegistry.getInstance().register(this);
+
         if (getParent() instanceof DynamicWidget
                 && getParent() instanceof DynamicSurfaceWidget) {
             Dynamic.setContrastWithColorTypeOrColor(this,
@@ -100,6 +100,7 @@ public class DynamicPageIndicator2 extends View implements View.OnAttachStateCha
     private final Path unselectedDotLeftPath;
     private final Path unselectedDotRightPath;
     private final RectF rectF;
+    private boolean unselectedPathDirty = true;
 
     // animation
     private ValueAnimator moveAnimation;
@@ -298,6 +299,7 @@ public class DynamicPageIndicator2 extends View implements View.OnAttachStateCha
         } else {
             selectedDotX = 0;
         }
+        unselectedPathDirty = true;
     }
 
     private void resetState() {
@@ -308,6 +310,7 @@ public class DynamicPageIndicator2 extends View implements View.OnAttachStateCha
         retreatingJoinX1 = INVALID_FRACTION;
         retreatingJoinX2 = INVALID_FRACTION;
         selectedDotInPosition = true;
+        unselectedPathDirty = true;
     }
 
     @Override
@@ -376,37 +379,66 @@ public class DynamicPageIndicator2 extends View implements View.OnAttachStateCha
     }
 
     private void drawUnselected(Canvas canvas) {
-        combinedUnselectedPath.rewind();
+        boolean retreating = retreatingJoinX1 != INVALID_FRACTION;
 
-        // draw any settled, revealing or joining dots
+        if (unselectedPathDirty) {
+            combinedUnselectedPath.rewind();
+        }
+
+        // draw the settled dots directly and only build paths for the animating dots
         for (int page = 0; page < pageCount; page++) {
             int nextXIndex = page == pageCount - 1 ? page : page + 1;
-            Path unselectedPath;
-            if (!isRTL()) {
-                unselectedPath = getUnselectedPath(page,
-                        dotCenterX[page],
-                        dotCenterX[nextXIndex],
-                        page == pageCount - 1 ? INVALID_FRACTION : joiningFractions[page],
-                        dotRevealFractions[page]);
-            } else {
-                unselectedPath = getUnselectedPath(page,
-                        dotCenterX[nextXIndex],
-                        dotCenterX[page],
-                        page == pageCount - 1 ? INVALID_FRACTION : joiningFractions[page],
-                        dotRevealFractions[page]);
+            float joiningFraction = page == pageCount - 1
+                    ? INVALID_FRACTION : joiningFractions[page];
+
+            if (isSettled(page, joiningFraction, retreating)) {
+                if (!(page == currentPage && selectedDotInPosition)) {
+                    canvas.drawCircle(dotCenterX[page], dotCenterY, dotRadius, unselectedPaint);
+                }
+            } else if (unselectedPathDirty) {
+                if (!isRTL()) {
+                    combinedUnselectedPath.addPath(getUnselectedPath(page,
+                            dotCenterX[page],
+                            dotCenterX[nextXIndex],
+                            joiningFraction,
+                            dotRevealFractions[page]));
+                } else {
+                    combinedUnselectedPath.addPath(getUnselectedPath(page,
+                            dotCenterX[nextXIndex],
+                            dotCenterX[page],
+                            joiningFraction,
+                            dotRevealFractions[page]));
+                }
             }
-            unselectedPath.addPath(combinedUnselectedPath);
-            combinedUnselectedPath.addPath(unselectedPath);
         }
         // draw any retreating joins
-        if (retreatingJoinX1 != INVALID_FRACTION) {
-            Path retreatingJoinPath = getRetreatingJoinPath();
-            combinedUnselectedPath.addPath(retreatingJoinPath);
+        if (retreating && unselectedPathDirty) {
+            combinedUnselectedPath.addPath(getRetreatingJoinPath());
         }
 
+        unselectedPathDirty = false;
         canvas.drawPath(combinedUnselectedPath, unselectedPaint);
     }
 
+    /**
+     * A dot is settled if it is at rest and does not overlap with any join or reveal, so it
+     * can be drawn directly without building a path for it.
+     */
+    private boolean isSettled(int page, float joiningFraction, boolean retreating) {
+        if ((joiningFraction != 0f && joiningFraction != INVALID_FRACTION)
+                || dotRevealFractions[page] != 0f
+                || (isRTL() && page > 0 && dotRevealFractions[page - 1] != 0f)) {
+            return false;
+        }
+
+        if (retreating) {
+            return retreatingJoinX1 >= dotCenterX[page] + dotRadius
+                    || retreatingJoinX2 <= dotCenterX[page] - dotRadius;
+        }
+
+        return page == 0 || joiningFractions[page - 1] <= 0f;
+    }
+
     /**
      *
      * Unselected dots can be in 6 states:
@@ -621,6 +653,7 @@ public class DynamicPageIndicator2 extends View implements View.OnAttachStateCha
         pageChanging = true;
         previousPage = currentPage;
         currentPage = now;
+        unselectedPathDirty = true;
         final int steps = Math.abs(now - previousPage);
 
         if (steps > 1) {
@@ -680,6 +713,7 @@ public class DynamicPageIndicator2 extends View implements View.OnAttachStateCha
                 // set a flag so that we continue to draw the unselected dot in the target position
                 // until the selected dot has finished moving into place
                 selectedDotInPosition = false;
+                unselectedPathDirty = true;
             }
 
             @Override
@@ -687,6 +721,7 @@ public class DynamicPageIndicator2 extends View implements View.OnAttachStateCha
                 // set a flag when anim finishes so that we don't draw both selected & unselected
                 // page dots
                 selectedDotInPosition = true;
+                unselectedPathDirty = true;
             }
         });
         // slightly delay the start to give the joins a chance to run
@@ -700,17 +735,20 @@ public class DynamicPageIndicator2 extends View implements View.OnAttachStateCha
     private void setJoiningFraction(int leftDot, float fraction) {
         if (leftDot < joiningFractions.length) {
             joiningFractions[leftDot] = fraction;
+            unselectedPathDirty = true;
             ViewCompat.postInvalidateOnAnimation(DynamicPageIndicator2.this);
         }
     }
 
     private void clearJoiningFractions() {
         Arrays.fill(joiningFractions, 0f);
+        unselectedPathDirty = true;
         ViewCompat.postInvalidateOnAnimation(DynamicPageIndicator2.this);
     }
 
     private void setDotRevealFraction(int dot, float fraction) {
         dotRevealFractions[dot] = fraction;
+        unselectedPathDirty = true;
         ViewCompat.postInvalidateOnAnimation(DynamicPageIndicator2.this);
     }
 
@@ -784,6 +822,7 @@ public class DynamicPageIndicator2 extends View implements View.OnAttachStateCha
                     public void onAnimationUpdate(ValueAnimator valueAnimator) {
                         // todo avoid autoboxing
                         retreatingJoinX1 = (Float) valueAnimator.getAnimatedValue();
+                        unselectedPathDirty = true;
                         ViewCompat.postInvalidateOnAnimation(DynamicPageIndicator2.this);
                         // start any reveal animations if we've passed them
                         for (PendingRevealAnimator pendingReveal : revealAnimations) {
@@ -804,6 +843,7 @@ public class DynamicPageIndicator2 extends View implements View.OnAttachStateCha
                     public void onAnimationUpdate(ValueAnimator valueAnimator) {
                         // todo avoid autoboxing
                         retreatingJoinX2 = (Float) valueAnimator.getAnimatedValue();
+                        unselectedPathDirty = true;
                         ViewCompat.postInvalidateOnAnimation(DynamicPageIndicator2.this);
                         // start any reveal animations if we've passed them
                         for (PendingRevealAnimator pendingReveal : revealAnimations) {
@@ -824,12 +864,14 @@ public class DynamicPageIndicator2 extends View implements View.OnAttachStateCha
                     }
                     retreatingJoinX1 = initialX1;
                     retreatingJoinX2 = initialX2;
+                    unselectedPathDirty = true;
                     ViewCompat.postInvalidateOnAnimation(DynamicPageIndicator2.this);
                 }
                 @Override
                 public void onAnimationEnd(Animator animation) {
                     retreatingJoinX1 = INVALID_FRACTION;
                     retreatingJoinX2 = INVALID_FRACTION;
+                    unselectedPathDirty = true;
                     ViewCompat.postInvalidateOnAnimation(DynamicPageIndicator2.this);
                 }
             });
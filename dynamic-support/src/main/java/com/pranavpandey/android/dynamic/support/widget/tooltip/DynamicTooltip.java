@@ -33,12 +33,18 @@ import androidx.core.content.ContextCompat;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.ViewConfigurationCompat;
 
+import com.pranavpandey.android.dynamic.support.R;
+
+import java.lang.ref.WeakReference;
+
 import static android.view.View.SYSTEM_UI_FLAG_LOW_PROFILE;
 import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP_PREFIX;
 
 /**
  * Event handler used to emulate the behavior of {@link View#setTooltipText(CharSequence)}
  * with icon and custom colors.
+ * <p>A single handler is shared by all the views and the tooltip for each view is stored
+ * in its tag, so setting a tooltip does not allocate a new handler every time.
  */
 @RestrictTo(LIBRARY_GROUP_PREFIX)
 public class DynamicTooltip implements View.OnLongClickListener, View.OnHoverListener,
@@ -65,44 +71,131 @@ public class DynamicTooltip implements View.OnLongClickListener, View.OnHoverLis
     private static final long HOVER_HIDE_TIMEOUT_SHORT_MS = 3000;
 
     /**
-     * Anchor view for the tooltip popup.
+     * Interface to prepare the tooltip only when it is about to be shown.
      */
-    private final View mAnchor;
+    public interface Provider {
+
+        /**
+         * This method will be called before showing the tooltip to set its colors, icon
+         * and text.
+         *
+         * @param tooltip The tooltip to be prepared.
+         */
+        void onPrepareTooltip(@NonNull Tooltip tooltip);
+    }
 
     /**
-     * Background color for the tooltip popup.
+     * Colors, icon and text of the tooltip for a view.
      */
-    private final @ColorInt int mBackgroundColor;
+    public static class Tooltip {
+
+        /**
+         * Background color for the tooltip popup.
+         */
+        private @ColorInt int mBackgroundColor;
+
+        /**
+         * Tint color for the tooltip popup.
+         */
+        private @ColorInt int mTintColor;
+
+        /**
+         * Icon for the tooltip popup.
+         */
+        private Drawable mIcon;
+
+        /**
+         * Text for the tooltip popup.
+         */
+        private CharSequence mText;
+
+        /**
+         * Set the colors, icon and text for this tooltip.
+         *
+         * @param backgroundColor The background color for the tooltip.
+         * @param tintColor The tint color for the tooltip.
+         * @param icon The icon drawable for the tooltip.
+         * @param text The text for the tooltip.
+         *
+         * @return The {@link Tooltip} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Tooltip set(@ColorInt int backgroundColor, @ColorInt int tintColor,
+                @Nullable Drawable icon, @Nullable CharSequence text) {
+            this.mBackgroundColor = backgroundColor;
+            this.mTintColor = tintColor;
+            this.mIcon = icon;
+            this.mText = text;
+
+            return this;
+        }
+
+        /**
+         * Returns the background color for the tooltip popup.
+         *
+         * @return The background color for the tooltip popup.
+         */
+        public @ColorInt int getBackgroundColor() {
+            return mBackgroundColor;
+        }
+
+        /**
+         * Returns the tint color for the tooltip popup.
+         *
+         * @return The tint color for the tooltip popup.
+         */
+        public @ColorInt int getTintColor() {
+            return mTintColor;
+        }
+
+        /**
+         * Returns the icon for the tooltip popup.
+         *
+         * @return The icon for the tooltip popup.
+         */
+        public @Nullable Drawable getIcon() {
+            return mIcon;
+        }
+
+        /**
+         * Returns the text for the tooltip popup.
+         *
+         * @return The text for the tooltip popup.
+         */
+        public @Nullable CharSequence getText() {
+            return mText;
+        }
+    }
 
     /**
-     * Tint color for the tooltip popup.
+     * Singleton instance of {@link DynamicTooltip}.
      */
-    private final @ColorInt int mTintColor;
+    private static DynamicTooltip sInstance;
 
     /**
-     * Icon for the tooltip popup.
+     * Horizontal offset for the tooltip popup.
      */
-    private final Drawable mTooltipIcon;
+    private int mAnchorX;
 
     /**
-     * Text for the tooltip popup.
+     * Vertical offset for the tooltip popup.
      */
-    private final CharSequence mTooltipText;
+    private int mAnchorY;
 
     /**
-     * Hover slop for the tooltip.
+     * The view being hovered to update the anchor position.
      */
-    private final int mHoverSlop;
+    private WeakReference<View> mHoverAnchor;
 
     /**
-     * Horizontal offset for the tooltip popup.
+     * The view currently scheduled to show a tooltip, triggered by a hover
+     * (there can be only one).
      */
-    private int mAnchorX;
+    private WeakReference<View> mPendingAnchor;
 
     /**
-     * Vertical offset for the tooltip popup.
+     * The view currently showing a tooltip (there can be only one).
      */
-    private int mAnchorY;
+    private View mActiveAnchor;
 
     /**
      * The tooltip popup.
@@ -115,15 +208,25 @@ public class DynamicTooltip implements View.OnLongClickListener, View.OnHoverLis
     private boolean mFromTouch;
 
     /**
-     * The handler currently scheduled to show a tooltip, triggered by a hover
-     * (there can be only one).
+     * Making default constructor private so that it cannot be initialized directly.
+     * <p>Use {@link #getInstance()} instead.
      */
-    private static DynamicTooltip sPendingHandler;
+    private DynamicTooltip() {
+        clearAnchorPos();
+    }
 
     /**
-     * The handler currently showing a tooltip (there can be only one).
+     * Get instance to access the shared handler.
+     *
+     * @return The singleton instance of this class.
      */
-    private static DynamicTooltip sActiveHandler;
+    private static synchronized @NonNull DynamicTooltip getInstance() {
+        if (sInstance == null) {
+            sInstance = new DynamicTooltip();
+        }
+
+        return sInstance;
+    }
 
     /**
      * Set the tooltip for the view.
@@ -140,24 +243,10 @@ public class DynamicTooltip implements View.OnLongClickListener, View.OnHoverLis
             return;
         }
 
-        // The code below is not attempting to update the tooltip text
-        // for a pending or currently active tooltip, because it may lead
-        // to updating the wrong tooltip in in some rare cases (e.g. when
-        // action menu item views are recycled). Instead, the tooltip is
-        // canceled/hidden. This might still be the wrong tooltip,
-        // but hiding a wrong tooltip is less disruptive UX.
-        if (sPendingHandler != null && sPendingHandler.mAnchor == view) {
-            setPendingHandler(null);
-        }
         if (TextUtils.isEmpty(text)) {
-            if (sActiveHandler != null && sActiveHandler.mAnchor == view) {
-                sActiveHandler.hide();
-            }
-            view.setOnLongClickListener(null);
-            view.setLongClickable(false);
-            view.setOnHoverListener(null);
+            getInstance().clear(view);
         } else {
-            new DynamicTooltip(view, backgroundColor, tintColor, icon, text);
+            getInstance().attach(view).set(backgroundColor, tintColor, icon, text);
         }
     }
 
@@ -174,50 +263,130 @@ public class DynamicTooltip implements View.OnLongClickListener, View.OnHoverLis
         set(view, backgroundColor, tintColor, null, text);
     }
 
-    private DynamicTooltip(@NonNull View anchor, @ColorInt int backgroundColor,
-            @ColorInt int tintColor, @Nullable Drawable icon, @Nullable CharSequence text) {
-        mAnchor = anchor;
-        mBackgroundColor = backgroundColor;
-        mTintColor = tintColor;
-        mTooltipIcon = icon;
-        mTooltipText = text;
-        mHoverSlop = ViewConfigurationCompat.getScaledHoverSlop(
-                ViewConfiguration.get(mAnchor.getContext()));
-        clearAnchorPos();
+    /**
+     * Set the tooltip for the view which will be prepared by the view itself only when it is
+     * about to be shown.
+     *
+     * @param view The view to set the tooltip on.
+     * @param <T> The type of the view.
+     *
+     * @see Provider#onPrepareTooltip(Tooltip)
+     */
+    public static <T extends View & Provider> void set(@Nullable T view) {
+        if (view != null) {
+            getInstance().attach(view);
+        }
+    }
+
+    /**
+     * Attach this handler to the supplied view.
+     *
+     * @param view The view to attach this handler.
+     *
+     * @return The tooltip stored in the view tag.
+     */
+    private @NonNull Tooltip attach(@NonNull View view) {
+        cancel(view);
+
+        Tooltip tooltip;
+        if (view.getTag(R.id.ads_tag_tooltip) instanceof Tooltip) {
+            tooltip = (Tooltip) view.getTag(R.id.ads_tag_tooltip);
+        } else {
+            tooltip = new Tooltip();
+            view.setTag(R.id.ads_tag_tooltip, tooltip);
+        }
+
+        view.setOnLongClickListener(this);
+        view.setOnHoverListener(this);
 
-        mAnchor.setOnLongClickListener(this);
-        mAnchor.setOnHoverListener(this);
+        return tooltip;
+    }
+
+    /**
+     * Clear the tooltip for the supplied view.
+     *
+     * @param view The view to clear the tooltip.
+     */
+    private void clear(@NonNull View view) {
+        cancel(view);
+
+        if (mActiveAnchor == view) {
+            hide(view);
+        }
+
+        view.setTag(R.id.ads_tag_tooltip, null);
+        view.setOnLongClickListener(null);
+        view.setLongClickable(false);
+        view.setOnHoverListener(null);
+    }
+
+    /**
+     * Cancel the pending tooltip for the supplied view.
+     *
+     * @param view The view to cancel the pending tooltip.
+     */
+    private void cancel(@NonNull View view) {
+        // The code below is not attempting to update the tooltip text
+        // for a pending or currently active tooltip, because it may lead
+        // to updating the wrong tooltip in in some rare cases (e.g. when
+        // action menu item views are recycled). Instead, the tooltip is
+        // canceled/hidden. This might still be the wrong tooltip,
+        // but hiding a wrong tooltip is less disruptive UX.
+        if (get(mPendingAnchor) == view) {
+            setPendingAnchor(null);
+        }
+    }
+
+    /**
+     * Returns the tooltip to be shown for the supplied view.
+     * <p>It will be prepared by the view if it is a tooltip provider.
+     *
+     * @param view The view to get the tooltip.
+     *
+     * @return The tooltip to be shown for the supplied view, otherwise {@code null}.
+     */
+    private @Nullable Tooltip prepare(@NonNull View view) {
+        if (!(view.getTag(R.id.ads_tag_tooltip) instanceof Tooltip)) {
+            return null;
+        }
+
+        Tooltip tooltip = (Tooltip) view.getTag(R.id.ads_tag_tooltip);
+        if (view instanceof Provider) {
+            ((Provider) view).onPrepareTooltip(tooltip);
+        }
+
+        return TextUtils.isEmpty(tooltip.getText()) ? null : tooltip;
     }
 
     @Override
     public boolean onLongClick(View v) {
         mAnchorX = v.getWidth() / 2;
         mAnchorY = v.getHeight() / 2;
-        show(true /* from touch */);
+        show(v, true /* from touch */);
         return true;
     }
 
     @Override
     public boolean onHover(View v, MotionEvent event) {
-        if (mPopup != null && mFromTouch) {
+        if (mActiveAnchor == v && mFromTouch) {
             return false;
         }
 
         AccessibilityManager manager = ContextCompat.getSystemService(
-                mAnchor.getContext(), AccessibilityManager.class);
+                v.getContext(), AccessibilityManager.class);
         if (manager != null && manager.isEnabled() && manager.isTouchExplorationEnabled()) {
             return false;
         }
 
         switch (event.getAction()) {
             case MotionEvent.ACTION_HOVER_MOVE:
-                if (mAnchor.isEnabled() && mPopup == null && updateAnchorPos(event)) {
-                    setPendingHandler(this);
+                if (v.isEnabled() && mActiveAnchor != v && updateAnchorPos(v, event)) {
+                    setPendingAnchor(v);
                 }
                 break;
             case MotionEvent.ACTION_HOVER_EXIT:
                 clearAnchorPos();
-                hide();
+                hide(v);
                 break;
         }
 
@@ -231,110 +400,123 @@ public class DynamicTooltip implements View.OnLongClickListener, View.OnHoverLis
 
     @Override
     public void onViewDetachedFromWindow(View v) {
-        hide();
+        hide(v);
     }
 
     /**
-     * Show the tooltip.
+     * Show the tooltip for the supplied view.
      *
+     * @param anchor The view to show the tooltip.
      * @param fromTouch {@code true} to show from the touch.
      */
     @SuppressWarnings("deprecation")
-    private void show(boolean fromTouch) {
-        if (!ViewCompat.isAttachedToWindow(mAnchor)) {
+    private void show(@NonNull View anchor, boolean fromTouch) {
+        if (!ViewCompat.isAttachedToWindow(anchor)) {
             return;
         }
 
-        setPendingHandler(null);
-        if (sActiveHandler != null) {
-            sActiveHandler.hide();
+        Tooltip tooltip = prepare(anchor);
+        if (tooltip == null) {
+            return;
+        }
+
+        // Hiding the previous tooltip clears the position, so capture it for this anchor.
+        final int anchorX = mAnchorX;
+        final int anchorY = mAnchorY;
+
+        setPendingAnchor(null);
+        if (mActiveAnchor != null) {
+            hide(mActiveAnchor);
         }
-        sActiveHandler = this;
+        mActiveAnchor = anchor;
+        mAnchorX = anchorX;
+        mAnchorY = anchorY;
 
         mFromTouch = fromTouch;
-        mPopup = new DynamicTooltipPopup(mAnchor.getContext(), mBackgroundColor, mTintColor);
-        mPopup.show(mAnchor, mAnchorX, mAnchorY, mFromTouch, mTooltipIcon, mTooltipText);
+        mPopup = new DynamicTooltipPopup(anchor.getContext(),
+                tooltip.getBackgroundColor(), tooltip.getTintColor());
+        mPopup.show(anchor, mAnchorX, mAnchorY, mFromTouch,
+                tooltip.getIcon(), tooltip.getText());
         // Only listen for attach state change while the popup is being shown.
-        mAnchor.addOnAttachStateChangeListener(this);
+        anchor.addOnAttachStateChangeListener(this);
 
         final long timeout;
         if (mFromTouch) {
             timeout = LONG_CLICK_HIDE_TIMEOUT_MS;
-        } else if ((ViewCompat.getWindowSystemUiVisibility(mAnchor)
+        } else if ((ViewCompat.getWindowSystemUiVisibility(anchor)
                 & SYSTEM_UI_FLAG_LOW_PROFILE) == SYSTEM_UI_FLAG_LOW_PROFILE) {
             timeout = HOVER_HIDE_TIMEOUT_SHORT_MS - ViewConfiguration.getLongPressTimeout();
         } else {
             timeout = HOVER_HIDE_TIMEOUT_MS - ViewConfiguration.getLongPressTimeout();
         }
 
-        mAnchor.removeCallbacks(mHideRunnable);
-        mAnchor.postDelayed(mHideRunnable, timeout);
+        anchor.removeCallbacks(mHideRunnable);
+        anchor.postDelayed(mHideRunnable, timeout);
     }
 
     /**
-     * Hide the tooltip.
+     * Hide the tooltip for the supplied view.
+     *
+     * @param anchor The view to hide the tooltip.
      */
-    private void hide() {
-        if (sActiveHandler == this) {
-            sActiveHandler = null;
+    private void hide(@NonNull View anchor) {
+        if (mActiveAnchor == anchor) {
+            mActiveAnchor = null;
             if (mPopup != null) {
                 mPopup.hide();
                 mPopup = null;
                 clearAnchorPos();
-                mAnchor.removeOnAttachStateChangeListener(this);
+                anchor.removeOnAttachStateChangeListener(this);
             } else {
-                Log.e(TAG, "sActiveHandler.mPopup == null");
+                Log.e(TAG, "mActiveAnchor.mPopup == null");
             }
         }
 
-        if (sPendingHandler == this) {
-            setPendingHandler(null);
+        if (get(mPendingAnchor) == anchor) {
+            setPendingAnchor(null);
         }
-        mAnchor.removeCallbacks(mHideRunnable);
+        anchor.removeCallbacks(mHideRunnable);
     }
 
     /**
-     * Set the tooltip pending handler.
+     * Set the view scheduled to show a tooltip.
      *
-     * @param handler The handler to be set.
+     * @param anchor The view to be set.
      */
-    private static void setPendingHandler(@Nullable DynamicTooltip handler) {
-        if (sPendingHandler != null) {
-            sPendingHandler.cancelPendingShow();
+    private void setPendingAnchor(@Nullable View anchor) {
+        View pending = get(mPendingAnchor);
+        if (pending != null) {
+            pending.removeCallbacks(mShowRunnable);
         }
 
-        sPendingHandler = handler;
-        if (sPendingHandler != null) {
-            sPendingHandler.scheduleShow();
+        mPendingAnchor = anchor != null ? new WeakReference<>(anchor) : null;
+        if (anchor != null) {
+            anchor.postDelayed(mShowRunnable, ViewConfiguration.getLongPressTimeout());
         }
     }
 
     /**
-     * Schedule the tooltip.
-     */
-    private void scheduleShow() {
-        mAnchor.postDelayed(mShowRunnable, ViewConfiguration.getLongPressTimeout());
-    }
-
-    /**
-     * Cancel the pending tooltip.
-     */
-    private void cancelPendingShow() {
-        mAnchor.removeCallbacks(mShowRunnable);
-    }
-
-    /**
-     * Update the anchor position if it significantly (that is by at least mHoverSlope)
+     * Update the anchor position if it significantly (that is by at least hover slop)
      * different from the previously stored position. Ignoring insignificant changes
      * filters out the jitter which is typical for such input sources as stylus.
      *
+     * @param anchor The view being hovered.
+     * @param event The hover event.
+     *
      * @return True if the position has been updated.
      */
-    private boolean updateAnchorPos(MotionEvent event) {
+    private boolean updateAnchorPos(@NonNull View anchor, @NonNull MotionEvent event) {
+        if (get(mHoverAnchor) != anchor) {
+            clearAnchorPos();
+            mHoverAnchor = new WeakReference<>(anchor);
+        }
+
+        final int hoverSlop = ViewConfigurationCompat.getScaledHoverSlop(
+                ViewConfiguration.get(anchor.getContext()));
         final int newAnchorX = (int) event.getX();
         final int newAnchorY = (int) event.getY();
-        if (Math.abs(newAnchorX - mAnchorX) <= mHoverSlop
-                && Math.abs(newAnchorY - mAnchorY) <= mHoverSlop) {
+        if (Math.abs(newAnchorX - mAnchorX) <= hoverSlop
+                && Math.abs(newAnchorY - mAnchorY) <= hoverSlop) {
             return false;
         }
 
@@ -349,6 +531,18 @@ public class DynamicTooltip implements View.OnLongClickListener, View.OnHoverLis
     private void clearAnchorPos() {
         mAnchorX = Integer.MAX_VALUE;
         mAnchorY = Integer.MAX_VALUE;
+        mHoverAnchor = null;
+    }
+
+    /**
+     * Returns the view from the supplied weak reference.
+     *
+     * @param reference The weak reference to get the view.
+     *
+     * @return The view from the supplied weak reference.
+     */
+    private static @Nullable View get(@Nullable WeakReference<View> reference) {
+        return reference != null ? reference.get() : null;
     }
 
     /**
@@ -357,7 +551,10 @@ public class DynamicTooltip implements View.OnLongClickListener, View.OnHoverLis
     private final Runnable mShowRunnable = new Runnable() {
         @Override
         public void run() {
-            show(false /* not from touch*/);
+            View anchor = get(mPendingAnchor);
+            if (anchor != null) {
+                show(anchor, false /* not from touch*/);
+            }
         }
     };
 
@@ -367,7 +564,9 @@ public class DynamicTooltip implements View.OnLongClickListener, View.OnHoverLis
     private final Runnable mHideRunnable = new Runnable() {
         @Override
         public void run() {
-            hide();
+            if (mActiveAnchor != null) {
+                hide(mActiveAnchor);
+            }
         }
     };
 }